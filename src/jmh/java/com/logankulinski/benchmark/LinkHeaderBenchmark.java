@@ -0,0 +1,119 @@
+package com.logankulinski.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Measurement;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import java.util.regex.Matcher;
+import com.logankulinski.util.LinkHeader;
+
+/**
+ * A benchmark of the parsing of the {@code Link} header of a paginated GitHub API response in the Spring Projects
+ * First-timer Bot. The single-pass {@link LinkHeader} parser is compared with the regular expression that it
+ * replaced, both as it was written, compiling its {@link Pattern} on every call, and precompiled. Run it with the GC
+ * profiler to compare the allocation rates.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LinkHeaderBenchmark {
+    /**
+     * The {@code Link} header of this {@link LinkHeaderBenchmark}.
+     */
+    private final String link;
+
+    /**
+     * The precompiled {@link Pattern} of this {@link LinkHeaderBenchmark}.
+     */
+    private final Pattern pattern;
+
+    /**
+     * The regular expression of the next page that was used before the {@link LinkHeader} parser.
+     */
+    private static final String NEXT_PAGE_REGEX;
+
+    static {
+        NEXT_PAGE_REGEX = "^.*page=(\\d+)>; rel=\"next\".*$";
+    }
+
+    /**
+     * Constructs an instance of the {@link LinkHeaderBenchmark} class.
+     */
+    public LinkHeaderBenchmark() {
+        this.link = """
+            <https://api.github.com/repositories/6296790/issues?labels=status%3A+first-timers-only&filter=all&per_page\
+            =100&page=1>; rel="prev", <https://api.github.com/repositories/6296790/issues?labels=status%3A+first-time\
+            rs-only&filter=all&per_page=100&page=3>; rel="next", <https://api.github.com/repositories/6296790/issues?l\
+            abels=status%3A+first-timers-only&filter=all&per_page=100&page=12>; rel="last", <https://api.github.com/r\
+            epositories/6296790/issues?labels=status%3A+first-timers-only&filter=all&per_page=100&page=1>; rel="first"\
+            """;
+
+        this.pattern = Pattern.compile(LinkHeaderBenchmark.NEXT_PAGE_REGEX);
+    }
+
+    /**
+     * Returns the next page of the {@code Link} header using the specified {@link Matcher}, or {@code null}.
+     *
+     * @param matcher the {@link Matcher} to be used in the operation
+     * @return the next page of the {@code Link} header, or {@code null}
+     */
+    private Integer getNextPage(Matcher matcher) {
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String nextPageString = matcher.group(1);
+
+        return Integer.parseInt(nextPageString);
+    }
+
+    /**
+     * Returns the next page of the {@code Link} header using a {@link Pattern} that is compiled on every call.
+     *
+     * @return the next page of the {@code Link} header
+     */
+    @Benchmark
+    public Integer compiledRegex() {
+        Pattern newPattern = Pattern.compile(LinkHeaderBenchmark.NEXT_PAGE_REGEX);
+
+        Matcher matcher = newPattern.matcher(this.link);
+
+        return this.getNextPage(matcher);
+    }
+
+    /**
+     * Returns the next page of the {@code Link} header using a precompiled {@link Pattern}.
+     *
+     * @return the next page of the {@code Link} header
+     */
+    @Benchmark
+    public Integer precompiledRegex() {
+        Matcher matcher = this.pattern.matcher(this.link);
+
+        return this.getNextPage(matcher);
+    }
+
+    /**
+     * Returns the next page of the {@code Link} header using the {@link LinkHeader} parser.
+     *
+     * @return the next page of the {@code Link} header
+     */
+    @Benchmark
+    public int linkHeader() {
+        return LinkHeader.parse(this.link)
+                         .next()
+                         .page();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,381 @@
+package com.logankulinski.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Measurement;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logankulinski.client.GitHubPageDecoder;
+import java.util.Set;
+import com.logankulinski.model.Issue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.logankulinski.model.Repository;
+import org.springframework.core.ResolvableType;
+import java.util.List;
+import java.util.Map;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import org.springframework.core.io.buffer.DataBuffer;
+import java.nio.ByteBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import org.springframework.http.MediaType;
+import org.openjdk.jmh.annotations.Benchmark;
+import java.io.IOException;
+
+/**
+ * A benchmark of the decoding of a page of the GitHub API in the Spring Projects First-timer Bot. A full page of 100
+ * {@link Issue}s or {@link Repository}s, with the fields GitHub returns that the bot ignores, is decoded by binding
+ * the whole body with an {@link ObjectMapper} and by streaming it through the {@link GitHubPageDecoder} in the chunks
+ * in which it arrives from the network.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PageDecodingBenchmark {
+    /**
+     * The {@link ObjectMapper} of this {@link PageDecodingBenchmark}.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The {@link GitHubPageDecoder} of this {@link PageDecodingBenchmark}.
+     */
+    private final GitHubPageDecoder decoder;
+
+    /**
+     * The body of a page of {@link Issue}s.
+     */
+    private final byte[] issuePage;
+
+    /**
+     * The body of a page of {@link Repository}s.
+     */
+    private final byte[] repositoryPage;
+
+    /**
+     * The number of items in a page.
+     */
+    private static final int PAGE_SIZE;
+
+    /**
+     * The size in bytes of a chunk of a body as it arrives from the network.
+     */
+    private static final int CHUNK_SIZE;
+
+    /**
+     * The {@link TypeReference} of a page of {@link Issue}s.
+     */
+    private static final TypeReference<Set<Issue>> ISSUE_PAGE_TYPE;
+
+    /**
+     * The {@link TypeReference} of a page of {@link Repository}s.
+     */
+    private static final TypeReference<Set<Repository>> REPOSITORY_PAGE_TYPE;
+
+    /**
+     * The {@link ResolvableType} of a page of {@link Issue}s.
+     */
+    private static final ResolvableType ISSUE_PAGE_RESOLVABLE_TYPE;
+
+    /**
+     * The {@link ResolvableType} of a page of {@link Repository}s.
+     */
+    private static final ResolvableType REPOSITORY_PAGE_RESOLVABLE_TYPE;
+
+    static {
+        PAGE_SIZE = 100;
+
+        CHUNK_SIZE = 8_192;
+
+        ISSUE_PAGE_TYPE = new TypeReference<>() {
+        };
+
+        REPOSITORY_PAGE_TYPE = new TypeReference<>() {
+        };
+
+        ISSUE_PAGE_RESOLVABLE_TYPE = ResolvableType.forClassWithGenerics(Set.class, Issue.class);
+
+        REPOSITORY_PAGE_RESOLVABLE_TYPE = ResolvableType.forClassWithGenerics(Set.class, Repository.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link PageDecodingBenchmark} class.
+     */
+    public PageDecodingBenchmark() {
+        this.mapper = new ObjectMapper();
+
+        this.decoder = new GitHubPageDecoder(this.mapper);
+
+        this.issuePage = this.getIssuePage();
+
+        this.repositoryPage = this.getRepositoryPage();
+    }
+
+    /**
+     * Returns the GitHub user that is embedded in each item of a page.
+     *
+     * @return the GitHub user that is embedded in each item of a page
+     */
+    private Map<String, Object> getUser() {
+        Map<String, Object> user = new LinkedHashMap<>();
+
+        user.put("login", "spring-projects");
+
+        user.put("id", 317776);
+
+        user.put("node_id", "MDEyOk9yZ2FuaXphdGlvbjMxNzc3Ng==");
+
+        user.put("avatar_url", "https://avatars.githubusercontent.com/u/317776?v=4");
+
+        user.put("url", "https://api.github.com/users/spring-projects");
+
+        user.put("html_url", "https://github.com/spring-projects");
+
+        user.put("type", "Organization");
+
+        user.put("site_admin", false);
+
+        return user;
+    }
+
+    /**
+     * Returns the body of the specified items.
+     *
+     * @param items the items to be used in the operation
+     * @return the body of the specified items
+     * @throws NullPointerException if the specified items is {@code null}
+     * @throws UncheckedIOException if the specified items could not be written
+     */
+    private byte[] getPage(List<Map<String, Object>> items) {
+        Objects.requireNonNull(items);
+
+        try {
+            return this.mapper.writeValueAsBytes(items);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the body of a page of {@link Issue}s.
+     *
+     * @return the body of a page of {@link Issue}s
+     */
+    private byte[] getIssuePage() {
+        List<Map<String, Object>> items = new ArrayList<>();
+
+        for (int i = 0; i < PageDecodingBenchmark.PAGE_SIZE; i++) {
+            int number = 30_000 + i;
+
+            Map<String, Object> item = new LinkedHashMap<>();
+
+            item.put("url", "https://api.github.com/repos/spring-projects/spring-boot/issues/" + number);
+
+            item.put("repository_url", "https://api.github.com/repos/spring-projects/spring-boot");
+
+            item.put("labels_url", "https://api.github.com/repos/spring-projects/spring-boot/issues/" + number
+                + "/labels{/name}");
+
+            item.put("html_url", "https://github.com/spring-projects/spring-boot/issues/" + number);
+
+            item.put("id", 1_500_000_000 + i);
+
+            item.put("node_id", "I_kwDOAPLgjM5" + number);
+
+            item.put("number", number);
+
+            item.put("title", "Document the behavior of the first-timer issue number " + number);
+
+            item.put("user", this.getUser());
+
+            Map<String, Object> label = new LinkedHashMap<>();
+
+            label.put("id", 1_200_000 + i);
+
+            label.put("name", "status: first-timers-only");
+
+            label.put("color", "c2e0c6");
+
+            label.put("default", false);
+
+            label.put("description", "An issue that can only be worked on by brand new contributors");
+
+            item.put("labels", List.of(label));
+
+            item.put("state", "open");
+
+            item.put("locked", false);
+
+            item.put("comments", i % 7);
+
+            item.put("created_at", "2024-01-15T10:00:00Z");
+
+            item.put("updated_at", "2024-02-01T12:30:00Z");
+
+            item.put("author_association", "MEMBER");
+
+            item.put("body", "This issue is reserved for people who have never contributed to the project. ".repeat(8));
+
+            item.put("reactions", Map.of("total_count", 0, "+1", 0, "-1", 0, "heart", 0));
+
+            items.add(item);
+        }
+
+        return this.getPage(items);
+    }
+
+    /**
+     * Returns the body of a page of {@link Repository}s.
+     *
+     * @return the body of a page of {@link Repository}s
+     */
+    private byte[] getRepositoryPage() {
+        List<Map<String, Object>> items = new ArrayList<>();
+
+        for (int i = 0; i < PageDecodingBenchmark.PAGE_SIZE; i++) {
+            String name = "spring-project-" + i;
+
+            Map<String, Object> item = new LinkedHashMap<>();
+
+            item.put("id", 6_000_000 + i);
+
+            item.put("node_id", "MDEwOlJlcG9zaXRvcnk2MDAw" + i);
+
+            item.put("name", name);
+
+            item.put("full_name", "spring-projects/" + name);
+
+            item.put("private", false);
+
+            item.put("owner", this.getUser());
+
+            item.put("html_url", "https://github.com/spring-projects/" + name);
+
+            item.put("description", "A project of the Spring portfolio that is used by the benchmark.");
+
+            item.put("fork", false);
+
+            item.put("url", "https://api.github.com/repos/spring-projects/" + name);
+
+            item.put("created_at", "2012-10-19T15:02:57Z");
+
+            item.put("updated_at", "2024-02-01T12:30:00Z");
+
+            item.put("stargazers_count", 70_000 + i);
+
+            item.put("language", "Java");
+
+            item.put("topics", List.of("java", "spring", "framework"));
+
+            item.put("default_branch", "main");
+
+            item.put("permissions", Map.of("admin", false, "push", false, "pull", true));
+
+            items.add(item);
+        }
+
+        return this.getPage(items);
+    }
+
+    /**
+     * Returns the specified body split into {@link DataBuffer}s of the chunk size.
+     *
+     * @param body the body to be used in the operation
+     * @return the specified body split into {@link DataBuffer}s of the chunk size
+     * @throws NullPointerException if the specified body is {@code null}
+     */
+    private List<DataBuffer> getChunks(byte[] body) {
+        Objects.requireNonNull(body);
+
+        List<DataBuffer> chunks = new ArrayList<>();
+
+        for (int offset = 0; offset < body.length; offset += PageDecodingBenchmark.CHUNK_SIZE) {
+            int length = Math.min(PageDecodingBenchmark.CHUNK_SIZE, body.length - offset);
+
+            ByteBuffer byteBuffer = ByteBuffer.wrap(body, offset, length)
+                                              .slice();
+
+            DataBuffer chunk = DefaultDataBufferFactory.sharedInstance.wrap(byteBuffer);
+
+            chunks.add(chunk);
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Returns the items of the specified body decoded by the {@link GitHubPageDecoder} using the specified
+     * {@link ResolvableType}.
+     *
+     * @param body the body to be used in the operation
+     * @param elementType the {@link ResolvableType} to be used in the operation
+     * @return the items of the specified body decoded by the {@link GitHubPageDecoder}
+     * @throws NullPointerException if the specified body or {@link ResolvableType} is {@code null}
+     */
+    private Set<?> decode(byte[] body, ResolvableType elementType) {
+        Objects.requireNonNull(body);
+
+        Objects.requireNonNull(elementType);
+
+        List<DataBuffer> chunks = this.getChunks(body);
+
+        return this.decoder.decodeToMono(Flux.fromIterable(chunks), elementType, MediaType.APPLICATION_JSON, Map.of())
+                           .block();
+    }
+
+    /**
+     * Returns the {@link Issue}s of a page bound by the {@link ObjectMapper}.
+     *
+     * @return the {@link Issue}s of a page bound by the {@link ObjectMapper}
+     * @throws IOException if the page could not be read
+     */
+    @Benchmark
+    public Set<Issue> objectMapperIssues() throws IOException {
+        return this.mapper.readValue(this.issuePage, PageDecodingBenchmark.ISSUE_PAGE_TYPE);
+    }
+
+    /**
+     * Returns the {@link Issue}s of a page decoded by the {@link GitHubPageDecoder}.
+     *
+     * @return the {@link Issue}s of a page decoded by the {@link GitHubPageDecoder}
+     */
+    @Benchmark
+    public Set<?> decoderIssues() {
+        return this.decode(this.issuePage, PageDecodingBenchmark.ISSUE_PAGE_RESOLVABLE_TYPE);
+    }
+
+    /**
+     * Returns the {@link Repository}s of a page bound by the {@link ObjectMapper}.
+     *
+     * @return the {@link Repository}s of a page bound by the {@link ObjectMapper}
+     * @throws IOException if the page could not be read
+     */
+    @Benchmark
+    public Set<Repository> objectMapperRepositories() throws IOException {
+        return this.mapper.readValue(this.repositoryPage, PageDecodingBenchmark.REPOSITORY_PAGE_TYPE);
+    }
+
+    /**
+     * Returns the {@link Repository}s of a page decoded by the {@link GitHubPageDecoder}.
+     *
+     * @return the {@link Repository}s of a page decoded by the {@link GitHubPageDecoder}
+     */
+    @Benchmark
+    public Set<?> decoderRepositories() {
+        return this.decode(this.repositoryPage, PageDecodingBenchmark.REPOSITORY_PAGE_RESOLVABLE_TYPE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.logankulinski.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Measurement;
+import com.logankulinski.util.Utilities;
+import org.springframework.http.HttpHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * A benchmark of the page methods of the {@link Utilities} class in the Spring Projects First-timer Bot. Unlike
+ * {@link LinkHeaderBenchmark}, the {@code Link} header is read from {@link HttpHeaders}, as it is for every page of a
+ * sync.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UtilitiesBenchmark {
+    /**
+     * The {@link Utilities} of this {@link UtilitiesBenchmark}.
+     */
+    private final Utilities utilities;
+
+    /**
+     * The {@link HttpHeaders} of a page that is not the last page.
+     */
+    private final HttpHeaders middleHeaders;
+
+    /**
+     * The {@link HttpHeaders} of the last page.
+     */
+    private final HttpHeaders lastHeaders;
+
+    /**
+     * Constructs an instance of the {@link UtilitiesBenchmark} class.
+     */
+    public UtilitiesBenchmark() {
+        this.utilities = new Utilities();
+
+        this.middleHeaders = new HttpHeaders();
+
+        this.middleHeaders.set(HttpHeaders.LINK, """
+            <https://api.github.com/repositories/6296790/issues?labels=status%3A+first-timers-only&filter=all&per_page\
+            =100&page=1>; rel="prev", <https://api.github.com/repositories/6296790/issues?labels=status%3A+first-time\
+            rs-only&filter=all&per_page=100&page=3>; rel="next", <https://api.github.com/repositories/6296790/issues?l\
+            abels=status%3A+first-timers-only&filter=all&per_page=100&page=12>; rel="last", <https://api.github.com/r\
+            epositories/6296790/issues?labels=status%3A+first-timers-only&filter=all&per_page=100&page=1>; rel="first"\
+            """);
+
+        this.lastHeaders = new HttpHeaders();
+
+        this.lastHeaders.set(HttpHeaders.LINK, """
+            <https://api.github.com/repositories/6296790/issues?labels=status%3A+first-timers-only&filter=all&per_page\
+            =100&page=11>; rel="prev", <https://api.github.com/repositories/6296790/issues?labels=status%3A+first-tim\
+            ers-only&filter=all&per_page=100&page=1>; rel="first"\
+            """);
+    }
+
+    /**
+     * Returns the next page of a page that is not the last page.
+     *
+     * @return the next page of a page that is not the last page
+     */
+    @Benchmark
+    public Integer getNextPage() {
+        return this.utilities.getNextPage(this.middleHeaders);
+    }
+
+    /**
+     * Returns the next page of the last page, which is {@code null}.
+     *
+     * @return the next page of the last page
+     */
+    @Benchmark
+    public Integer getNextPageOfLastPage() {
+        return this.utilities.getNextPage(this.lastHeaders);
+    }
+
+    /**
+     * Returns the last page of a page that is not the last page.
+     *
+     * @return the last page of a page that is not the last page
+     */
+    @Benchmark
+    public Integer getLastPage() {
+        return this.utilities.getLastPage(this.middleHeaders);
+    }
+}
\ No newline at end of file
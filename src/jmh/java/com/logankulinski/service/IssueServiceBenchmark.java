@@ -0,0 +1,121 @@
+package com.logankulinski.service;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.jooq.DSLContext;
+import java.time.OffsetDateTime;
+import java.util.List;
+import com.logankulinski.model.Issue;
+import org.jooq.impl.DSL;
+import org.jooq.SQLDialect;
+import java.time.ZoneOffset;
+import org.openjdk.jmh.annotations.Setup;
+import java.util.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.jooq.Query;
+import java.util.Collection;
+
+/**
+ * A benchmark of the save path of the {@link IssueService} in the Spring Projects First-timer Bot. It measures the
+ * rendering of the multi-row upsert of a chunk of {@link Issue}s to PostgreSQL SQL and the merging of the fetched
+ * pages of {@link Issue}s, a quarter of which appear under more than one label, into {@link Issue}s with distinct
+ * IDs. No database is needed.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IssueServiceBenchmark {
+    /**
+     * The number of {@link Issue}s of this {@link IssueServiceBenchmark}.
+     */
+    @Param({"1", "100", "500"})
+    private int size;
+
+    /**
+     * The {@link DSLContext} of this {@link IssueServiceBenchmark}.
+     */
+    private DSLContext context;
+
+    /**
+     * The seen date of this {@link IssueServiceBenchmark}.
+     */
+    private OffsetDateTime seenDate;
+
+    /**
+     * The {@link Issue}s with distinct IDs of this {@link IssueServiceBenchmark}.
+     */
+    private List<Issue> issues;
+
+    /**
+     * The fetched {@link Issue}s of this {@link IssueServiceBenchmark}, including the duplicates.
+     */
+    private List<Issue> fetchedIssues;
+
+    /**
+     * Sets up this {@link IssueServiceBenchmark} for its size.
+     */
+    @Setup
+    public void setUp() {
+        this.context = DSL.using(SQLDialect.POSTGRES);
+
+        this.seenDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+        this.issues = new ArrayList<>();
+
+        for (int i = 0; i < this.size; i++) {
+            int number = 30_000 + i;
+
+            String url = "https://github.com/spring-projects/spring-boot/issues/" + number;
+
+            String repositoryUrl = "https://api.github.com/repos/spring-projects/spring-boot";
+
+            Issue issue = new Issue(1_500_000_000 + i, "First-timer issue number " + number, url, repositoryUrl,
+                "open");
+
+            this.issues.add(issue);
+        }
+
+        this.fetchedIssues = new ArrayList<>(this.issues);
+
+        for (int i = 0; i < this.size; i += 4) {
+            Issue issue = this.issues.get(i);
+
+            this.fetchedIssues.add(issue);
+        }
+    }
+
+    /**
+     * Returns the SQL of the upsert of the {@link Issue}s.
+     *
+     * @return the SQL of the upsert of the {@link Issue}s
+     */
+    @Benchmark
+    public String renderUpsert() {
+        Query query = IssueService.getUpsertQuery(this.context, this.issues, this.seenDate);
+
+        return query.getSQL();
+    }
+
+    /**
+     * Returns the fetched {@link Issue}s merged into {@link Issue}s with distinct IDs.
+     *
+     * @return the fetched {@link Issue}s merged into {@link Issue}s with distinct IDs
+     */
+    @Benchmark
+    public Collection<Issue> mergeIssues() {
+        return IssueService.getDistinctIssues(this.fetchedIssues);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,784 @@
+package com.logankulinski.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.regex.Pattern;
+import java.util.Objects;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.InetAddress;
+import java.util.concurrent.Executors;
+import java.time.Duration;
+import java.util.Map;
+import java.util.HashMap;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.net.URLEncoder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.Headers;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.time.format.DateTimeParseException;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.Arrays;
+import java.io.OutputStream;
+
+/**
+ * A stand-in for the GitHub API used by the load test of the Spring Projects First-timer Bot. It serves synthetic
+ * pages of the repositories of an organization and of the issues of a repository label with {@code Link}, ETag, and
+ * rate limit headers, waits the configured latency before each response, answers a matching If-None-Match with a 304,
+ * and answers the configured fraction of requests with a 502. Each issue carries two adjacent labels, so the pages of
+ * a repository's labels overlap as they do on GitHub.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+final class FakeGitHubServer implements AutoCloseable {
+    /**
+     * The {@link LoadTestSettings} of this {@link FakeGitHubServer}.
+     */
+    private final LoadTestSettings settings;
+
+    /**
+     * The {@link HttpServer} of this {@link FakeGitHubServer}.
+     */
+    private final HttpServer server;
+
+    /**
+     * The {@link ExecutorService} of this {@link FakeGitHubServer}.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The update date of the issues of this {@link FakeGitHubServer}.
+     */
+    private final Instant updateDate;
+
+    /**
+     * The reset date of the rate limit of this {@link FakeGitHubServer}.
+     */
+    private final Instant resetDate;
+
+    /**
+     * The number of requests counted against the rate limit of this {@link FakeGitHubServer}.
+     */
+    private final AtomicInteger used;
+
+    /**
+     * The number of requests of this {@link FakeGitHubServer}.
+     */
+    private final AtomicLong requests;
+
+    /**
+     * The number of 304 responses of this {@link FakeGitHubServer}.
+     */
+    private final AtomicLong notModifiedResponses;
+
+    /**
+     * The number of injected faults of this {@link FakeGitHubServer}.
+     */
+    private final AtomicLong faults;
+
+    /**
+     * The number of body bytes sent by this {@link FakeGitHubServer}.
+     */
+    private final AtomicLong bytes;
+
+    /**
+     * The {@link ObjectMapper} of this {@link FakeGitHubServer}.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The name of the organization that is served.
+     */
+    private static final String ORGANIZATION_NAME;
+
+    /**
+     * The {@link Pattern} of the path of the repositories of the organization.
+     */
+    private static final Pattern REPOSITORIES_PATTERN;
+
+    /**
+     * The {@link Pattern} of the path of the issues of a repository.
+     */
+    private static final Pattern ISSUES_PATTERN;
+
+    /**
+     * The maximum number of items in a page.
+     */
+    private static final int MAX_PAGE_SIZE;
+
+    static {
+        ORGANIZATION_NAME = "spring-projects";
+
+        REPOSITORIES_PATTERN = Pattern.compile("^/orgs/([^/]+)/repos$");
+
+        ISSUES_PATTERN = Pattern.compile("^/repos/([^/]+)/repository-(\\d+)/issues$");
+
+        MAX_PAGE_SIZE = 100;
+    }
+
+    /**
+     * A snapshot of the counters of a {@link FakeGitHubServer}.
+     *
+     * @param requests the number of requests of this {@link Statistics}
+     * @param notModifiedResponses the number of 304 responses of this {@link Statistics}
+     * @param faults the number of injected faults of this {@link Statistics}
+     * @param bytes the number of body bytes of this {@link Statistics}
+     */
+    record Statistics(long requests, long notModifiedResponses, long faults, long bytes) {
+        /**
+         * Returns the difference of this {@link Statistics} and the specified {@link Statistics}.
+         *
+         * @param statistics the {@link Statistics} to be used in the operation
+         * @return the difference of this {@link Statistics} and the specified {@link Statistics}
+         * @throws NullPointerException if the specified {@link Statistics} is {@code null}
+         */
+        Statistics minus(Statistics statistics) {
+            Objects.requireNonNull(statistics);
+
+            return new Statistics(this.requests - statistics.requests,
+                this.notModifiedResponses - statistics.notModifiedResponses, this.faults - statistics.faults,
+                this.bytes - statistics.bytes);
+        }
+    }
+
+    /**
+     * A response of a {@link FakeGitHubServer}.
+     *
+     * @param status the status of this {@link Response}
+     * @param link the {@code Link} header of this {@link Response}, or {@code null}
+     * @param body the body of this {@link Response}
+     */
+    private record Response(int status, String link, byte[] body) {
+    }
+
+    /**
+     * Constructs an instance of the {@link FakeGitHubServer} class.
+     *
+     * @param settings the {@link LoadTestSettings} to be used in the operation
+     * @throws NullPointerException if the specified {@link LoadTestSettings} is {@code null}
+     * @throws IOException if the server could not be bound
+     */
+    private FakeGitHubServer(LoadTestSettings settings) throws IOException {
+        Objects.requireNonNull(settings);
+
+        this.settings = settings;
+
+        InetAddress address = InetAddress.getLoopbackAddress();
+
+        InetSocketAddress socketAddress = new InetSocketAddress(address, 0);
+
+        this.server = HttpServer.create(socketAddress, 0);
+
+        this.executor = Executors.newCachedThreadPool();
+
+        Instant now = Instant.now();
+
+        this.updateDate = now.minus(Duration.ofDays(1L));
+
+        this.resetDate = now.plus(Duration.ofHours(1L));
+
+        this.used = new AtomicInteger();
+
+        this.requests = new AtomicLong();
+
+        this.notModifiedResponses = new AtomicLong();
+
+        this.faults = new AtomicLong();
+
+        this.bytes = new AtomicLong();
+
+        this.mapper = new ObjectMapper();
+
+        this.server.createContext("/", this::handle);
+
+        this.server.setExecutor(this.executor);
+    }
+
+    /**
+     * Returns a started {@link FakeGitHubServer} using the specified {@link LoadTestSettings}.
+     *
+     * @param settings the {@link LoadTestSettings} to be used in the operation
+     * @return a started {@link FakeGitHubServer} using the specified {@link LoadTestSettings}
+     * @throws NullPointerException if the specified {@link LoadTestSettings} is {@code null}
+     * @throws IOException if the server could not be bound
+     */
+    static FakeGitHubServer start(LoadTestSettings settings) throws IOException {
+        FakeGitHubServer fakeServer = new FakeGitHubServer(settings);
+
+        fakeServer.server.start();
+
+        return fakeServer;
+    }
+
+    /**
+     * Returns the base URL of this {@link FakeGitHubServer}.
+     *
+     * @return the base URL of this {@link FakeGitHubServer}
+     */
+    String getBaseUrl() {
+        InetSocketAddress address = this.server.getAddress();
+
+        return "http://%s:%d".formatted(address.getHostString(), address.getPort());
+    }
+
+    /**
+     * Returns the {@link Statistics} of this {@link FakeGitHubServer}.
+     *
+     * @return the {@link Statistics} of this {@link FakeGitHubServer}
+     */
+    Statistics getStatistics() {
+        return new Statistics(this.requests.get(), this.notModifiedResponses.get(), this.faults.get(),
+            this.bytes.get());
+    }
+
+    /**
+     * Returns the query parameters of the specified raw query.
+     *
+     * @param rawQuery the raw query to be used in the operation, or {@code null}
+     * @return the query parameters of the specified raw query
+     */
+    private Map<String, String> getParameters(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+
+        if (rawQuery == null) {
+            return parameters;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int index = pair.indexOf('=');
+
+            String name = (index == -1) ? pair : pair.substring(0, index);
+
+            String value = (index == -1) ? "" : pair.substring(index + 1);
+
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Returns the integer value of the specified query parameter, or the specified default value if it is absent.
+     *
+     * @param parameters the query parameters to be used in the operation
+     * @param name the name to be used in the operation
+     * @param defaultValue the default value to be used in the operation
+     * @return the integer value of the specified query parameter, or the specified default value
+     * @throws NullPointerException if the specified query parameters or name is {@code null}
+     * @throws NumberFormatException if the value of the query parameter is not an integer
+     */
+    private int getIntParameter(Map<String, String> parameters, String name, int defaultValue) {
+        Objects.requireNonNull(parameters);
+
+        Objects.requireNonNull(name);
+
+        String value = parameters.get(name);
+
+        return (value == null) ? defaultValue : Integer.parseInt(value);
+    }
+
+    /**
+     * Returns the GitHub user that owns the served items.
+     *
+     * @return the GitHub user that owns the served items
+     */
+    private Map<String, Object> getOwner() {
+        Map<String, Object> owner = new LinkedHashMap<>();
+
+        owner.put("login", FakeGitHubServer.ORGANIZATION_NAME);
+
+        owner.put("id", 317776);
+
+        owner.put("url", "https://api.github.com/users/" + FakeGitHubServer.ORGANIZATION_NAME);
+
+        owner.put("html_url", "https://github.com/" + FakeGitHubServer.ORGANIZATION_NAME);
+
+        owner.put("type", "Organization");
+
+        owner.put("site_admin", false);
+
+        return owner;
+    }
+
+    /**
+     * Returns the repository with the specified index.
+     *
+     * @param index the index to be used in the operation
+     * @return the repository with the specified index
+     */
+    private Map<String, Object> getRepository(int index) {
+        String name = "repository-" + index;
+
+        String fullName = FakeGitHubServer.ORGANIZATION_NAME + "/" + name;
+
+        Map<String, Object> repository = new LinkedHashMap<>();
+
+        repository.put("id", 1_000_000 + index);
+
+        repository.put("name", name);
+
+        repository.put("full_name", fullName);
+
+        repository.put("private", false);
+
+        repository.put("owner", this.getOwner());
+
+        repository.put("html_url", "https://github.com/" + fullName);
+
+        repository.put("description", "A synthetic repository of the load test");
+
+        repository.put("fork", false);
+
+        repository.put("url", "https://api.github.com/repos/" + fullName);
+
+        repository.put("updated_at", this.updateDate.toString());
+
+        repository.put("language", "Java");
+
+        repository.put("default_branch", "main");
+
+        return repository;
+    }
+
+    /**
+     * Returns the issue with the specified number of the labels of the specified pair of the repository with the
+     * specified index. An issue carries the two labels of its pair, and its ID is unique as long as there are fewer
+     * than 2,000 repositories, 200 labels, and 10,000 issues of each repository label.
+     *
+     * @param repositoryIndex the index of the repository to be used in the operation
+     * @param pair the pair of labels to be used in the operation
+     * @param number the number of the issue to be used in the operation
+     * @return the issue with the specified number of the labels of the specified pair
+     */
+    private Map<String, Object> getIssue(int repositoryIndex, int pair, int number) {
+        String fullName = FakeGitHubServer.ORGANIZATION_NAME + "/repository-" + repositoryIndex;
+
+        int issueNumber = (pair * 10_000) + number + 1;
+
+        List<Map<String, Object>> labels = new ArrayList<>();
+
+        for (int labelIndex = pair * 2; labelIndex < Math.min((pair * 2) + 2, this.settings.labels()); labelIndex++) {
+            Map<String, Object> label = new LinkedHashMap<>();
+
+            label.put("id", 2_000_000 + labelIndex);
+
+            label.put("name", "label-" + labelIndex);
+
+            label.put("color", "c2e0c6");
+
+            label.put("default", false);
+
+            labels.add(label);
+        }
+
+        Map<String, Object> issue = new LinkedHashMap<>();
+
+        issue.put("url", "https://api.github.com/repos/%s/issues/%d".formatted(fullName, issueNumber));
+
+        issue.put("repository_url", "https://api.github.com/repos/" + fullName);
+
+        issue.put("html_url", "https://github.com/%s/issues/%d".formatted(fullName, issueNumber));
+
+        issue.put("id", (repositoryIndex * 1_000_000) + issueNumber);
+
+        issue.put("number", issueNumber);
+
+        issue.put("title", "Synthetic issue %d of %s".formatted(issueNumber, fullName));
+
+        issue.put("user", this.getOwner());
+
+        issue.put("labels", labels);
+
+        issue.put("state", "open");
+
+        issue.put("locked", false);
+
+        issue.put("comments", number % 5);
+
+        issue.put("created_at", this.updateDate.toString());
+
+        issue.put("updated_at", this.updateDate.toString());
+
+        issue.put("author_association", "MEMBER");
+
+        issue.put("body", "A synthetic issue that is reserved for first-time contributors. ".repeat(4));
+
+        return issue;
+    }
+
+    /**
+     * Returns the {@code Link} header of the specified page of the specified number of pages of the specified path
+     * and query parameters, or {@code null} if there is only one page.
+     *
+     * @param path the path to be used in the operation
+     * @param parameters the query parameters to be used in the operation
+     * @param page the page to be used in the operation
+     * @param lastPage the last page to be used in the operation
+     * @return the {@code Link} header of the specified page, or {@code null} if there is only one page
+     * @throws NullPointerException if the specified path or query parameters is {@code null}
+     */
+    private String getLink(String path, Map<String, String> parameters, int page, int lastPage) {
+        Objects.requireNonNull(path);
+
+        Objects.requireNonNull(parameters);
+
+        if (lastPage <= 1) {
+            return null;
+        }
+
+        StringJoiner query = new StringJoiner("&");
+
+        parameters.forEach((name, value) -> {
+            if (!name.equals("page")) {
+                query.add(name + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        });
+
+        String prefix = "<%s%s?%s&page=".formatted(this.getBaseUrl(), path, query);
+
+        StringJoiner link = new StringJoiner(", ");
+
+        if (page > 1) {
+            link.add(prefix + (page - 1) + ">; rel=\"prev\"");
+        }
+
+        if (page < lastPage) {
+            link.add(prefix + (page + 1) + ">; rel=\"next\"");
+
+            link.add(prefix + lastPage + ">; rel=\"last\"");
+        }
+
+        if (page > 1) {
+            link.add(prefix + "1>; rel=\"first\"");
+        }
+
+        return link.toString();
+    }
+
+    /**
+     * Returns the {@link Response} of the specified page of the specified items.
+     *
+     * @param path the path to be used in the operation
+     * @param parameters the query parameters to be used in the operation
+     * @param items the items to be used in the operation
+     * @return the {@link Response} of the specified page of the specified items
+     * @throws NullPointerException if the specified path, query parameters, or items is {@code null}
+     * @throws IOException if the items could not be written
+     */
+    private Response getPage(String path, Map<String, String> parameters, List<Map<String, Object>> items)
+        throws IOException {
+        Objects.requireNonNull(path);
+
+        Objects.requireNonNull(parameters);
+
+        Objects.requireNonNull(items);
+
+        int pageSize = Math.min(this.getIntParameter(parameters, "per_page", 30), FakeGitHubServer.MAX_PAGE_SIZE);
+
+        int page = Math.max(this.getIntParameter(parameters, "page", 1), 1);
+
+        int lastPage = Math.max((items.size() + pageSize - 1) / pageSize, 1);
+
+        int fromIndex = Math.min((page - 1) * pageSize, items.size());
+
+        int toIndex = Math.min(fromIndex + pageSize, items.size());
+
+        List<Map<String, Object>> pageItems = items.subList(fromIndex, toIndex);
+
+        byte[] body = this.mapper.writeValueAsBytes(pageItems);
+
+        String link = this.getLink(path, parameters, page, lastPage);
+
+        return new Response(200, link, body);
+    }
+
+    /**
+     * Returns the {@link Response} of the repositories of the organization using the specified path and query
+     * parameters.
+     *
+     * @param path the path to be used in the operation
+     * @param parameters the query parameters to be used in the operation
+     * @return the {@link Response} of the repositories of the organization
+     * @throws NullPointerException if the specified path or query parameters is {@code null}
+     * @throws IOException if the repositories could not be written
+     */
+    private Response getRepositories(String path, Map<String, String> parameters) throws IOException {
+        Objects.requireNonNull(path);
+
+        Objects.requireNonNull(parameters);
+
+        List<Map<String, Object>> repositories = new ArrayList<>();
+
+        for (int index = 0; index < this.settings.repositories(); index++) {
+            Map<String, Object> repository = this.getRepository(index);
+
+            repositories.add(repository);
+        }
+
+        return this.getPage(path, parameters, repositories);
+    }
+
+    /**
+     * Returns the {@link Response} of the issues of the repository with the specified index using the specified path
+     * and query parameters. Only the issues that have the requested label and were updated since the requested
+     * timestamp are returned.
+     *
+     * @param repositoryIndex the index of the repository to be used in the operation
+     * @param path the path to be used in the operation
+     * @param parameters the query parameters to be used in the operation
+     * @return the {@link Response} of the issues of the repository with the specified index
+     * @throws NullPointerException if the specified path or query parameters is {@code null}
+     * @throws IOException if the issues could not be written
+     */
+    private Response getIssues(int repositoryIndex, String path, Map<String, String> parameters) throws IOException {
+        Objects.requireNonNull(path);
+
+        Objects.requireNonNull(parameters);
+
+        String labelName = parameters.getOrDefault("labels", "");
+
+        String since = parameters.get("since");
+
+        List<Map<String, Object>> issues = new ArrayList<>();
+
+        boolean updated;
+
+        try {
+            updated = (since == null) || !this.updateDate.isBefore(Instant.parse(since));
+        } catch (DateTimeParseException e) {
+            byte[] body = "{\"message\":\"Validation Failed\"}".getBytes(StandardCharsets.UTF_8);
+
+            return new Response(422, null, body);
+        }
+
+        if (labelName.startsWith("label-") && updated) {
+            int labelIndex = Integer.parseInt(labelName.substring("label-".length()));
+
+            int count = this.settings.getIssueCount(repositoryIndex);
+
+            for (int number = 0; (labelIndex < this.settings.labels()) && (number < count); number++) {
+                Map<String, Object> issue = this.getIssue(repositoryIndex, labelIndex / 2, number);
+
+                issues.add(issue);
+            }
+        }
+
+        return this.getPage(path, parameters, issues);
+    }
+
+    /**
+     * Returns the {@link Response} of the specified {@link HttpExchange}.
+     *
+     * @param exchange the {@link HttpExchange} to be used in the operation
+     * @return the {@link Response} of the specified {@link HttpExchange}
+     * @throws NullPointerException if the specified {@link HttpExchange} is {@code null}
+     * @throws IOException if the body could not be written
+     */
+    private Response getResponse(HttpExchange exchange) throws IOException {
+        Objects.requireNonNull(exchange);
+
+        String path = exchange.getRequestURI()
+                              .getPath();
+
+        Map<String, String> parameters = this.getParameters(exchange.getRequestURI()
+                                                                    .getRawQuery());
+
+        byte[] notFound = "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8);
+
+        if (!exchange.getRequestMethod()
+                     .equals("GET")) {
+            return new Response(404, null, notFound);
+        }
+
+        Matcher repositoriesMatcher = FakeGitHubServer.REPOSITORIES_PATTERN.matcher(path);
+
+        if (repositoriesMatcher.matches() && repositoriesMatcher.group(1)
+                                                                .equals(FakeGitHubServer.ORGANIZATION_NAME)) {
+            return this.getRepositories(path, parameters);
+        }
+
+        Matcher issuesMatcher = FakeGitHubServer.ISSUES_PATTERN.matcher(path);
+
+        if (issuesMatcher.matches() && issuesMatcher.group(1)
+                                                    .equals(FakeGitHubServer.ORGANIZATION_NAME)) {
+            int repositoryIndex = Integer.parseInt(issuesMatcher.group(2));
+
+            if (repositoryIndex < this.settings.repositories()) {
+                return this.getIssues(repositoryIndex, path, parameters);
+            }
+        }
+
+        return new Response(404, null, notFound);
+    }
+
+    /**
+     * Returns the specified body compressed with gzip.
+     *
+     * @param body the body to be used in the operation
+     * @return the specified body compressed with gzip
+     * @throws NullPointerException if the specified body is {@code null}
+     * @throws IOException if the body could not be compressed
+     */
+    private byte[] compress(byte[] body) throws IOException {
+        Objects.requireNonNull(body);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Handles the specified {@link HttpExchange}, waiting the latency of this {@link FakeGitHubServer} first.
+     *
+     * @param exchange the {@link HttpExchange} to be used in the operation
+     * @throws NullPointerException if the specified {@link HttpExchange} is {@code null}
+     * @throws IOException if the response could not be sent
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        Objects.requireNonNull(exchange);
+
+        try (exchange) {
+            this.requests.incrementAndGet();
+
+            try {
+                Thread.sleep(this.settings.latency());
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+
+            Headers requestHeaders = exchange.getRequestHeaders();
+
+            Headers responseHeaders = exchange.getResponseHeaders();
+
+            responseHeaders.set("Content-Type", "application/json; charset=utf-8");
+
+            responseHeaders.set("X-RateLimit-Resource", "core");
+
+            responseHeaders.set("X-RateLimit-Limit", String.valueOf(this.settings.rateLimit()));
+
+            responseHeaders.set("X-RateLimit-Reset", String.valueOf(this.resetDate.getEpochSecond()));
+
+            if (ThreadLocalRandom.current()
+                                 .nextDouble() < this.settings.faultRate()) {
+                this.faults.incrementAndGet();
+
+                responseHeaders.set("X-RateLimit-Remaining", String.valueOf(this.getRemaining()));
+
+                this.send(exchange, 502, "{\"message\":\"Server Error\"}".getBytes(StandardCharsets.UTF_8));
+
+                return;
+            }
+
+            Response response = this.getResponse(exchange);
+
+            String entityTag = "W/\"%08x\"".formatted(Arrays.hashCode(response.body()));
+
+            String ifNoneMatch = requestHeaders.getFirst("If-None-Match");
+
+            if ((response.status() == 200) && entityTag.equals(ifNoneMatch)) {
+                this.notModifiedResponses.incrementAndGet();
+
+                responseHeaders.set("ETag", entityTag);
+
+                responseHeaders.set("X-RateLimit-Remaining", String.valueOf(this.getRemaining()));
+
+                exchange.sendResponseHeaders(304, -1L);
+
+                return;
+            }
+
+            int used = this.used.incrementAndGet();
+
+            int remaining = Math.max(this.settings.rateLimit() - used, 0);
+
+            responseHeaders.set("X-RateLimit-Used", String.valueOf(used));
+
+            responseHeaders.set("X-RateLimit-Remaining", String.valueOf(remaining));
+
+            if (used > this.settings.rateLimit()) {
+                this.send(exchange, 403, "{\"message\":\"API rate limit exceeded\"}".getBytes(StandardCharsets.UTF_8));
+
+                return;
+            }
+
+            if (response.status() == 200) {
+                responseHeaders.set("ETag", entityTag);
+            }
+
+            if (response.link() != null) {
+                responseHeaders.set("Link", response.link());
+            }
+
+            this.send(exchange, response.status(), response.body());
+        }
+    }
+
+    /**
+     * Returns the number of requests remaining in the rate limit of this {@link FakeGitHubServer}.
+     *
+     * @return the number of requests remaining in the rate limit of this {@link FakeGitHubServer}
+     */
+    private int getRemaining() {
+        return Math.max(this.settings.rateLimit() - this.used.get(), 0);
+    }
+
+    /**
+     * Sends the specified status and body using the specified {@link HttpExchange}. The body is compressed with gzip
+     * if the request accepts it.
+     *
+     * @param exchange the {@link HttpExchange} to be used in the operation
+     * @param status the status to be used in the operation
+     * @param body the body to be used in the operation
+     * @throws NullPointerException if the specified {@link HttpExchange} or body is {@code null}
+     * @throws IOException if the response could not be sent
+     */
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        Objects.requireNonNull(exchange);
+
+        Objects.requireNonNull(body);
+
+        String acceptEncoding = exchange.getRequestHeaders()
+                                        .getFirst("Accept-Encoding");
+
+        byte[] sentBody = body;
+
+        if ((acceptEncoding != null) && acceptEncoding.contains("gzip")) {
+            sentBody = this.compress(body);
+
+            exchange.getResponseHeaders()
+                    .set("Content-Encoding", "gzip");
+        }
+
+        this.bytes.addAndGet(sentBody.length);
+
+        exchange.sendResponseHeaders(status, sentBody.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(sentBody);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+
+        this.executor.shutdownNow();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package com.logankulinski.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.Objects;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.CommandLinePropertySource;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.DSLContext;
+import com.logankulinski.jooq.Tables;
+import com.logankulinski.service.RepositoryService;
+import com.logankulinski.service.IssueService;
+import java.time.Duration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import com.logankulinski.Application;
+import org.springframework.boot.WebApplicationType;
+
+/**
+ * A load test of the sync pipeline of the Spring Projects First-timer Bot. It starts an embedded PostgreSQL database
+ * and a {@link FakeGitHubServer}, runs the application against them with scheduling turned off, and drives the
+ * configured number of {@code updateRepositories}/{@code updateIssues} cycles. The requests, 304s, faults, and bytes
+ * served, the wall time, and the rows written are reported for each cycle. Additional arguments are passed to the
+ * application, such as {@code --github.sync.incremental=false}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+public final class LoadTest {
+    /**
+     * The {@link Logger} of the {@link LoadTest} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LoggerFactory.getLogger(LoadTest.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link LoadTest} class.
+     */
+    private LoadTest() {
+    }
+
+    /**
+     * Returns the application properties of the load test using the specified {@link EmbeddedPostgres} and
+     * {@link FakeGitHubServer}.
+     *
+     * @param postgres the {@link EmbeddedPostgres} to be used in the operation
+     * @param server the {@link FakeGitHubServer} to be used in the operation
+     * @return the application properties of the load test
+     * @throws NullPointerException if the specified {@link EmbeddedPostgres} or {@link FakeGitHubServer} is
+     * {@code null}
+     */
+    private static Map<String, Object> getProperties(EmbeddedPostgres postgres, FakeGitHubServer server) {
+        Objects.requireNonNull(postgres);
+
+        Objects.requireNonNull(server);
+
+        Map<String, Object> properties = new HashMap<>();
+
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+
+        properties.put("spring.datasource.username", "postgres");
+
+        properties.put("spring.datasource.password", "");
+
+        properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+
+        properties.put("spring.jooq.sql-dialect", "POSTGRES");
+
+        properties.put("scheduling.enabled", "false");
+
+        properties.put("github.base-url", server.getBaseUrl());
+
+        properties.put("github.username", "load-test");
+
+        properties.put("github.token", "load-test");
+
+        properties.put("github.http.http2", "false");
+
+        properties.put("slack.token", "load-test");
+
+        properties.put("rollbar.enabled", "false");
+
+        properties.put("rollbar.access-token", "load-test");
+
+        properties.put("rollbar.environment", "load-test");
+
+        return properties;
+    }
+
+    /**
+     * Adds the specified properties to the specified {@link ConfigurableApplicationContext} ahead of the application
+     * properties but behind the command line arguments, and registers the specified {@link RowCountListener}.
+     *
+     * @param context the {@link ConfigurableApplicationContext} to be used in the operation
+     * @param properties the properties to be used in the operation
+     * @param listener the {@link RowCountListener} to be used in the operation
+     * @throws NullPointerException if the specified {@link ConfigurableApplicationContext}, properties, or
+     * {@link RowCountListener} is {@code null}
+     */
+    private static void initialize(ConfigurableApplicationContext context, Map<String, Object> properties,
+        RowCountListener listener) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(properties);
+
+        Objects.requireNonNull(listener);
+
+        MutablePropertySources propertySources = context.getEnvironment()
+                                                        .getPropertySources();
+
+        MapPropertySource propertySource = new MapPropertySource("loadTest", properties);
+
+        String commandLineName = CommandLinePropertySource.COMMAND_LINE_PROPERTY_SOURCE_NAME;
+
+        if (propertySources.contains(commandLineName)) {
+            propertySources.addAfter(commandLineName, propertySource);
+        } else {
+            propertySources.addFirst(propertySource);
+        }
+
+        DefaultExecuteListenerProvider listenerProvider = new DefaultExecuteListenerProvider(listener);
+
+        context.getBeanFactory()
+               .registerSingleton("rowCountListenerProvider", listenerProvider);
+    }
+
+    /**
+     * Runs the configured number of sync cycles using the specified {@link ConfigurableApplicationContext},
+     * {@link LoadTestSettings}, {@link FakeGitHubServer}, and {@link RowCountListener}. The jobs are run on demand, so
+     * that every cycle runs them even though the intervals of the jobs have not passed since the previous one.
+     *
+     * @param context the {@link ConfigurableApplicationContext} to be used in the operation
+     * @param settings the {@link LoadTestSettings} to be used in the operation
+     * @param server the {@link FakeGitHubServer} to be used in the operation
+     * @param listener the {@link RowCountListener} to be used in the operation
+     * @throws NullPointerException if the specified {@link ConfigurableApplicationContext}, {@link LoadTestSettings},
+     * {@link FakeGitHubServer}, or {@link RowCountListener} is {@code null}
+     */
+    private static void runCycles(ConfigurableApplicationContext context, LoadTestSettings settings,
+        FakeGitHubServer server, RowCountListener listener) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(settings);
+
+        Objects.requireNonNull(server);
+
+        Objects.requireNonNull(listener);
+
+        DSLContext dslContext = context.getBean(DSLContext.class);
+
+        RepositoryService repositoryService = context.getBean(RepositoryService.class);
+
+        IssueService issueService = context.getBean(IssueService.class);
+
+        for (int index = 0; index < settings.labels(); index++) {
+            dslContext.insertInto(Tables.LABEL, Tables.LABEL.NAME)
+                      .values("label-" + index)
+                      .execute();
+        }
+
+        for (int cycle = 1; cycle <= settings.cycles(); cycle++) {
+            FakeGitHubServer.Statistics startStatistics = server.getStatistics();
+
+            long startRows = listener.getRows();
+
+            long startTime = System.nanoTime();
+
+            repositoryService.updateRepositoriesNow();
+
+            issueService.updateIssuesNow();
+
+            Duration wallTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+            FakeGitHubServer.Statistics statistics = server.getStatistics()
+                                                           .minus(startStatistics);
+
+            long rows = listener.getRows() - startRows;
+
+            int repositoryCount = dslContext.fetchCount(Tables.REPOSITORY);
+
+            int issueCount = dslContext.fetchCount(Tables.ISSUE);
+
+            double seconds = Math.max(wallTime.toMillis(), 1L) / 1_000.0;
+
+            String message = """
+                Cycle %d of %d: %d ms wall time, %d requests (%.1f/s, %d not modified, %d faults), %d bytes, %d rows \
+                written; %d repositories and %d issues saved""".formatted(cycle, settings.cycles(),
+                wallTime.toMillis(), statistics.requests(), statistics.requests() / seconds,
+                statistics.notModifiedResponses(), statistics.faults(), statistics.bytes(), rows, repositoryCount,
+                issueCount);
+
+            LoadTest.LOGGER.info(message);
+        }
+    }
+
+    /**
+     * Runs the load test of the Spring Projects First-timer Bot.
+     *
+     * @param args the command line arguments to be used in the operation
+     * @throws Exception if the embedded database or server could not be started or stopped
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        String message = "Running the load test with %s".formatted(settings);
+
+        LoadTest.LOGGER.info(message);
+
+        RowCountListener listener = new RowCountListener();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start();
+             FakeGitHubServer server = FakeGitHubServer.start(settings)) {
+            Map<String, Object> properties = LoadTest.getProperties(postgres, server);
+
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(Application.class);
+
+            builder.web(WebApplicationType.NONE)
+                   .initializers(context -> LoadTest.initialize(context, properties, listener));
+
+            try (ConfigurableApplicationContext context = builder.run(args)) {
+                LoadTest.runCycles(context, settings, server, listener);
+            }
+        }
+    }
+}
\ No newline at end of file
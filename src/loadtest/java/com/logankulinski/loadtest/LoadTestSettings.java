@@ -0,0 +1,99 @@
+package com.logankulinski.loadtest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The settings of a load test of the Spring Projects First-timer Bot. Each setting is read from a system property
+ * with the {@code load-test.} prefix, such as {@code -Dload-test.repositories=500}.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @param repositories the number of repositories of this {@link LoadTestSettings}
+ * @param labels the number of labels of this {@link LoadTestSettings}
+ * @param issues the number of issues of each repository label of this {@link LoadTestSettings}
+ * @param largeIssues the number of issues of each label of a large repository of this {@link LoadTestSettings}
+ * @param largeEvery the interval of the large repositories of this {@link LoadTestSettings}
+ * @param latency the latency of each response of this {@link LoadTestSettings}
+ * @param faultRate the fraction of requests answered with a 502 of this {@link LoadTestSettings}
+ * @param rateLimit the hourly rate limit of this {@link LoadTestSettings}
+ * @param cycles the number of sync cycles of this {@link LoadTestSettings}
+ */
+record LoadTestSettings(int repositories, int labels, int issues, int largeIssues, int largeEvery, Duration latency,
+    double faultRate, int rateLimit, int cycles) {
+    /**
+     * Constructs an instance of the {@link LoadTestSettings} class.
+     *
+     * @param repositories the number of repositories to be used in the operation
+     * @param labels the number of labels to be used in the operation
+     * @param issues the number of issues of each repository label to be used in the operation
+     * @param largeIssues the number of issues of each label of a large repository to be used in the operation
+     * @param largeEvery the interval of the large repositories to be used in the operation
+     * @param latency the latency to be used in the operation
+     * @param faultRate the fault rate to be used in the operation
+     * @param rateLimit the rate limit to be used in the operation
+     * @param cycles the number of cycles to be used in the operation
+     * @throws NullPointerException if the specified latency is {@code null}
+     * @throws IllegalArgumentException if a count is negative, if the interval, rate limit, or number of cycles is not
+     * positive, or if the fault rate is not between 0 and 1
+     */
+    LoadTestSettings {
+        Objects.requireNonNull(latency);
+
+        if ((repositories < 0) || (labels < 0) || (issues < 0) || (largeIssues < 0) || latency.isNegative()) {
+            String message = "The counts and latency must not be negative";
+
+            throw new IllegalArgumentException(message);
+        } else if ((largeEvery <= 0) || (rateLimit <= 0) || (cycles <= 0)) {
+            String message = "The large repository interval, rate limit, and number of cycles must be positive";
+
+            throw new IllegalArgumentException(message);
+        } else if ((faultRate < 0.0) || (faultRate > 1.0)) {
+            String message = "The fault rate must be between 0 and 1";
+
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Returns the {@link LoadTestSettings} read from the system properties.
+     *
+     * @return the {@link LoadTestSettings} read from the system properties
+     * @throws NumberFormatException if a system property is not a number
+     */
+    static LoadTestSettings fromSystemProperties() {
+        int repositories = Integer.getInteger("load-test.repositories", 500);
+
+        int labels = Integer.getInteger("load-test.labels", 10);
+
+        int issues = Integer.getInteger("load-test.issues", 5);
+
+        int largeIssues = Integer.getInteger("load-test.large-issues", 250);
+
+        int largeEvery = Integer.getInteger("load-test.large-every", 50);
+
+        long latencyMillis = Long.getLong("load-test.latency-ms", 20L);
+
+        Duration latency = Duration.ofMillis(latencyMillis);
+
+        String faultRateString = System.getProperty("load-test.fault-rate", "0.01");
+
+        double faultRate = Double.parseDouble(faultRateString);
+
+        int rateLimit = Integer.getInteger("load-test.rate-limit", 15_000);
+
+        int cycles = Integer.getInteger("load-test.cycles", 2);
+
+        return new LoadTestSettings(repositories, labels, issues, largeIssues, largeEvery, latency, faultRate,
+            rateLimit, cycles);
+    }
+
+    /**
+     * Returns the number of issues of each label of the repository with the specified index.
+     *
+     * @param repositoryIndex the index of the repository to be used in the operation
+     * @return the number of issues of each label of the repository with the specified index
+     */
+    int getIssueCount(int repositoryIndex) {
+        return ((repositoryIndex % this.largeEvery) == 0) ? this.largeIssues : this.issues;
+    }
+}
\ No newline at end of file
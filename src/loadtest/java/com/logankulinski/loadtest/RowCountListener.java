@@ -0,0 +1,59 @@
+package com.logankulinski.loadtest;
+
+import org.jooq.ExecuteListener;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jooq.ExecuteContext;
+import java.util.Objects;
+
+/**
+ * An {@link ExecuteListener} used by the load test of the Spring Projects First-timer Bot to count the rows written by
+ * the statements and batches that jOOQ executes.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+final class RowCountListener implements ExecuteListener {
+    /**
+     * The number of rows written of this {@link RowCountListener}.
+     */
+    private final AtomicLong rows;
+
+    /**
+     * Constructs an instance of the {@link RowCountListener} class.
+     */
+    RowCountListener() {
+        this.rows = new AtomicLong();
+    }
+
+    /**
+     * Returns the number of rows written of this {@link RowCountListener}.
+     *
+     * @return the number of rows written of this {@link RowCountListener}
+     */
+    long getRows() {
+        return this.rows.get();
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext context) {
+        Objects.requireNonNull(context);
+
+        switch (context.type()) {
+            case WRITE -> {
+                int count = context.rows();
+
+                if (count > 0) {
+                    this.rows.addAndGet(count);
+                }
+            }
+            case BATCH -> {
+                for (int count : context.batchRows()) {
+                    if (count > 0) {
+                        this.rows.addAndGet(count);
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
+}
\ No newline at end of file
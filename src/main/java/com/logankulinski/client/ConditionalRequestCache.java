@@ -0,0 +1,468 @@
+package com.logankulinski.client;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import java.util.Map;
+import java.nio.file.Path;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.Objects;
+import java.util.LinkedHashMap;
+import java.nio.file.Files;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import org.springframework.http.HttpHeaders;
+import java.util.HashMap;
+import reactor.core.publisher.Mono;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpStatus;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.nio.ByteBuffer;
+
+/**
+ * A response cache used to make conditional requests to the GitHub API in the Spring Projects First-timer Bot. The
+ * ETag and Last-Modified validators of each response are stored by request URL and sent back as If-None-Match and
+ * If-Modified-Since, so an unchanged resource is answered with a 304 that GitHub does not count against the rate
+ * limit and that is served from this cache. The cache is bounded by a number of entries and a total body size, and
+ * the least recently used responses are evicted first. If it has a file, it is written to it periodically whenever it
+ * has changed, and on shutdown.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+public final class ConditionalRequestCache implements ExchangeFilterFunction {
+    /**
+     * The cached responses of this {@link ConditionalRequestCache}, keyed by request URL in access order. Every access
+     * is synchronized on this map.
+     */
+    private final LinkedHashMap<String, CachedResponse> responses;
+
+    /**
+     * The path of the file this {@link ConditionalRequestCache} is persisted to, or {@code null} if it is not
+     * persisted.
+     */
+    private final Path path;
+
+    /**
+     * The {@link ObjectMapper} of this {@link ConditionalRequestCache}.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The maximum size in bytes of a body that is stored by this {@link ConditionalRequestCache}.
+     */
+    private final long maxBodySize;
+
+    /**
+     * The maximum number of responses stored by this {@link ConditionalRequestCache}.
+     */
+    private final int maxEntries;
+
+    /**
+     * The maximum total size in bytes of the bodies stored by this {@link ConditionalRequestCache}.
+     */
+    private final long maxSize;
+
+    /**
+     * The total size in bytes of the bodies stored by this {@link ConditionalRequestCache}.
+     */
+    private long size;
+
+    /**
+     * Whether this {@link ConditionalRequestCache} has changed since it was last saved.
+     */
+    private final AtomicBoolean changed;
+
+    /**
+     * The names of the response headers that are replayed from a cached response.
+     */
+    private static final List<String> CACHED_HEADER_NAMES;
+
+    /**
+     * The {@link Logger} of the {@link ConditionalRequestCache} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        CACHED_HEADER_NAMES = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.LINK, HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED);
+
+        LOGGER = LoggerFactory.getLogger(ConditionalRequestCache.class);
+    }
+
+    /**
+     * A response that was returned by the GitHub API along with its validators.
+     *
+     * @param entityTag the entity tag of this {@link CachedResponse}
+     * @param lastModified the last modified date of this {@link CachedResponse}
+     * @param headers the headers of this {@link CachedResponse}
+     * @param body the body of this {@link CachedResponse}
+     */
+    private record CachedResponse(String entityTag, String lastModified, Map<String, List<String>> headers,
+        byte[] body) {
+    }
+
+    /**
+     * Constructs an instance of the {@link ConditionalRequestCache} class. If the specified file is not blank, the
+     * cache is loaded from it and written back to it periodically and on shutdown.
+     *
+     * @param file the file to be used in the operation
+     * @param mapper the {@link ObjectMapper} to be used in the operation
+     * @param maxBodySize the maximum body size to be used in the operation
+     * @param maxEntries the maximum number of entries to be used in the operation
+     * @param maxSize the maximum total size to be used in the operation
+     * @throws NullPointerException if the specified file, {@link ObjectMapper}, maximum body size, or maximum total
+     * size is {@code null}
+     * @throws IllegalArgumentException if the specified maximum number of entries is not positive
+     */
+    @Autowired
+    public ConditionalRequestCache(@Value("${github.cache.file:}") String file, ObjectMapper mapper,
+        @Value("${github.cache.max-body-size:2MB}") DataSize maxBodySize,
+        @Value("${github.cache.max-entries:10000}") int maxEntries,
+        @Value("${github.cache.max-size:256MB}") DataSize maxSize) {
+        Objects.requireNonNull(file);
+
+        Objects.requireNonNull(mapper);
+
+        Objects.requireNonNull(maxBodySize);
+
+        Objects.requireNonNull(maxSize);
+
+        if (maxEntries <= 0) {
+            String message = "The maximum number of entries must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.path = file.isBlank() ? null : Path.of(file);
+
+        this.mapper = mapper;
+
+        this.maxBodySize = maxBodySize.toBytes();
+
+        this.maxEntries = maxEntries;
+
+        this.maxSize = maxSize.toBytes();
+
+        this.responses = new LinkedHashMap<>(16, 0.75F, true);
+
+        this.changed = new AtomicBoolean();
+
+        this.loadResponses();
+    }
+
+    /**
+     * Returns the cached response of the specified key, marking it as the most recently used.
+     *
+     * @param key the key to be used in the operation
+     * @return the cached response of the specified key, or {@code null} if there is none
+     * @throws NullPointerException if the specified key is {@code null}
+     */
+    private CachedResponse getResponse(String key) {
+        Objects.requireNonNull(key);
+
+        synchronized (this.responses) {
+            return this.responses.get(key);
+        }
+    }
+
+    /**
+     * Stores the specified {@link CachedResponse} using the specified key, and then evicts the least recently used
+     * responses until the number of entries and the total body size are within their maximums.
+     *
+     * @param key the key to be used in the operation
+     * @param cachedResponse the {@link CachedResponse} to be used in the operation
+     * @throws NullPointerException if the specified key or {@link CachedResponse} is {@code null}
+     */
+    private void storeResponse(String key, CachedResponse cachedResponse) {
+        Objects.requireNonNull(key);
+
+        Objects.requireNonNull(cachedResponse);
+
+        synchronized (this.responses) {
+            CachedResponse oldResponse = this.responses.put(key, cachedResponse);
+
+            if (oldResponse != null) {
+                this.size -= oldResponse.body().length;
+            }
+
+            this.size += cachedResponse.body().length;
+
+            Iterator<CachedResponse> iterator = this.responses.values()
+                                                              .iterator();
+
+            while (iterator.hasNext() && ((this.responses.size() > this.maxEntries) || (this.size > this.maxSize))) {
+                CachedResponse eldestResponse = iterator.next();
+
+                iterator.remove();
+
+                this.size -= eldestResponse.body().length;
+            }
+        }
+
+        this.changed.set(true);
+    }
+
+    /**
+     * Loads the cached responses stored in the file of this {@link ConditionalRequestCache}, if it has one.
+     */
+    private void loadResponses() {
+        if ((this.path == null) || Files.notExists(this.path)) {
+            return;
+        }
+
+        TypeReference<LinkedHashMap<String, CachedResponse>> typeReference = new TypeReference<>() {
+        };
+
+        try {
+            Map<String, CachedResponse> storedResponses = this.mapper.readValue(this.path.toFile(), typeReference);
+
+            storedResponses.forEach(this::storeResponse);
+        } catch (IOException e) {
+            String message = e.getMessage();
+
+            ConditionalRequestCache.LOGGER.error(message, e);
+        }
+
+        this.changed.set(false);
+    }
+
+    /**
+     * Saves the cached responses of this {@link ConditionalRequestCache} to its file, if it has one and they have
+     * changed since they were last saved. They are written to a temporary file that then replaces the file, so a crash
+     * during a save does not leave a truncated cache behind. The responses are saved in order from the least to the
+     * most recently used, so that the order survives a restart.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${github.cache.save-interval:PT5M}",
+        initialDelayString = "${github.cache.save-interval:PT5M}")
+    public void saveResponses() {
+        if ((this.path == null) || !this.changed.getAndSet(false)) {
+            return;
+        }
+
+        Map<String, CachedResponse> snapshot;
+
+        synchronized (this.responses) {
+            snapshot = new LinkedHashMap<>(this.responses);
+        }
+
+        Path fileName = this.path.getFileName();
+
+        Path temporaryPath = this.path.resolveSibling(fileName + ".tmp");
+
+        try {
+            this.mapper.writeValue(temporaryPath.toFile(), snapshot);
+
+            Files.move(temporaryPath, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            this.changed.set(true);
+
+            String message = e.getMessage();
+
+            ConditionalRequestCache.LOGGER.error(message, e);
+        }
+    }
+
+    /**
+     * Returns the headers of the specified {@link HttpHeaders} that are replayed from a cached response.
+     *
+     * @param httpHeaders the {@link HttpHeaders} to be used in the operation
+     * @return the headers of the specified {@link HttpHeaders} that are replayed from a cached response
+     * @throws NullPointerException if the specified {@link HttpHeaders} is {@code null}
+     */
+    private Map<String, List<String>> getCachedHeaders(HttpHeaders httpHeaders) {
+        Objects.requireNonNull(httpHeaders);
+
+        Map<String, List<String>> headers = new HashMap<>();
+
+        for (String headerName : ConditionalRequestCache.CACHED_HEADER_NAMES) {
+            List<String> values = httpHeaders.get(headerName);
+
+            if (values != null) {
+                headers.put(headerName, List.copyOf(values));
+            }
+        }
+
+        return headers;
+    }
+
+    /**
+     * Returns a {@link ClientResponse} that replays the specified {@link CachedResponse} in place of the specified
+     * 304 {@link ClientResponse}. The live headers, such as the rate limit headers, are kept.
+     *
+     * @param cachedResponse the {@link CachedResponse} to be used in the operation
+     * @param response the {@link ClientResponse} to be used in the operation
+     * @return a {@link ClientResponse} that replays the specified {@link CachedResponse}
+     * @throws NullPointerException if the specified {@link CachedResponse} or {@link ClientResponse} is {@code null}
+     */
+    private ClientResponse replayResponse(CachedResponse cachedResponse, ClientResponse response) {
+        Objects.requireNonNull(cachedResponse);
+
+        Objects.requireNonNull(response);
+
+        DataBuffer dataBuffer = DefaultDataBufferFactory.sharedInstance.wrap(cachedResponse.body());
+
+        return response.mutate()
+                       .statusCode(HttpStatus.OK)
+                       .headers(headers -> headers.putAll(cachedResponse.headers()))
+                       .body(Flux.just(dataBuffer))
+                       .build();
+    }
+
+    /**
+     * Returns the specified body with each of its {@link DataBuffer}s copied as it passes through. Once the body
+     * completes, the copy is stored as a {@link CachedResponse} using the specified key, entity tag, last modified
+     * date, and headers. The copy is abandoned if it grows larger than the maximum body size.
+     *
+     * @param key the key to be used in the operation
+     * @param entityTag the entity tag to be used in the operation, or {@code null}
+     * @param lastModified the last modified date to be used in the operation, or {@code null}
+     * @param headers the headers to be used in the operation
+     * @param body the body to be used in the operation
+     * @return the specified body with each of its {@link DataBuffer}s copied as it passes through
+     * @throws NullPointerException if the specified key, headers, or body is {@code null}
+     */
+    private Flux<DataBuffer> copyBody(String key, String entityTag, String lastModified,
+        Map<String, List<String>> headers, Flux<DataBuffer> body) {
+        Objects.requireNonNull(key);
+
+        Objects.requireNonNull(headers);
+
+        Objects.requireNonNull(body);
+
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        AtomicBoolean truncated = new AtomicBoolean();
+
+        return body.doOnNext(dataBuffer -> {
+                       int count = dataBuffer.readableByteCount();
+
+                       if (truncated.get() || ((copy.size() + count) > this.maxBodySize)) {
+                           truncated.set(true);
+
+                           return;
+                       }
+
+                       byte[] bytes = new byte[count];
+
+                       ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+
+                       dataBuffer.toByteBuffer(dataBuffer.readPosition(), byteBuffer, 0, count);
+
+                       copy.writeBytes(bytes);
+                   })
+                   .doOnComplete(() -> {
+                       if (truncated.get()) {
+                           return;
+                       }
+
+                       byte[] bytes = copy.toByteArray();
+
+                       CachedResponse newResponse = new CachedResponse(entityTag, lastModified, headers, bytes);
+
+                       this.storeResponse(key, newResponse);
+                   });
+    }
+
+    /**
+     * Returns a {@link Mono} of the {@link ClientResponse} to be used for the specified key, {@link CachedResponse},
+     * and {@link ClientResponse}. A 304 is replayed from the {@link CachedResponse}, and the body of a 200 with
+     * validators is copied as it streams to the decoder and stored once it completes, unless it is larger than the
+     * maximum body size.
+     *
+     * @param key the key to be used in the operation
+     * @param cachedResponse the {@link CachedResponse} to be used in the operation, or {@code null}
+     * @param response the {@link ClientResponse} to be used in the operation
+     * @return a {@link Mono} of the {@link ClientResponse} to be used
+     * @throws NullPointerException if the specified key or {@link ClientResponse} is {@code null}
+     */
+    private Mono<ClientResponse> handleResponse(String key, CachedResponse cachedResponse, ClientResponse response) {
+        Objects.requireNonNull(key);
+
+        Objects.requireNonNull(response);
+
+        HttpStatusCode statusCode = response.statusCode();
+
+        if ((statusCode == HttpStatus.NOT_MODIFIED) && (cachedResponse != null)) {
+            ClientResponse replayedResponse = this.replayResponse(cachedResponse, response);
+
+            return Mono.just(replayedResponse);
+        } else if (statusCode != HttpStatus.OK) {
+            return Mono.just(response);
+        }
+
+        HttpHeaders httpHeaders = response.headers()
+                                          .asHttpHeaders();
+
+        String entityTag = httpHeaders.getETag();
+
+        String lastModified = httpHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        if ((entityTag == null) && (lastModified == null)) {
+            return Mono.just(response);
+        }
+
+        Map<String, List<String>> headers = this.getCachedHeaders(httpHeaders);
+
+        ClientResponse copiedResponse = response.mutate()
+                                                .body(body -> this.copyBody(key, entityTag, lastModified, headers,
+                                                    body))
+                                                .build();
+
+        return Mono.just(copiedResponse);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Objects.requireNonNull(request);
+
+        Objects.requireNonNull(next);
+
+        if (request.method() != HttpMethod.GET) {
+            return next.exchange(request);
+        }
+
+        String key = request.url()
+                            .toString();
+
+        CachedResponse cachedResponse = this.getResponse(key);
+
+        ClientRequest conditionalRequest = request;
+
+        if (cachedResponse != null) {
+            conditionalRequest = ClientRequest.from(request)
+                                              .headers(headers -> {
+                                                  if (cachedResponse.entityTag() != null) {
+                                                      headers.setIfNoneMatch(cachedResponse.entityTag());
+                                                  }
+
+                                                  if (cachedResponse.lastModified() != null) {
+                                                      headers.set(HttpHeaders.IF_MODIFIED_SINCE,
+                                                          cachedResponse.lastModified());
+                                                  }
+                                              })
+                                              .build();
+        }
+
+        return next.exchange(conditionalRequest)
+                   .flatMap(response -> this.handleResponse(key, cachedResponse, response));
+    }
+}
\ No newline at end of file
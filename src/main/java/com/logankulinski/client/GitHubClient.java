@@ -8,6 +8,7 @@ import com.logankulinski.model.Repository;
 import org.springframework.web.bind.annotation.RequestParam;
 import com.logankulinski.model.Issue;
 import org.springframework.web.bind.annotation.PathVariable;
+import com.logankulinski.model.SearchResult;
 
 /**
  * A REST client used to connect to the GitHub API in the Spring Projects First-timer Bot.
@@ -27,16 +28,31 @@ public interface GitHubClient {
     ResponseEntity<Set<Repository>> getSpringRepositories(@RequestParam("per_page") int limit, @RequestParam int page);
 
     /**
-     * Returns Spring {@link Issue}s using the specified repository, labels, filter, limit, and page.
+     * Returns Spring {@link Issue}s using the specified repository, labels, filter, since, limit, and page. If the
+     * specified since is {@code null}, all issues are returned; otherwise, only issues updated at or after it are.
      *
      * @param repository the repository to be used in the operation
      * @param labels the labels to be used in the operation
      * @param filter the filter to be used in the operation
+     * @param since the ISO 8601 timestamp to be used in the operation, or {@code null}
      * @param limit the limit to be used in the operation
      * @param page the page to be used in the operation
-     * @return Spring {@link Issue}s using the specified repository, labels, filter, limit, and page
+     * @return Spring {@link Issue}s using the specified repository, labels, filter, since, limit, and page
      */
     @GetExchange("/repos/spring-projects/{repository}/issues")
     ResponseEntity<Set<Issue>> getSpringIssues(@PathVariable String repository, @RequestParam String labels,
-        @RequestParam String filter, @RequestParam("per_page") int limit, @RequestParam int page);
+        @RequestParam String filter, @RequestParam(required = false) String since, @RequestParam("per_page") int limit,
+        @RequestParam int page);
+
+    /**
+     * Returns a {@link SearchResult} of {@link Issue}s using the specified query, limit, and page.
+     *
+     * @param query the query to be used in the operation
+     * @param limit the limit to be used in the operation
+     * @param page the page to be used in the operation
+     * @return a {@link SearchResult} of {@link Issue}s using the specified query, limit, and page
+     */
+    @GetExchange("/search/issues")
+    ResponseEntity<SearchResult<Issue>> searchIssues(@RequestParam("q") String query,
+        @RequestParam("per_page") int limit, @RequestParam int page);
 }
\ No newline at end of file
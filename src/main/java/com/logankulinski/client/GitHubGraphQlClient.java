@@ -0,0 +1,26 @@
+package com.logankulinski.client;
+
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.http.ResponseEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.web.bind.annotation.RequestBody;
+import com.logankulinski.model.GraphQlRequest;
+
+/**
+ * A GraphQL client used to connect to the GitHub API in the Spring Projects First-timer Bot.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@HttpExchange
+public interface GitHubGraphQlClient {
+    /**
+     * Returns the response to the specified {@link GraphQlRequest}. The data and errors of the response are returned
+     * as a tree, because the shape of the data depends on the aliases of the query.
+     *
+     * @param request the {@link GraphQlRequest} to be used in the operation
+     * @return the response to the specified {@link GraphQlRequest}
+     */
+    @PostExchange("/graphql")
+    ResponseEntity<JsonNode> query(@RequestBody GraphQlRequest request);
+}
\ No newline at end of file
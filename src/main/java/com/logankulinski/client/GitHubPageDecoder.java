@@ -0,0 +1,363 @@
+package com.logankulinski.client;
+
+import org.springframework.stereotype.Component;
+import org.springframework.core.codec.Decoder;
+import java.util.Set;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.logankulinski.model.Issue;
+import com.logankulinski.model.Repository;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.Objects;
+import java.util.HashMap;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.MimeType;
+import org.springframework.http.MediaType;
+import java.util.List;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.nio.ByteBuffer;
+import com.fasterxml.jackson.databind.JavaType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import org.springframework.core.codec.DecodingException;
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * A streaming decoder of GitHub pages of {@link Issue}s and {@link Repository} objects in the Spring Projects
+ * First-timer Bot. The response body is tokenized as it arrives, and only the fields that are bound are kept, so the
+ * memory used per page does not depend on the size of fields such as issue bodies. The bytes of each buffer are fed
+ * to the parser in place rather than copied, and the kept fields of the items are recorded in one {@link TokenBuffer}
+ * that is bound with a pre-built {@link ObjectReader} once the page ends, so no tree is built for an item and the
+ * binding is set up once per page.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+public final class GitHubPageDecoder implements Decoder<Set<?>> {
+    /**
+     * The {@link ObjectMapper} of this {@link GitHubPageDecoder}.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The {@link ObjectReader}s of pages of this {@link GitHubPageDecoder}, keyed by item class.
+     */
+    private final Map<Class<?>, ObjectReader> readers;
+
+    /**
+     * The names of the fields that are kept, keyed by item class.
+     */
+    private static final Map<Class<?>, Set<String>> FIELD_NAMES;
+
+    /**
+     * The depth of the items of a page, which only holds for pages whose top level is an array.
+     */
+    private static final int ITEM_DEPTH;
+
+    static {
+        FIELD_NAMES = Map.of(Issue.class, Set.of("id", "title", "html_url", "repository_url", "state"),
+            Repository.class, Set.of("id", "name"));
+
+        ITEM_DEPTH = 2;
+    }
+
+    /**
+     * Constructs an instance of the {@link GitHubPageDecoder} class.
+     *
+     * @param mapper the {@link ObjectMapper} to be used in the operation
+     * @throws NullPointerException if the specified {@link ObjectMapper} is {@code null}
+     */
+    @Autowired
+    public GitHubPageDecoder(ObjectMapper mapper) {
+        Objects.requireNonNull(mapper);
+
+        this.mapper = mapper;
+
+        Map<Class<?>, ObjectReader> map = new HashMap<>();
+
+        for (Class<?> itemClass : GitHubPageDecoder.FIELD_NAMES.keySet()) {
+            JavaType pageType = mapper.getTypeFactory()
+                                      .constructCollectionType(Set.class, itemClass);
+
+            ObjectReader reader = mapper.readerFor(pageType);
+
+            map.put(itemClass, reader);
+        }
+
+        this.readers = Map.copyOf(map);
+    }
+
+    /**
+     * A tokenizer of one page that is fed the page as it arrives.
+     */
+    private final class PageTokenizer {
+        /**
+         * The {@link JsonParser} of this {@link PageTokenizer}.
+         */
+        private final JsonParser parser;
+
+        /**
+         * The {@link ByteBufferFeeder} of this {@link PageTokenizer}.
+         */
+        private final ByteBufferFeeder feeder;
+
+        /**
+         * The names of the fields that are kept by this {@link PageTokenizer}.
+         */
+        private final Set<String> fieldNames;
+
+        /**
+         * The {@link ObjectReader} of the pages of this {@link PageTokenizer}.
+         */
+        private final ObjectReader reader;
+
+        /**
+         * The {@link TokenBuffer} of the kept fields of the items of this {@link PageTokenizer}.
+         */
+        private final TokenBuffer items;
+
+        /**
+         * The current depth of this {@link PageTokenizer}.
+         */
+        private int depth;
+
+        /**
+         * Whether the current item of this {@link PageTokenizer} is an object whose fields are kept.
+         */
+        private boolean itemKept;
+
+        /**
+         * The name of the current kept field of this {@link PageTokenizer}, or {@code null}.
+         */
+        private String fieldName;
+
+        /**
+         * Constructs an instance of the {@link PageTokenizer} class.
+         *
+         * @param itemClass the item class to be used in the operation
+         * @throws NullPointerException if the specified item class is {@code null}
+         * @throws IOException if the parser could not be created
+         */
+        private PageTokenizer(Class<?> itemClass) throws IOException {
+            Objects.requireNonNull(itemClass);
+
+            this.parser = GitHubPageDecoder.this.mapper.getFactory()
+                                                       .createNonBlockingByteBufferParser();
+
+            this.feeder = (ByteBufferFeeder) this.parser.getNonBlockingInputFeeder();
+
+            this.fieldNames = GitHubPageDecoder.FIELD_NAMES.get(itemClass);
+
+            this.reader = GitHubPageDecoder.this.readers.get(itemClass);
+
+            this.items = new TokenBuffer(this.parser);
+        }
+
+        /**
+         * Processes the tokens that are available to this {@link PageTokenizer}.
+         *
+         * @throws IOException if a token could not be read or recorded
+         */
+        private void processTokens() throws IOException {
+            JsonToken token;
+
+            while (((token = this.parser.nextToken()) != null) && (token != JsonToken.NOT_AVAILABLE)) {
+                switch (token) {
+                    case START_OBJECT, START_ARRAY -> {
+                        if ((this.depth == 0) && (token != JsonToken.START_ARRAY)) {
+                            throw new JsonParseException(this.parser, "A page must be a top-level JSON array");
+                        }
+
+                        this.depth++;
+
+                        this.fieldName = null;
+
+                        if (this.depth == 1) {
+                            this.items.writeStartArray();
+                        } else if ((this.depth == GitHubPageDecoder.ITEM_DEPTH) && (token == JsonToken.START_OBJECT)) {
+                            this.items.writeStartObject();
+
+                            this.itemKept = true;
+                        }
+                    }
+                    case END_OBJECT, END_ARRAY -> {
+                        if (this.depth == 1) {
+                            this.items.writeEndArray();
+                        } else if ((this.depth == GitHubPageDecoder.ITEM_DEPTH) && this.itemKept) {
+                            this.items.writeEndObject();
+
+                            this.itemKept = false;
+                        }
+
+                        this.depth--;
+                    }
+                    case FIELD_NAME -> {
+                        String name = this.parser.currentName();
+
+                        boolean kept = (this.depth == GitHubPageDecoder.ITEM_DEPTH) && this.fieldNames.contains(name);
+
+                        this.fieldName = kept ? name : null;
+                    }
+                    default -> {
+                        if (this.itemKept && (this.fieldName != null)) {
+                            this.items.writeFieldName(this.fieldName);
+
+                            this.items.copyCurrentEvent(this.parser);
+                        }
+
+                        this.fieldName = null;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Feeds the specified {@link DataBuffer} to this {@link PageTokenizer} and releases it. Its readable
+         * {@link ByteBuffer}s are fed to the parser in place, and each is fully tokenized before the next is fed, so
+         * the parser no longer refers to the {@link DataBuffer} once it is released.
+         *
+         * @param dataBuffer the {@link DataBuffer} to be used in the operation
+         * @throws NullPointerException if the specified {@link DataBuffer} is {@code null}
+         */
+        private void feed(DataBuffer dataBuffer) {
+            Objects.requireNonNull(dataBuffer);
+
+            try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer byteBuffer = iterator.next();
+
+                    this.feeder.feedInput(byteBuffer);
+
+                    this.processTokens();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+
+        /**
+         * Ends the input of this {@link PageTokenizer} and returns its decoded items, which are bound from the kept
+         * fields in one pass.
+         *
+         * @return the decoded items of this {@link PageTokenizer}
+         */
+        private Set<?> finish() {
+            this.feeder.endOfInput();
+
+            try {
+                this.processTokens();
+
+                if (this.depth != 0) {
+                    throw new JsonParseException(this.parser, "A page ended before its top-level array was closed");
+                }
+
+                this.parser.close();
+
+                if (this.items.firstToken() == null) {
+                    return Collections.emptySet();
+                }
+
+                try (JsonParser itemsParser = this.items.asParser()) {
+                    Set<?> values = this.reader.readValue(itemsParser);
+
+                    return Collections.unmodifiableSet(values);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the item class of the specified {@link ResolvableType} if it is a {@link Set} of a supported class,
+     * or {@code null} otherwise.
+     *
+     * @param elementType the {@link ResolvableType} to be used in the operation
+     * @return the item class of the specified {@link ResolvableType}, or {@code null}
+     * @throws NullPointerException if the specified {@link ResolvableType} is {@code null}
+     */
+    private Class<?> getItemClass(ResolvableType elementType) {
+        Objects.requireNonNull(elementType);
+
+        if (elementType.resolve() != Set.class) {
+            return null;
+        }
+
+        Class<?> itemClass = elementType.resolveGeneric(0);
+
+        return GitHubPageDecoder.FIELD_NAMES.containsKey(itemClass) ? itemClass : null;
+    }
+
+    /**
+     * Returns whether the specified {@link ResolvableType} is a {@link Set} of {@link Issue}s or {@link Repository}
+     * objects and the specified {@link MimeType} is JSON. The items are expected to be the elements of a top-level
+     * array, so wrapped responses such as search results, whose items are in an {@code items} field, must be decoded
+     * by another decoder. Decoding a page whose top level is not an array fails with a {@link DecodingException}.
+     *
+     * @param elementType the {@link ResolvableType} to be used in the operation
+     * @param mimeType the {@link MimeType} to be used in the operation, or {@code null}
+     * @return {@code true} if the specified {@link ResolvableType} and {@link MimeType} can be decoded, {@code false}
+     * otherwise
+     * @throws NullPointerException if the specified {@link ResolvableType} is {@code null}
+     */
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        Objects.requireNonNull(elementType);
+
+        if (this.getItemClass(elementType) == null) {
+            return false;
+        }
+
+        return (mimeType == null) || MediaType.APPLICATION_JSON.isCompatibleWith(mimeType)
+            || "json".equals(mimeType.getSubtypeSuffix());
+    }
+
+    @Override
+    public Flux<Set<?>> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType,
+        Map<String, Object> hints) {
+        return Flux.from(this.decodeToMono(inputStream, elementType, mimeType, hints));
+    }
+
+    @Override
+    public Mono<Set<?>> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+        MimeType mimeType, Map<String, Object> hints) {
+        Objects.requireNonNull(inputStream);
+
+        Objects.requireNonNull(elementType);
+
+        Class<?> itemClass = this.getItemClass(elementType);
+
+        return Mono.defer(() -> {
+                       PageTokenizer tokenizer;
+
+                       try {
+                           tokenizer = new PageTokenizer(itemClass);
+                       } catch (IOException e) {
+                           return Mono.error(e);
+                       }
+
+                       return Flux.from(inputStream)
+                                  .doOnNext(tokenizer::feed)
+                                  .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                  .then(Mono.<Set<?>>fromCallable(tokenizer::finish));
+                   })
+                   .onErrorMap(UncheckedIOException.class, e -> new DecodingException(e.getMessage(), e.getCause()));
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return List.of(MediaType.APPLICATION_JSON);
+    }
+}
\ No newline at end of file
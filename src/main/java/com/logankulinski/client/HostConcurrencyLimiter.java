@@ -0,0 +1,210 @@
+package com.logankulinski.client;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.concurrent.ConcurrentHashMap;
+import reactor.core.publisher.Mono;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import java.util.Objects;
+import reactor.core.scheduler.Schedulers;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A limiter of the number of in-flight requests per host in the Spring Projects First-timer Bot. A request holds its
+ * permit until its response body has been read or released, not just until the response headers arrive, so the
+ * limit covers the streaming and decoding of each page. A request that fails or is cancelled at any point gives its
+ * permit back, including one that is cancelled just as its permit is acquired.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+public final class HostConcurrencyLimiter implements ExchangeFilterFunction {
+    /**
+     * The maximum number of in-flight requests per host of this {@link HostConcurrencyLimiter}.
+     */
+    private final int maxRequestsPerHost;
+
+    /**
+     * The {@link Semaphore}s of this {@link HostConcurrencyLimiter}, keyed by host.
+     */
+    private final Map<String, Semaphore> semaphores;
+
+    /**
+     * Constructs an instance of the {@link HostConcurrencyLimiter} class.
+     *
+     * @param maxRequestsPerHost the maximum number of in-flight requests per host to be used in the operation
+     * @throws IllegalArgumentException if the specified maximum number of in-flight requests per host is not positive
+     */
+    @Autowired
+    public HostConcurrencyLimiter(@Value("${github.fetch.max-requests-per-host:8}") int maxRequestsPerHost) {
+        if (maxRequestsPerHost <= 0) {
+            String message = "The maximum number of requests per host must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.maxRequestsPerHost = maxRequestsPerHost;
+
+        this.semaphores = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * A permit of a {@link Semaphore} that is given back at most once. A permit that is released before it is
+     * acquired is given back as soon as it is acquired. Once a permit has been handed off to a response body, only
+     * the body releases it, so a cancellation that arrives after the response does not give it back early.
+     */
+    private static final class Permit {
+        /**
+         * The {@link Semaphore} of this {@link Permit}.
+         */
+        private final Semaphore semaphore;
+
+        /**
+         * The state of this {@link Permit}, which is pending, acquired, handed off, or released.
+         */
+        private final AtomicInteger state;
+
+        /**
+         * The state of a {@link Permit} that has not been acquired or released.
+         */
+        private static final int PENDING;
+
+        /**
+         * The state of a {@link Permit} that has been acquired and not released.
+         */
+        private static final int ACQUIRED;
+
+        /**
+         * The state of a {@link Permit} that is held by a response body.
+         */
+        private static final int HANDED_OFF;
+
+        /**
+         * The state of a {@link Permit} that has been released.
+         */
+        private static final int RELEASED;
+
+        static {
+            PENDING = 0;
+
+            ACQUIRED = 1;
+
+            HANDED_OFF = 2;
+
+            RELEASED = 3;
+        }
+
+        /**
+         * Constructs an instance of the {@link Permit} class.
+         *
+         * @param semaphore the {@link Semaphore} to be used in the operation
+         * @throws NullPointerException if the specified {@link Semaphore} is {@code null}
+         */
+        private Permit(Semaphore semaphore) {
+            this.semaphore = Objects.requireNonNull(semaphore);
+
+            this.state = new AtomicInteger(Permit.PENDING);
+        }
+
+        /**
+         * Acquires this {@link Permit}, blocking until the {@link Semaphore} of this {@link Permit} has one available.
+         * If this {@link Permit} was released in the meantime, it is given back right away.
+         *
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        private void acquire() throws InterruptedException {
+            this.semaphore.acquire();
+
+            if (!this.state.compareAndSet(Permit.PENDING, Permit.ACQUIRED)) {
+                this.semaphore.release();
+            }
+        }
+
+        /**
+         * Hands off this {@link Permit} to a response body, if it is acquired.
+         */
+        private void handOff() {
+            this.state.compareAndSet(Permit.ACQUIRED, Permit.HANDED_OFF);
+        }
+
+        /**
+         * Cancels this {@link Permit}, giving it back to its {@link Semaphore} if it is held and has not been handed
+         * off to a response body.
+         */
+        private void cancel() {
+            if (this.state.compareAndSet(Permit.PENDING, Permit.RELEASED)) {
+                return;
+            }
+
+            if (this.state.compareAndSet(Permit.ACQUIRED, Permit.RELEASED)) {
+                this.semaphore.release();
+            }
+        }
+
+        /**
+         * Releases this {@link Permit}, giving it back to its {@link Semaphore} if it is held.
+         */
+        private void release() {
+            int previousState = this.state.getAndSet(Permit.RELEASED);
+
+            if ((previousState == Permit.ACQUIRED) || (previousState == Permit.HANDED_OFF)) {
+                this.semaphore.release();
+            }
+        }
+    }
+
+    /**
+     * Returns the specified {@link ClientResponse} with a body that releases the specified {@link Permit} once it
+     * completes, fails, or is cancelled. A body that is replaced further up the filter chain is released by Spring,
+     * which also releases the {@link Permit}.
+     *
+     * @param response the {@link ClientResponse} to be used in the operation
+     * @param permit the {@link Permit} to be used in the operation
+     * @return the specified {@link ClientResponse} with a body that releases the specified {@link Permit}
+     * @throws NullPointerException if the specified {@link ClientResponse} or {@link Permit} is {@code null}
+     */
+    private static ClientResponse releaseOnBody(ClientResponse response, Permit permit) {
+        Objects.requireNonNull(response);
+
+        Objects.requireNonNull(permit);
+
+        permit.handOff();
+
+        return response.mutate()
+                       .body(body -> body.doFinally(signalType -> permit.release()))
+                       .build();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Objects.requireNonNull(request);
+
+        Objects.requireNonNull(next);
+
+        String host = request.url()
+                             .getHost();
+
+        Semaphore semaphore = this.semaphores.computeIfAbsent(host, key -> new Semaphore(this.maxRequestsPerHost));
+
+        return Mono.defer(() -> {
+            Permit permit = new Permit(semaphore);
+
+            return Mono.fromCallable(() -> {
+                           permit.acquire();
+
+                           return permit;
+                       })
+                       .subscribeOn(Schedulers.boundedElastic())
+                       .flatMap(acquiredPermit -> next.exchange(request))
+                       .map(response -> HostConcurrencyLimiter.releaseOnBody(response, permit))
+                       .doOnError(throwable -> permit.release())
+                       .doOnCancel(permit::cancel);
+        });
+    }
+}
\ No newline at end of file
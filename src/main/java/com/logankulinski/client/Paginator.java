@@ -0,0 +1,371 @@
+package com.logankulinski.client;
+
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.Objects;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import java.util.concurrent.Future;
+import java.util.Deque;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import com.logankulinski.util.LinkHeader;
+import java.util.NoSuchElementException;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.Observation;
+
+/**
+ * A paginator of GitHub API responses in the Spring Projects First-timer Bot. The pages of a response are iterated
+ * lazily through {@link Pages}, which can be closed to cancel the pages that are still in flight. After the first
+ * page, the {@code rel="last"} link is used to prefetch the remaining pages concurrently within a bounded window,
+ * and the pages are returned in order. If there is no {@code rel="last"} link, the {@code rel="next"} links are
+ * followed one page at a time, as long as they point past the current page, so a link without a page query
+ * parameter ends the pages instead of requesting the same page again. Each page request is observed as its own span.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+public final class Paginator {
+    /**
+     * A request of one page of a paginated GitHub API response.
+     *
+     * @param <T> the type of the body of the page
+     */
+    @FunctionalInterface
+    public interface PageRequest<T> {
+        /**
+         * Returns the {@link ResponseEntity} of the specified page.
+         *
+         * @param page the page to be used in the operation
+         * @return the {@link ResponseEntity} of the specified page
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        ResponseEntity<T> get(int page) throws InterruptedException;
+    }
+
+    /**
+     * A consumer of the pages of a paginated GitHub API response.
+     *
+     * @param <T> the type of the body of the pages
+     */
+    @FunctionalInterface
+    public interface PageConsumer<T> {
+        /**
+         * Consumes the specified {@link ResponseEntity} and returns whether the following pages should be fetched.
+         *
+         * @param responseEntity the {@link ResponseEntity} to be used in the operation
+         * @return {@code true} if the following pages should be fetched, {@code false} otherwise
+         */
+        boolean accept(ResponseEntity<T> responseEntity);
+    }
+
+    /**
+     * A lazy iteration over the pages of a paginated GitHub API response.
+     *
+     * @param <T> the type of the body of the pages
+     */
+    public static final class Pages<T> implements AutoCloseable {
+        /**
+         * The {@link ExecutorService} of this {@link Pages}.
+         */
+        private final ExecutorService executor;
+
+        /**
+         * The maximum number of pages that this {@link Pages} prefetches at once.
+         */
+        private final int window;
+
+        /**
+         * The {@link PageRequest} of this {@link Pages}.
+         */
+        private final PageRequest<T> request;
+
+        /**
+         * The prefetched pages of this {@link Pages}, in page order.
+         */
+        private final Deque<Future<ResponseEntity<T>>> futures;
+
+        /**
+         * The {@link ResponseEntity} of the page that this {@link Pages} returned last, or {@code null}.
+         */
+        private ResponseEntity<T> previous;
+
+        /**
+         * The page that this {@link Pages} returned last, or {@code 0} if it has not returned one.
+         */
+        private int page;
+
+        /**
+         * The page that this {@link Pages} prefetches next.
+         */
+        private int nextPage;
+
+        /**
+         * The last page of this {@link Pages}, or {@code 0} if it is unknown.
+         */
+        private int lastPage;
+
+        /**
+         * Whether this {@link Pages} is closed.
+         */
+        private boolean closed;
+
+        /**
+         * Constructs an instance of the {@link Pages} class.
+         *
+         * @param executor the {@link ExecutorService} to be used in the operation
+         * @param window the window to be used in the operation
+         * @param request the {@link PageRequest} to be used in the operation
+         * @throws NullPointerException if the specified {@link ExecutorService} or {@link PageRequest} is
+         * {@code null}
+         */
+        private Pages(ExecutorService executor, int window, PageRequest<T> request) {
+            Objects.requireNonNull(executor);
+
+            Objects.requireNonNull(request);
+
+            this.executor = executor;
+
+            this.window = window;
+
+            this.request = request;
+
+            this.futures = new ArrayDeque<>();
+        }
+
+        /**
+         * Returns the {@link LinkHeader} of the page that this {@link Pages} returned last.
+         *
+         * @return the {@link LinkHeader} of the page that this {@link Pages} returned last
+         */
+        private LinkHeader getLinkHeader() {
+            HttpHeaders httpHeaders = this.previous.getHeaders();
+
+            String link = httpHeaders.getFirst(HttpHeaders.LINK);
+
+            return LinkHeader.parse(link);
+        }
+
+        /**
+         * Submits page requests until the window of this {@link Pages} is full or the last page is submitted.
+         */
+        private void prefetch() {
+            while ((this.nextPage <= this.lastPage) && (this.futures.size() < this.window)) {
+                int page = this.nextPage;
+
+                Future<ResponseEntity<T>> future = this.executor.submit(() -> this.request.get(page));
+
+                this.futures.addLast(future);
+
+                this.nextPage++;
+            }
+        }
+
+        /**
+         * Returns whether this {@link Pages} has another page.
+         *
+         * @return {@code true} if this {@link Pages} has another page, {@code false} otherwise
+         */
+        public boolean hasNext() {
+            if (this.closed) {
+                return false;
+            } else if (this.previous == null) {
+                return true;
+            } else if (this.lastPage > 0) {
+                return !this.futures.isEmpty();
+            }
+
+            LinkHeader.Link next = this.getLinkHeader()
+                                       .next();
+
+            return (next != null) && (next.page() > this.page);
+        }
+
+        /**
+         * Returns the {@link ResponseEntity} of the next page of this {@link Pages}. After the first page, the
+         * following pages are prefetched if the last page is known.
+         *
+         * @return the {@link ResponseEntity} of the next page of this {@link Pages}
+         * @throws NoSuchElementException if this {@link Pages} does not have another page
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         * @throws ExecutionException if a page request threw an exception
+         */
+        public ResponseEntity<T> next() throws InterruptedException, ExecutionException {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (this.previous == null) {
+                int firstPage = 1;
+
+                this.previous = this.request.get(firstPage);
+
+                this.page = firstPage;
+
+                LinkHeader.Link last = this.getLinkHeader()
+                                           .last();
+
+                if ((last != null) && (last.page() > firstPage) && (this.window > 1)) {
+                    this.nextPage = firstPage + 1;
+
+                    this.lastPage = last.page();
+
+                    this.prefetch();
+                }
+            } else if (this.lastPage > 0) {
+                this.previous = this.futures.removeFirst()
+                                            .get();
+
+                this.page++;
+
+                this.prefetch();
+            } else {
+                int nextPage = this.getLinkHeader()
+                                   .next()
+                                   .page();
+
+                this.previous = this.request.get(nextPage);
+
+                this.page = nextPage;
+            }
+
+            return this.previous;
+        }
+
+        /**
+         * Closes this {@link Pages}, cancelling the pages that are still in flight.
+         */
+        @Override
+        public void close() {
+            this.closed = true;
+
+            this.futures.forEach(future -> future.cancel(true));
+
+            this.futures.clear();
+        }
+    }
+
+    /**
+     * The {@link ExecutorService} of this {@link Paginator}.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The maximum number of pages of one response that this {@link Paginator} prefetches at once.
+     */
+    private final int window;
+
+    /**
+     * The {@link ObservationRegistry} of this {@link Paginator}.
+     */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Constructs an instance of the {@link Paginator} class.
+     *
+     * @param executor the {@link ExecutorService} to be used in the operation
+     * @param window the window to be used in the operation
+     * @param observationRegistry the {@link ObservationRegistry} to be used in the operation
+     * @throws NullPointerException if the specified {@link ExecutorService} or {@link ObservationRegistry} is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified window is not positive
+     */
+    @Autowired
+    public Paginator(@Qualifier("pageExecutor") ExecutorService executor,
+        @Value("${github.fetch.page-window:4}") int window, ObservationRegistry observationRegistry) {
+        Objects.requireNonNull(executor);
+
+        Objects.requireNonNull(observationRegistry);
+
+        if (window <= 0) {
+            String message = "The window must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.executor = executor;
+
+        this.window = window;
+
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Returns the specified {@link PageRequest} with each of its pages observed.
+     *
+     * @param request the {@link PageRequest} to be used in the operation
+     * @param <T> the type of the body of the pages
+     * @return the specified {@link PageRequest} with each of its pages observed
+     * @throws NullPointerException if the specified {@link PageRequest} is {@code null}
+     */
+    private <T> PageRequest<T> observe(PageRequest<T> request) {
+        Objects.requireNonNull(request);
+
+        return page -> {
+            Observation observation = Observation.createNotStarted("github.page", this.observationRegistry)
+                                                 .highCardinalityKeyValue("page", String.valueOf(page))
+                                                 .start();
+
+            try (Observation.Scope scope = observation.openScope()) {
+                return request.get(page);
+            } catch (InterruptedException | RuntimeException e) {
+                observation.error(e);
+
+                throw e;
+            } finally {
+                observation.stop();
+            }
+        };
+    }
+
+    /**
+     * Returns the {@link Pages} of the specified {@link PageRequest}. No page is requested until the first call of
+     * {@link Pages#next()}.
+     *
+     * @param request the {@link PageRequest} to be used in the operation
+     * @param <T> the type of the body of the pages
+     * @return the {@link Pages} of the specified {@link PageRequest}
+     * @throws NullPointerException if the specified {@link PageRequest} is {@code null}
+     */
+    public <T> Pages<T> paginate(PageRequest<T> request) {
+        Objects.requireNonNull(request);
+
+        PageRequest<T> observedRequest = this.observe(request);
+
+        return new Pages<>(this.executor, this.window, observedRequest);
+    }
+
+    /**
+     * Fetches every page of the specified {@link PageRequest}, handing them to the specified {@link PageConsumer} in
+     * order. Fetching stops as soon as the {@link PageConsumer} rejects a page.
+     *
+     * @param request the {@link PageRequest} to be used in the operation
+     * @param consumer the {@link PageConsumer} to be used in the operation
+     * @param <T> the type of the body of the pages
+     * @return {@code true} if every page was fetched and consumed, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link PageRequest} or {@link PageConsumer} is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws ExecutionException if a page request threw an exception
+     */
+    public <T> boolean fetch(PageRequest<T> request, PageConsumer<T> consumer)
+        throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(request);
+
+        Objects.requireNonNull(consumer);
+
+        try (Pages<T> pages = this.paginate(request)) {
+            while (pages.hasNext()) {
+                ResponseEntity<T> responseEntity = pages.next();
+
+                if (!consumer.accept(responseEntity)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+}
\ No newline at end of file
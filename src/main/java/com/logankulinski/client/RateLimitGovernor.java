@@ -0,0 +1,549 @@
+package com.logankulinski.client;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.http.ResponseEntity;
+import java.util.function.Supplier;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpStatus;
+import java.util.Map;
+import java.util.EnumMap;
+
+/**
+ * A governor of the GitHub API rate limits in the Spring Projects First-timer Bot. GitHub limits the core API, the
+ * search API, and the GraphQL API separately, so the remaining budget and reset time of each {@link Resource} are
+ * tracked from the headers of every response, keyed by their X-RateLimit-Resource header. Each request reserves one
+ * request of the budget of its {@link Resource} before it is made, so concurrent requests never spend the same budget
+ * twice. {@link Priority#BULK} requests leave a reserve of the budget to {@link Priority#INTERACTIVE} ones, and they
+ * are paced to spread the remaining budget until the reset by reserving evenly spaced slots, so concurrent requests
+ * queue behind each other rather than burst. Requests that hit the rate limit are paused and retried instead of
+ * failing.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+public final class RateLimitGovernor implements ExchangeFilterFunction {
+    /**
+     * A priority of a request made through a {@link RateLimitGovernor}.
+     */
+    public enum Priority {
+        /**
+         * A request whose results are needed for notifications.
+         */
+        INTERACTIVE,
+
+        /**
+         * A request that refreshes data in bulk and can wait.
+         */
+        BULK
+    }
+
+    /**
+     * A rate limit resource of the GitHub API, which has a budget of its own.
+     */
+    public enum Resource {
+        /**
+         * The rate limit of the REST API endpoints other than search.
+         */
+        CORE("core"),
+
+        /**
+         * The rate limit of the search endpoints.
+         */
+        SEARCH("search"),
+
+        /**
+         * The rate limit of the GraphQL endpoint.
+         */
+        GRAPHQL("graphql");
+
+        /**
+         * The value of the X-RateLimit-Resource header of this {@link Resource}.
+         */
+        private final String headerValue;
+
+        /**
+         * Constructs an instance of the {@link Resource} enum.
+         *
+         * @param headerValue the header value to be used in the operation
+         * @throws NullPointerException if the specified header value is {@code null}
+         */
+        Resource(String headerValue) {
+            this.headerValue = Objects.requireNonNull(headerValue);
+        }
+
+        /**
+         * Returns the value of the X-RateLimit-Resource header of this {@link Resource}.
+         *
+         * @return the value of the X-RateLimit-Resource header of this {@link Resource}
+         */
+        public String getHeaderValue() {
+            return this.headerValue;
+        }
+
+        /**
+         * Returns the {@link Resource} with the specified value of the X-RateLimit-Resource header, or {@code null} if
+         * there is none. A response without the header counts against the core rate limit.
+         *
+         * @param headerValue the header value to be used in the operation, or {@code null}
+         * @return the {@link Resource} with the specified header value, or {@code null} if there is none
+         */
+        private static Resource fromHeaderValue(String headerValue) {
+            if (headerValue == null) {
+                return Resource.CORE;
+            }
+
+            for (Resource resource : Resource.values()) {
+                if (resource.headerValue.equals(headerValue)) {
+                    return resource;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * The budget of a {@link Resource} of a {@link RateLimitGovernor}. It is guarded by the lock of its
+     * {@link RateLimitGovernor}.
+     */
+    private static final class Budget {
+        /**
+         * The remaining budget of this {@link Budget}, or {@code -1} if it is unknown.
+         */
+        private int remaining;
+
+        /**
+         * The time at which this {@link Budget} is reset, or {@code null} if it is unknown.
+         */
+        private Instant reset;
+
+        /**
+         * The time before which requests against this {@link Budget} must not be made, or {@code null}.
+         */
+        private Instant retryAfter;
+
+        /**
+         * The time of the next free slot of the paced requests against this {@link Budget}, or {@code null}.
+         */
+        private Instant nextSlot;
+
+        /**
+         * Constructs an instance of the {@link Budget} class.
+         */
+        private Budget() {
+            this.remaining = -1;
+        }
+    }
+
+    /**
+     * A claim of a request against a {@link Budget}.
+     *
+     * @param delay the duration to wait of this {@link Claim}
+     * @param reserved whether the request of this {@link Claim} was reserved, in which case it may be made once the
+     * duration has passed, rather than claimed again
+     */
+    private record Claim(Duration delay, boolean reserved) {
+    }
+
+    /**
+     * The number of requests of this {@link RateLimitGovernor} that are reserved for {@link Priority#INTERACTIVE}
+     * requests.
+     */
+    private final int reserve;
+
+    /**
+     * The remaining budget below which this {@link RateLimitGovernor} paces {@link Priority#BULK} requests.
+     */
+    private final int pacingThreshold;
+
+    /**
+     * The maximum number of attempts of a request of this {@link RateLimitGovernor}.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The maximum duration of a pause of this {@link RateLimitGovernor}.
+     */
+    private final Duration maxWait;
+
+    /**
+     * The {@link Budget}s of this {@link RateLimitGovernor}, keyed by {@link Resource}.
+     */
+    private final Map<Resource, Budget> budgets;
+
+    /**
+     * The name of the rate limit resource header.
+     */
+    private static final String RESOURCE_HEADER_NAME;
+
+    /**
+     * The name of the rate limit remaining header.
+     */
+    private static final String REMAINING_HEADER_NAME;
+
+    /**
+     * The name of the rate limit reset header.
+     */
+    private static final String RESET_HEADER_NAME;
+
+    /**
+     * The duration waited after a secondary rate limit that does not specify one.
+     */
+    private static final Duration DEFAULT_WAIT;
+
+    /**
+     * The {@link Logger} of the {@link RateLimitGovernor} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        RESOURCE_HEADER_NAME = "X-RateLimit-Resource";
+
+        REMAINING_HEADER_NAME = "X-RateLimit-Remaining";
+
+        RESET_HEADER_NAME = "X-RateLimit-Reset";
+
+        DEFAULT_WAIT = Duration.ofMinutes(1L);
+
+        LOGGER = LoggerFactory.getLogger(RateLimitGovernor.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link RateLimitGovernor} class.
+     *
+     * @param reserve the reserve to be used in the operation
+     * @param pacingThreshold the pacing threshold to be used in the operation
+     * @param maxAttempts the maximum number of attempts to be used in the operation
+     * @param maxWait the maximum wait to be used in the operation
+     * @throws NullPointerException if the specified maximum wait is {@code null}
+     * @throws IllegalArgumentException if the specified reserve or pacing threshold is negative or the specified
+     * maximum number of attempts is not positive
+     */
+    @Autowired
+    public RateLimitGovernor(@Value("${github.rate-limit.reserve:100}") int reserve,
+        @Value("${github.rate-limit.pacing-threshold:1000}") int pacingThreshold,
+        @Value("${github.rate-limit.max-attempts:3}") int maxAttempts,
+        @Value("${github.rate-limit.max-wait:1h}") Duration maxWait) {
+        Objects.requireNonNull(maxWait);
+
+        if ((reserve < 0) || (pacingThreshold < 0)) {
+            String message = "The reserve and pacing threshold must not be negative";
+
+            throw new IllegalArgumentException(message);
+        } else if (maxAttempts <= 0) {
+            String message = "The maximum number of attempts must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.reserve = reserve;
+
+        this.pacingThreshold = pacingThreshold;
+
+        this.maxAttempts = maxAttempts;
+
+        this.maxWait = maxWait;
+
+        this.budgets = new EnumMap<>(Resource.class);
+
+        for (Resource resource : Resource.values()) {
+            this.budgets.put(resource, new Budget());
+        }
+    }
+
+    /**
+     * Returns the remaining budget of the specified {@link Resource} of this {@link RateLimitGovernor}, or {@code -1}
+     * if it is unknown.
+     *
+     * @param resource the {@link Resource} to be used in the operation
+     * @return the remaining budget of the specified {@link Resource}, or {@code -1} if it is unknown
+     * @throws NullPointerException if the specified {@link Resource} is {@code null}
+     */
+    public synchronized int getRemaining(Resource resource) {
+        Objects.requireNonNull(resource);
+
+        Budget budget = this.budgets.get(resource);
+
+        return budget.remaining;
+    }
+
+    /**
+     * Returns the value of the specified header of the specified {@link HttpHeaders} as a {@code long}, or
+     * {@code null} if it is missing or malformed.
+     *
+     * @param httpHeaders the {@link HttpHeaders} to be used in the operation
+     * @param headerName the header name to be used in the operation
+     * @return the value of the specified header as a {@code long}, or {@code null} if it is missing or malformed
+     * @throws NullPointerException if the specified {@link HttpHeaders} or header name is {@code null}
+     */
+    private Long getLongHeader(HttpHeaders httpHeaders, String headerName) {
+        Objects.requireNonNull(httpHeaders);
+
+        Objects.requireNonNull(headerName);
+
+        String value = httpHeaders.getFirst(headerName);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(value.strip());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Updates the {@link Budget} of the {@link Resource} named by the specified {@link HttpHeaders} using their rate
+     * limit headers. Within one rate limit window, the remaining budget only goes down, so a response that was sent
+     * before other reserved requests were made does not hand their budget back.
+     *
+     * @param httpHeaders the {@link HttpHeaders} to be used in the operation
+     * @throws NullPointerException if the specified {@link HttpHeaders} is {@code null}
+     */
+    private synchronized void update(HttpHeaders httpHeaders) {
+        Objects.requireNonNull(httpHeaders);
+
+        String headerValue = httpHeaders.getFirst(RateLimitGovernor.RESOURCE_HEADER_NAME);
+
+        Resource resource = Resource.fromHeaderValue(headerValue);
+
+        if (resource == null) {
+            return;
+        }
+
+        Long newRemaining = this.getLongHeader(httpHeaders, RateLimitGovernor.REMAINING_HEADER_NAME);
+
+        Long newReset = this.getLongHeader(httpHeaders, RateLimitGovernor.RESET_HEADER_NAME);
+
+        if ((newRemaining == null) || (newReset == null)) {
+            return;
+        }
+
+        Budget budget = this.budgets.get(resource);
+
+        Instant newResetTime = Instant.ofEpochSecond(newReset);
+
+        if (newResetTime.equals(budget.reset) && (budget.remaining >= 0) && (newRemaining > budget.remaining)) {
+            return;
+        }
+
+        budget.remaining = newRemaining.intValue();
+
+        budget.reset = newResetTime;
+    }
+
+    /**
+     * Returns the {@link Claim} of a request of the specified {@link Resource} and {@link Priority} at the specified
+     * time. If the budget allows the request, one request of it is reserved, and a paced request is given the next
+     * free slot, so that concurrent requests are spread out rather than all seeing the same budget.
+     *
+     * @param resource the {@link Resource} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param now the time to be used in the operation
+     * @return the {@link Claim} of a request of the specified {@link Resource} and {@link Priority}
+     * @throws NullPointerException if the specified {@link Resource}, {@link Priority}, or time is {@code null}
+     */
+    private synchronized Claim claim(Resource resource, Priority priority, Instant now) {
+        Objects.requireNonNull(resource);
+
+        Objects.requireNonNull(priority);
+
+        Objects.requireNonNull(now);
+
+        Budget budget = this.budgets.get(resource);
+
+        if ((budget.retryAfter != null) && budget.retryAfter.isAfter(now)) {
+            Duration wait = Duration.between(now, budget.retryAfter);
+
+            return new Claim(wait, false);
+        }
+
+        if ((budget.remaining < 0) || (budget.reset == null) || !budget.reset.isAfter(now)) {
+            return new Claim(Duration.ZERO, true);
+        }
+
+        Duration untilReset = Duration.between(now, budget.reset);
+
+        int floor = (priority == Priority.BULK) ? this.reserve : 0;
+
+        if (budget.remaining <= floor) {
+            return new Claim(untilReset, false);
+        }
+
+        Duration wait = Duration.ZERO;
+
+        if ((priority == Priority.BULK) && (budget.remaining < this.pacingThreshold)) {
+            Duration interval = untilReset.dividedBy(budget.remaining - floor);
+
+            Instant slot = ((budget.nextSlot == null) || budget.nextSlot.isBefore(now)) ? now : budget.nextSlot;
+
+            budget.nextSlot = slot.plus(interval);
+
+            wait = Duration.between(now, slot);
+        }
+
+        budget.remaining--;
+
+        return new Claim(wait, true);
+    }
+
+    /**
+     * Waits until a request of the specified {@link Resource} and {@link Priority} may be made, and reserves it.
+     *
+     * @param resource the {@link Resource} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @throws NullPointerException if the specified {@link Resource} or {@link Priority} is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private void acquire(Resource resource, Priority priority) throws InterruptedException {
+        Objects.requireNonNull(resource);
+
+        Objects.requireNonNull(priority);
+
+        Claim claim = this.claim(resource, priority, Instant.now());
+
+        while (!claim.reserved()) {
+            Duration wait = claim.delay();
+
+            if (wait.compareTo(this.maxWait) > 0) {
+                wait = this.maxWait;
+            }
+
+            if (wait.toSeconds() > 0L) {
+                String message = "Pausing a %s %s GitHub request for %s".formatted(priority, resource, wait);
+
+                RateLimitGovernor.LOGGER.info(message);
+            }
+
+            Thread.sleep(wait);
+
+            claim = this.claim(resource, priority, Instant.now());
+        }
+
+        Thread.sleep(claim.delay());
+    }
+
+    /**
+     * Returns the duration to wait before retrying the request that failed with the specified
+     * {@link WebClientResponseException}, or {@code null} if it did not fail because of a rate limit.
+     *
+     * @param exception the {@link WebClientResponseException} to be used in the operation
+     * @return the duration to wait before retrying the request, or {@code null} if it did not fail because of a rate
+     * limit
+     * @throws NullPointerException if the specified {@link WebClientResponseException} is {@code null}
+     */
+    private Duration getRetryWait(WebClientResponseException exception) {
+        Objects.requireNonNull(exception);
+
+        HttpStatusCode statusCode = exception.getStatusCode();
+
+        HttpHeaders httpHeaders = exception.getHeaders();
+
+        Long retryAfterSeconds = this.getLongHeader(httpHeaders, HttpHeaders.RETRY_AFTER);
+
+        Long remainingCount = this.getLongHeader(httpHeaders, RateLimitGovernor.REMAINING_HEADER_NAME);
+
+        Long resetSecond = this.getLongHeader(httpHeaders, RateLimitGovernor.RESET_HEADER_NAME);
+
+        boolean limited = (statusCode == HttpStatus.TOO_MANY_REQUESTS) || ((statusCode == HttpStatus.FORBIDDEN)
+            && ((retryAfterSeconds != null) || Objects.equals(remainingCount, 0L)));
+
+        if (!limited) {
+            return null;
+        } else if (retryAfterSeconds != null) {
+            return Duration.ofSeconds(retryAfterSeconds);
+        } else if (Objects.equals(remainingCount, 0L) && (resetSecond != null)) {
+            Instant resetTime = Instant.ofEpochSecond(resetSecond);
+
+            Duration wait = Duration.between(Instant.now(), resetTime);
+
+            return wait.isNegative() ? Duration.ZERO : wait;
+        }
+
+        return RateLimitGovernor.DEFAULT_WAIT;
+    }
+
+    /**
+     * Returns the {@link ResponseEntity} of the specified request against the specified {@link Resource}, made with
+     * the specified {@link Priority}. The request is paced according to the remaining budget of the {@link Resource},
+     * and it is retried after a pause if it hits a rate limit.
+     *
+     * @param resource the {@link Resource} to be used in the operation
+     * @param priority the {@link Priority} to be used in the operation
+     * @param request the request to be used in the operation
+     * @param <T> the type of the body of the {@link ResponseEntity}
+     * @return the {@link ResponseEntity} of the specified request
+     * @throws NullPointerException if the specified {@link Resource}, {@link Priority}, or request is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws WebClientResponseException if the request fails for a reason other than a rate limit, or if it still
+     * hits a rate limit after the maximum number of attempts
+     */
+    public <T> ResponseEntity<T> exchange(Resource resource, Priority priority, Supplier<ResponseEntity<T>> request)
+        throws InterruptedException {
+        Objects.requireNonNull(resource);
+
+        Objects.requireNonNull(priority);
+
+        Objects.requireNonNull(request);
+
+        for (int attempt = 1; ; attempt++) {
+            this.acquire(resource, priority);
+
+            try {
+                return request.get();
+            } catch (WebClientResponseException e) {
+                Duration wait = this.getRetryWait(e);
+
+                if ((wait == null) || (attempt >= this.maxAttempts)) {
+                    throw e;
+                }
+
+                synchronized (this) {
+                    Budget budget = this.budgets.get(resource);
+
+                    Instant newRetryAfter = Instant.now()
+                                                   .plus(wait);
+
+                    if ((budget.retryAfter == null) || newRetryAfter.isAfter(budget.retryAfter)) {
+                        budget.retryAfter = newRetryAfter;
+                    }
+                }
+
+                String message = "A %s GitHub request hit a rate limit; retrying after %s".formatted(resource, wait);
+
+                RateLimitGovernor.LOGGER.warn(message);
+            }
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Objects.requireNonNull(request);
+
+        Objects.requireNonNull(next);
+
+        return next.exchange(request)
+                   .doOnNext(response -> {
+                       HttpHeaders httpHeaders = response.headers()
+                                                         .asHttpHeaders();
+
+                       this.update(httpHeaders);
+                   });
+    }
+}
\ No newline at end of file
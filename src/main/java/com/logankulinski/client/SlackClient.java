@@ -0,0 +1,241 @@
+package com.logankulinski.client;
+
+import org.springframework.stereotype.Component;
+import com.slack.api.methods.AsyncMethodsClient;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import com.slack.api.methods.MethodsCompletionException;
+import com.slack.api.methods.SlackApiException;
+import okhttp3.Response;
+import java.util.concurrent.CompletableFuture;
+import com.slack.api.methods.response.chat.ChatPostMessageResponse;
+import com.slack.api.methods.request.chat.ChatPostMessageRequest;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import com.slack.api.methods.response.conversations.ConversationsHistoryResponse;
+import com.slack.api.methods.request.conversations.ConversationsHistoryRequest;
+import com.slack.api.methods.response.conversations.ConversationsListResponse;
+import com.slack.api.methods.request.conversations.ConversationsListRequest;
+
+/**
+ * A rate-limited client of the Slack Web API in the Spring Projects First-timer Bot. Messages are posted with the
+ * asynchronous methods client of the Slack SDK behind a {@link TokenBucket} tuned to the limit of
+ * {@code chat.postMessage}, which is about one message per second per channel with short bursts allowed. A message
+ * waiting for a token is scheduled rather than blocking a thread, so a burst of messages is pipelined up to the limit
+ * instead of being sent one round trip at a time. A 429 pauses the {@link TokenBucket} for its Retry-After and the
+ * message is retried. The conversation methods, which have limits of their own, are not paced, but they are retried
+ * after a 429 as well.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+public final class SlackClient {
+    /**
+     * The {@link AsyncMethodsClient} of this {@link SlackClient}.
+     */
+    private final AsyncMethodsClient methods;
+
+    /**
+     * The {@link TokenBucket} of this {@link SlackClient}, used to pace {@code chat.postMessage}.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * The maximum number of attempts of a request of this {@link SlackClient}.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The maximum duration of a pause of this {@link SlackClient}.
+     */
+    private final Duration maxWait;
+
+    /**
+     * The duration waited after a 429 that does not specify one.
+     */
+    private static final Duration DEFAULT_WAIT;
+
+    /**
+     * The {@link Logger} of the {@link SlackClient} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        DEFAULT_WAIT = Duration.ofSeconds(1L);
+
+        LOGGER = LoggerFactory.getLogger(SlackClient.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link SlackClient} class.
+     *
+     * @param methods the {@link AsyncMethodsClient} to be used in the operation
+     * @param interval the interval between messages to be used in the operation
+     * @param burst the burst to be used in the operation
+     * @param maxAttempts the maximum number of attempts to be used in the operation
+     * @param maxWait the maximum wait to be used in the operation
+     * @throws NullPointerException if the specified {@link AsyncMethodsClient}, interval, or maximum wait is
+     * {@code null}
+     * @throws IllegalArgumentException if the specified interval, burst, or maximum number of attempts is not positive
+     */
+    @Autowired
+    public SlackClient(AsyncMethodsClient methods, @Value("${slack.rate-limit.interval:1s}") Duration interval,
+        @Value("${slack.rate-limit.burst:4}") int burst, @Value("${slack.rate-limit.max-attempts:3}") int maxAttempts,
+        @Value("${slack.rate-limit.max-wait:5m}") Duration maxWait) {
+        Objects.requireNonNull(methods);
+
+        Objects.requireNonNull(interval);
+
+        Objects.requireNonNull(maxWait);
+
+        if (maxAttempts <= 0) {
+            String message = "The maximum number of attempts must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.methods = methods;
+
+        this.bucket = new TokenBucket(interval, burst);
+
+        this.maxAttempts = maxAttempts;
+
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Returns the duration to wait before retrying the request that failed with the specified {@link Throwable}, or
+     * {@code null} if it did not fail because of a rate limit. The asynchronous methods client reports a 429 as a
+     * {@link MethodsCompletionException} wrapping a {@link SlackApiException}.
+     *
+     * @param throwable the {@link Throwable} to be used in the operation
+     * @return the duration to wait before retrying the request, or {@code null} if it did not fail because of a rate
+     * limit
+     * @throws NullPointerException if the specified {@link Throwable} is {@code null}
+     */
+    private Duration getRetryWait(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+
+        Throwable cause = (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+
+        if (!(cause instanceof MethodsCompletionException completionException)) {
+            return null;
+        }
+
+        SlackApiException exception = completionException.getSlackApiException();
+
+        Response response = (exception == null) ? null : exception.getResponse();
+
+        if ((response == null) || (response.code() != 429)) {
+            return null;
+        }
+
+        String retryAfter = response.header("Retry-After");
+
+        if (retryAfter == null) {
+            return SlackClient.DEFAULT_WAIT;
+        }
+
+        try {
+            long seconds = Long.parseLong(retryAfter.trim());
+
+            return Duration.ofSeconds(seconds);
+        } catch (NumberFormatException e) {
+            return SlackClient.DEFAULT_WAIT;
+        }
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} of the response of the request made by the specified {@link Supplier}, which
+     * is retried after a 429 until the maximum number of attempts is reached. A paced request is made once a token of
+     * the {@link TokenBucket} is available, and a 429 pauses the {@link TokenBucket}. Any other request is made after
+     * the specified delay.
+     *
+     * @param call the {@link Supplier} of the request to be used in the operation
+     * @param paced whether the request should be paced by the {@link TokenBucket}
+     * @param delay the delay in nanoseconds to be used in the operation, if the request is not paced
+     * @param attempt the number of the attempt to be used in the operation
+     * @param <T> the type of the response
+     * @return a {@link CompletableFuture} of the response of the request made by the specified {@link Supplier}
+     * @throws NullPointerException if the specified {@link Supplier} is {@code null}
+     */
+    private <T> CompletableFuture<T> send(Supplier<CompletableFuture<T>> call, boolean paced, long delay,
+        int attempt) {
+        Objects.requireNonNull(call);
+
+        long requestDelay = paced ? this.bucket.reserve() : delay;
+
+        Executor executor = CompletableFuture.delayedExecutor(requestDelay, TimeUnit.NANOSECONDS);
+
+        return CompletableFuture.supplyAsync(call, executor)
+                                .thenCompose(Function.identity())
+                                .exceptionallyCompose(throwable -> {
+                                    Duration wait = this.getRetryWait(throwable);
+
+                                    if ((wait == null) || (attempt >= this.maxAttempts)
+                                        || (wait.compareTo(this.maxWait) > 0)) {
+                                        return CompletableFuture.failedFuture(throwable);
+                                    }
+
+                                    if (paced) {
+                                        this.bucket.pause(wait);
+                                    }
+
+                                    String message = "A Slack request hit a rate limit; retrying after %s".formatted(
+                                        wait);
+
+                                    SlackClient.LOGGER.warn(message);
+
+                                    return this.send(call, paced, wait.toNanos(), attempt + 1);
+                                });
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} of the response of the specified {@link ChatPostMessageRequest}. The request
+     * is paced to the rate limit of {@code chat.postMessage} and retried after a 429.
+     *
+     * @param request the {@link ChatPostMessageRequest} to be used in the operation
+     * @return a {@link CompletableFuture} of the response of the specified {@link ChatPostMessageRequest}
+     * @throws NullPointerException if the specified {@link ChatPostMessageRequest} is {@code null}
+     */
+    public CompletableFuture<ChatPostMessageResponse> chatPostMessage(ChatPostMessageRequest request) {
+        Objects.requireNonNull(request);
+
+        return this.send(() -> this.methods.chatPostMessage(request), true, 0L, 1);
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} of the response of the specified {@link ConversationsHistoryRequest}. The
+     * request is retried after a 429.
+     *
+     * @param request the {@link ConversationsHistoryRequest} to be used in the operation
+     * @return a {@link CompletableFuture} of the response of the specified {@link ConversationsHistoryRequest}
+     * @throws NullPointerException if the specified {@link ConversationsHistoryRequest} is {@code null}
+     */
+    public CompletableFuture<ConversationsHistoryResponse> conversationsHistory(ConversationsHistoryRequest request) {
+        Objects.requireNonNull(request);
+
+        return this.send(() -> this.methods.conversationsHistory(request), false, 0L, 1);
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} of the response of the specified {@link ConversationsListRequest}. The
+     * request is retried after a 429.
+     *
+     * @param request the {@link ConversationsListRequest} to be used in the operation
+     * @return a {@link CompletableFuture} of the response of the specified {@link ConversationsListRequest}
+     * @throws NullPointerException if the specified {@link ConversationsListRequest} is {@code null}
+     */
+    public CompletableFuture<ConversationsListResponse> conversationsList(ConversationsListRequest request) {
+        Objects.requireNonNull(request);
+
+        return this.send(() -> this.methods.conversationsList(request), false, 0L, 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.logankulinski.client;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A token bucket used to pace requests in the Spring Projects First-timer Bot. It holds up to its capacity of tokens
+ * and gains one token per interval, so a burst of up to the capacity is let through at once and the requests after it
+ * are spaced one interval apart. Rather than blocking, a request reserves a token and is told how long to wait for
+ * it, so callers can schedule the request instead of holding a thread.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+final class TokenBucket {
+    /**
+     * The interval in nanoseconds at which this {@link TokenBucket} gains a token.
+     */
+    private final long interval;
+
+    /**
+     * The time in nanoseconds by which a request of this {@link TokenBucket} may run ahead of the steady rate, which
+     * lets a burst of up to its capacity through at once.
+     */
+    private final long burstTolerance;
+
+    /**
+     * The time in nanoseconds at which the next token of this {@link TokenBucket} is due at the steady rate.
+     */
+    private long nextTime;
+
+    /**
+     * Constructs an instance of the {@link TokenBucket} class.
+     *
+     * @param interval the interval to be used in the operation
+     * @param capacity the capacity to be used in the operation
+     * @throws NullPointerException if the specified interval is {@code null}
+     * @throws IllegalArgumentException if the specified interval or capacity is not positive
+     */
+    TokenBucket(Duration interval, int capacity) {
+        Objects.requireNonNull(interval);
+
+        if (interval.isNegative() || interval.isZero()) {
+            String message = "The interval must be positive";
+
+            throw new IllegalArgumentException(message);
+        } else if (capacity <= 0) {
+            String message = "The capacity must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.interval = interval.toNanos();
+
+        this.burstTolerance = (capacity - 1L) * this.interval;
+
+        this.nextTime = System.nanoTime();
+    }
+
+    /**
+     * Reserves a token of this {@link TokenBucket} and returns the time to wait before it may be used.
+     *
+     * @return the time in nanoseconds to wait before the reserved token may be used
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+
+        long startTime = Math.max(now, this.nextTime - this.burstTolerance);
+
+        this.nextTime = Math.max(this.nextTime, startTime) + this.interval;
+
+        return startTime - now;
+    }
+
+    /**
+     * Pauses this {@link TokenBucket} for the specified duration, so that no token may be used before it has passed
+     * and the burst is used up.
+     *
+     * @param duration the duration to be used in the operation
+     * @throws NullPointerException if the specified duration is {@code null}
+     */
+    synchronized void pause(Duration duration) {
+        Objects.requireNonNull(duration);
+
+        long resumeTime = System.nanoTime() + duration.toNanos();
+
+        this.nextTime = Math.max(this.nextTime, resumeTime + this.burstTolerance);
+    }
+}
\ No newline at end of file
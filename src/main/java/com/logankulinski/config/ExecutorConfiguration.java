@@ -0,0 +1,133 @@
+package com.logankulinski.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Bean;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import java.util.concurrent.Executors;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * A configuration for executors in the Spring Projects First-timer Bot. Each executor captures the context of the
+ * submitting thread, such as the current span, and restores it around each task, so the work it runs is traced under
+ * the stage that submitted it.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Configuration
+public class ExecutorConfiguration {
+    /**
+     * Returns the specified {@link ExecutorService} wrapped so that each task runs in the context of the thread that
+     * submitted it.
+     *
+     * @param executor the {@link ExecutorService} to be used in the operation
+     * @return the specified {@link ExecutorService} wrapped so that each task runs in the context of its submitter
+     */
+    private static ExecutorService wrap(ExecutorService executor) {
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder()
+                                                                       .build();
+
+        return ContextExecutorService.wrap(executor, snapshotFactory::captureAll);
+    }
+
+    /**
+     * Returns an {@link ExecutorService} used to fetch from GitHub using the specified concurrency.
+     *
+     * @param concurrency the concurrency to be used in the operation
+     * @return an {@link ExecutorService} used to fetch from GitHub using the specified concurrency
+     * @throws IllegalArgumentException if the specified concurrency is not positive
+     */
+    @Bean
+    public ExecutorService fetchExecutor(@Value("${github.fetch.concurrency:4}") int concurrency) {
+        if (concurrency <= 0) {
+            String message = "The concurrency must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        ThreadFactory threadFactory = new CustomizableThreadFactory("github-fetch-");
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, threadFactory);
+
+        return ExecutorConfiguration.wrap(executor);
+    }
+
+    /**
+     * Returns an {@link ExecutorService} used to fetch the pages of paginated GitHub responses using the specified
+     * concurrency. It is separate from the fetch {@link ExecutorService} so that a fetch waiting on its pages never
+     * starves them of threads.
+     *
+     * @param concurrency the concurrency to be used in the operation
+     * @return an {@link ExecutorService} used to fetch the pages of paginated GitHub responses
+     * @throws IllegalArgumentException if the specified concurrency is not positive
+     */
+    @Bean
+    public ExecutorService pageExecutor(@Value("${github.fetch.page-concurrency:8}") int concurrency) {
+        if (concurrency <= 0) {
+            String message = "The concurrency must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        ThreadFactory threadFactory = new CustomizableThreadFactory("github-page-");
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, threadFactory);
+
+        return ExecutorConfiguration.wrap(executor);
+    }
+
+    /**
+     * Returns an {@link ExecutorService} used to send notifications outside of the threads that receive webhooks, so
+     * that a webhook delivery is answered without waiting on Slack.
+     *
+     * @return an {@link ExecutorService} used to send notifications
+     */
+    @Bean
+    public ExecutorService notificationExecutor() {
+        ThreadFactory threadFactory = new CustomizableThreadFactory("notification-");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
+
+        return ExecutorConfiguration.wrap(executor);
+    }
+
+    /**
+     * Returns an {@link ExecutorService} used by the workers that deliver the notifications of the outbox using the
+     * specified number of workers, so that one slow Slack call does not hold up the notifications behind it.
+     *
+     * @param workers the number of workers to be used in the operation
+     * @return an {@link ExecutorService} used by the workers that deliver the notifications of the outbox
+     * @throws IllegalArgumentException if the specified number of workers is not positive
+     */
+    @Bean
+    public ExecutorService deliveryExecutor(@Value("${slack.outbox.workers:4}") int workers) {
+        if (workers <= 0) {
+            String message = "The number of workers must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        ThreadFactory threadFactory = new CustomizableThreadFactory("notification-delivery-");
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, threadFactory);
+
+        return ExecutorConfiguration.wrap(executor);
+    }
+
+    /**
+     * Returns a {@link ScheduledExecutorService} used to renew the leases of the jobs while they run. It is separate
+     * from the scheduler of the jobs so that a lease is renewed even when every scheduler thread is busy.
+     *
+     * @return a {@link ScheduledExecutorService} used to renew the leases of the jobs
+     */
+    @Bean
+    public ScheduledExecutorService leaseExecutor() {
+        ThreadFactory threadFactory = new CustomizableThreadFactory("job-lease-");
+
+        return Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+}
\ No newline at end of file
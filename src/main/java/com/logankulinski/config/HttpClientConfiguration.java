@@ -10,6 +10,15 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import java.time.Duration;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import com.logankulinski.client.ConditionalRequestCache;
+import com.logankulinski.client.HostConcurrencyLimiter;
+import com.logankulinski.client.RateLimitGovernor;
+import com.logankulinski.client.GitHubGraphQlClient;
+import com.logankulinski.client.GitHubPageDecoder;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 
 /**
  * A configuration for HTTP clients in the Spring Projects First-timer Bot.
@@ -19,21 +28,90 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 @Configuration
 public class HttpClientConfiguration {
     /**
-     * Returns a {@link GitHubClient} using the specified username and token.
+     * Returns a {@link ConnectionProvider} for the GitHub API using the specified maximum number of connections,
+     * maximum number of pending acquires, pending acquire timeout, maximum idle time, maximum life time, and eviction
+     * interval. Its metrics are registered with Micrometer.
      *
+     * @param maxConnections the maximum number of connections to be used in the operation
+     * @param pendingAcquireMaxCount the maximum number of pending acquires to be used in the operation
+     * @param pendingAcquireTimeout the pending acquire timeout to be used in the operation
+     * @param maxIdleTime the maximum idle time to be used in the operation
+     * @param maxLifeTime the maximum life time to be used in the operation
+     * @param evictionInterval the eviction interval to be used in the operation
+     * @return a {@link ConnectionProvider} for the GitHub API
+     * @throws NullPointerException if the specified pending acquire timeout, maximum idle time, maximum life time, or
+     * eviction interval is {@code null}
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider gitHubConnectionProvider(@Value("${github.http.max-connections:16}") int maxConnections,
+        @Value("${github.http.pending-acquire-max-count:64}") int pendingAcquireMaxCount,
+        @Value("${github.http.pending-acquire-timeout:30s}") Duration pendingAcquireTimeout,
+        @Value("${github.http.max-idle-time:30s}") Duration maxIdleTime,
+        @Value("${github.http.max-life-time:5m}") Duration maxLifeTime,
+        @Value("${github.http.eviction-interval:30s}") Duration evictionInterval) {
+        Objects.requireNonNull(pendingAcquireTimeout);
+
+        Objects.requireNonNull(maxIdleTime);
+
+        Objects.requireNonNull(maxLifeTime);
+
+        Objects.requireNonNull(evictionInterval);
+
+        return ConnectionProvider.builder("github")
+                                 .maxConnections(maxConnections)
+                                 .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                                 .pendingAcquireTimeout(pendingAcquireTimeout)
+                                 .maxIdleTime(maxIdleTime)
+                                 .maxLifeTime(maxLifeTime)
+                                 .evictInBackground(evictionInterval)
+                                 .metrics(true)
+                                 .build();
+    }
+
+    /**
+     * Returns an {@link HttpServiceProxyFactory} for the GitHub API using the specified base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, and {@link ConnectionProvider}. Responses are requested with gzip compression, and the
+     * request metrics are tagged with repository-agnostic URIs to keep their cardinality low. The
+     * {@link WebClient.Builder} is the one configured by Spring Boot, so each call is also observed by endpoint.
+     *
+     * @param webClientBuilder the {@link WebClient.Builder} to be used in the operation
+     * @param baseUrl the base URL to be used in the operation
      * @param username the username to be used in the operation
      * @param token the token to be used in the operation
-     * @return a {@link GitHubClient} using the specified username and token
-     * @throws NullPointerException if the specified username or token is {@code null}
+     * @param cache the {@link ConditionalRequestCache} to be used in the operation
+     * @param limiter the {@link HostConcurrencyLimiter} to be used in the operation
+     * @param governor the {@link RateLimitGovernor} to be used in the operation
+     * @param decoder the {@link GitHubPageDecoder} to be used in the operation
+     * @param connectionProvider the {@link ConnectionProvider} to be used in the operation
+     * @param http2 whether HTTP/2 should be negotiated, falling back to HTTP/1.1
+     * @return an {@link HttpServiceProxyFactory} for the GitHub API using the specified base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, and {@link ConnectionProvider}
+     * @throws NullPointerException if the specified {@link WebClient.Builder}, base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, or {@link ConnectionProvider} is {@code null}
      */
-    @Bean
-    public GitHubClient gitHubClient(@Value("${github.username}") String username,
-        @Value("${github.token}") String token) {
+    private HttpServiceProxyFactory getHttpServiceProxyFactory(WebClient.Builder webClientBuilder, String baseUrl,
+        String username, String token, ConditionalRequestCache cache, HostConcurrencyLimiter limiter,
+        RateLimitGovernor governor, GitHubPageDecoder decoder, ConnectionProvider connectionProvider, boolean http2) {
+        Objects.requireNonNull(webClientBuilder);
+
+        Objects.requireNonNull(baseUrl);
+
         Objects.requireNonNull(username);
 
         Objects.requireNonNull(token);
 
-        String baseUrl = "https://api.github.com";
+        Objects.requireNonNull(cache);
+
+        Objects.requireNonNull(limiter);
+
+        Objects.requireNonNull(governor);
+
+        Objects.requireNonNull(decoder);
+
+        Objects.requireNonNull(connectionProvider);
 
         byte[] bytes = "%s:%s".formatted(username, token)
                               .getBytes();
@@ -45,21 +123,108 @@ public class HttpClientConfiguration {
 
         int byteCount = 512_000;
 
-        WebClient webClient = WebClient.builder()
-                                       .baseUrl(baseUrl)
-                                       .defaultHeader("Authorization", authorizationHeader)
-                                       .codecs(codecs -> codecs.defaultCodecs()
-                                                               .maxInMemorySize(byteCount))
-                                       .build();
+        HttpProtocol[] protocols = http2 ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+            : new HttpProtocol[] {HttpProtocol.HTTP11};
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .protocol(protocols)
+                                          .compress(true)
+                                          .metrics(true, uri -> uri.replaceFirst("^/repos/[^/]+/[^/]+",
+                                              "/repos/{owner}/{repository}"));
+
+        ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+
+        WebClient webClient = webClientBuilder.clientConnector(connector)
+                                              .baseUrl(baseUrl)
+                                              .defaultHeader("Authorization", authorizationHeader)
+                                              .codecs(codecs -> {
+                                                  codecs.defaultCodecs()
+                                                        .maxInMemorySize(byteCount);
+
+                                                  codecs.customCodecs()
+                                                        .register(decoder);
+                                              })
+                                              .filter(cache)
+                                              .filter(limiter)
+                                              .filter(governor)
+                                              .build();
 
         WebClientAdapter webClientAdapter = WebClientAdapter.forClient(webClient);
 
         Duration timeout = Duration.ofMinutes(1L);
 
-        HttpServiceProxyFactory httpServiceProxyFactory = HttpServiceProxyFactory.builder(webClientAdapter)
-                                                                                 .blockTimeout(timeout)
-                                                                                 .build();
+        return HttpServiceProxyFactory.builder(webClientAdapter)
+                                      .blockTimeout(timeout)
+                                      .build();
+    }
+
+    /**
+     * Returns a {@link GitHubClient} using the specified {@link WebClient.Builder}, base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, and {@link ConnectionProvider}.
+     *
+     * @param webClientBuilder the {@link WebClient.Builder} to be used in the operation
+     * @param baseUrl the base URL to be used in the operation
+     * @param username the username to be used in the operation
+     * @param token the token to be used in the operation
+     * @param cache the {@link ConditionalRequestCache} to be used in the operation
+     * @param limiter the {@link HostConcurrencyLimiter} to be used in the operation
+     * @param governor the {@link RateLimitGovernor} to be used in the operation
+     * @param decoder the {@link GitHubPageDecoder} to be used in the operation
+     * @param connectionProvider the {@link ConnectionProvider} to be used in the operation
+     * @param http2 whether HTTP/2 should be negotiated, falling back to HTTP/1.1
+     * @return a {@link GitHubClient} using the specified {@link WebClient.Builder}, base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, and {@link ConnectionProvider}
+     * @throws NullPointerException if the specified {@link WebClient.Builder}, base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, or {@link ConnectionProvider} is {@code null}
+     */
+    @Bean
+    public GitHubClient gitHubClient(WebClient.Builder webClientBuilder,
+        @Value("${github.base-url:https://api.github.com}") String baseUrl,
+        @Value("${github.username}") String username, @Value("${github.token}") String token,
+        ConditionalRequestCache cache, HostConcurrencyLimiter limiter, RateLimitGovernor governor,
+        GitHubPageDecoder decoder, ConnectionProvider connectionProvider,
+        @Value("${github.http.http2:true}") boolean http2) {
+        HttpServiceProxyFactory httpServiceProxyFactory = this.getHttpServiceProxyFactory(webClientBuilder,
+            baseUrl, username, token, cache, limiter, governor, decoder, connectionProvider, http2);
 
         return httpServiceProxyFactory.createClient(GitHubClient.class);
     }
+
+    /**
+     * Returns a {@link GitHubGraphQlClient} using the specified {@link WebClient.Builder}, base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, and {@link ConnectionProvider}.
+     *
+     * @param webClientBuilder the {@link WebClient.Builder} to be used in the operation
+     * @param baseUrl the base URL to be used in the operation
+     * @param username the username to be used in the operation
+     * @param token the token to be used in the operation
+     * @param cache the {@link ConditionalRequestCache} to be used in the operation
+     * @param limiter the {@link HostConcurrencyLimiter} to be used in the operation
+     * @param governor the {@link RateLimitGovernor} to be used in the operation
+     * @param decoder the {@link GitHubPageDecoder} to be used in the operation
+     * @param connectionProvider the {@link ConnectionProvider} to be used in the operation
+     * @param http2 whether HTTP/2 should be negotiated, falling back to HTTP/1.1
+     * @return a {@link GitHubGraphQlClient} using the specified {@link WebClient.Builder}, base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, and {@link ConnectionProvider}
+     * @throws NullPointerException if the specified {@link WebClient.Builder}, base URL, username, token,
+     * {@link ConditionalRequestCache}, {@link HostConcurrencyLimiter}, {@link RateLimitGovernor},
+     * {@link GitHubPageDecoder}, or {@link ConnectionProvider} is {@code null}
+     */
+    @Bean
+    public GitHubGraphQlClient gitHubGraphQlClient(WebClient.Builder webClientBuilder,
+        @Value("${github.base-url:https://api.github.com}") String baseUrl,
+        @Value("${github.username}") String username, @Value("${github.token}") String token,
+        ConditionalRequestCache cache, HostConcurrencyLimiter limiter, RateLimitGovernor governor,
+        GitHubPageDecoder decoder, ConnectionProvider connectionProvider,
+        @Value("${github.http.http2:true}") boolean http2) {
+        HttpServiceProxyFactory httpServiceProxyFactory = this.getHttpServiceProxyFactory(webClientBuilder,
+            baseUrl, username, token, cache, limiter, governor, decoder, connectionProvider, http2);
+
+        return httpServiceProxyFactory.createClient(GitHubGraphQlClient.class);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.logankulinski.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Bean;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import com.logankulinski.client.RateLimitGovernor;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import io.micrometer.core.instrument.Gauge;
+import com.logankulinski.service.NotificationService;
+
+/**
+ * A configuration for the metrics of the Spring Projects First-timer Bot that are read on demand. They are exposed
+ * through the Actuator metrics and Prometheus endpoints along with the metrics of the jobs and the GitHub client.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Configuration
+public class MetricsConfiguration {
+    /**
+     * Returns a {@link MeterBinder} of the remaining GitHub rate limits using the specified {@link RateLimitGovernor},
+     * with one gauge per {@link RateLimitGovernor.Resource} tagged by its name. Each gauge is {@link Double#NaN} until
+     * the first response reports its rate limit.
+     *
+     * @param governor the {@link RateLimitGovernor} to be used in the operation
+     * @return a {@link MeterBinder} of the remaining GitHub rate limits
+     * @throws NullPointerException if the specified {@link RateLimitGovernor} is {@code null}
+     */
+    @Bean
+    public MeterBinder gitHubRateLimitMetrics(RateLimitGovernor governor) {
+        Objects.requireNonNull(governor);
+
+        return registry -> {
+            for (RateLimitGovernor.Resource resource : RateLimitGovernor.Resource.values()) {
+                ToDoubleFunction<RateLimitGovernor> function = rateLimitGovernor -> {
+                    int remaining = rateLimitGovernor.getRemaining(resource);
+
+                    return (remaining == -1) ? Double.NaN : remaining;
+                };
+
+                Gauge.builder("github.rate.limit.remaining", governor, function)
+                     .description("The number of GitHub requests remaining in the rate limit")
+                     .tag("resource", resource.getHeaderValue())
+                     .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link MeterBinder} of the notification backlog using the specified {@link NotificationService}. The
+     * backlog is counted in the database each time it is read, and it is {@link Double#NaN} if it cannot be counted.
+     *
+     * @param notificationService the {@link NotificationService} to be used in the operation
+     * @return a {@link MeterBinder} of the notification backlog
+     * @throws NullPointerException if the specified {@link NotificationService} is {@code null}
+     */
+    @Bean
+    public MeterBinder notificationBacklogMetrics(NotificationService notificationService) {
+        Objects.requireNonNull(notificationService);
+
+        ToDoubleFunction<NotificationService> function = service -> {
+            Integer pendingCount = service.getPendingCount();
+
+            return (pendingCount == null) ? Double.NaN : pendingCount;
+        };
+
+        return registry -> Gauge.builder("bot.notification.backlog", notificationService, function)
+                                .description("The number of saved issues that are waiting to be notified")
+                                .register(registry);
+    }
+}
\ No newline at end of file
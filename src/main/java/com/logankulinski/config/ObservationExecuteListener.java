@@ -0,0 +1,109 @@
+package com.logankulinski.config;
+
+import org.jooq.ExecuteListener;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Objects;
+import org.jooq.ExecuteContext;
+import io.micrometer.observation.Observation;
+import org.jooq.ExecuteType;
+
+/**
+ * An {@link ExecuteListener} used to observe the statements that jOOQ executes in the Spring Projects First-timer
+ * Bot. Each execution is observed as a child of the current {@link Observation}, so the queries of a sync appear as
+ * spans under the stage that ran them.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+final class ObservationExecuteListener implements ExecuteListener {
+    /**
+     * The {@link ObservationRegistry} of this {@link ObservationExecuteListener}.
+     */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * The key of the {@link Observation} in the data of an {@link ExecuteContext}.
+     */
+    private static final String OBSERVATION_KEY;
+
+    /**
+     * The maximum length of a statement that is attached to an {@link Observation}.
+     */
+    private static final int MAX_STATEMENT_LENGTH;
+
+    static {
+        OBSERVATION_KEY = ObservationExecuteListener.class.getName() + ".observation";
+
+        MAX_STATEMENT_LENGTH = 200;
+    }
+
+    /**
+     * Constructs an instance of the {@link ObservationExecuteListener} class.
+     *
+     * @param observationRegistry the {@link ObservationRegistry} to be used in the operation
+     * @throws NullPointerException if the specified {@link ObservationRegistry} is {@code null}
+     */
+    ObservationExecuteListener(ObservationRegistry observationRegistry) {
+        Objects.requireNonNull(observationRegistry);
+
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Returns the statement of the specified {@link ExecuteContext}, truncated to the maximum statement length.
+     *
+     * @param context the {@link ExecuteContext} to be used in the operation
+     * @return the statement of the specified {@link ExecuteContext}, or an empty {@link String} if it has none
+     * @throws NullPointerException if the specified {@link ExecuteContext} is {@code null}
+     */
+    private static String getStatement(ExecuteContext context) {
+        Objects.requireNonNull(context);
+
+        String sql = context.sql();
+
+        if (sql == null) {
+            return "";
+        } else if (sql.length() > ObservationExecuteListener.MAX_STATEMENT_LENGTH) {
+            return sql.substring(0, ObservationExecuteListener.MAX_STATEMENT_LENGTH);
+        }
+
+        return sql;
+    }
+
+    @Override
+    public void executeStart(ExecuteContext context) {
+        Objects.requireNonNull(context);
+
+        ExecuteType type = context.type();
+
+        String statement = ObservationExecuteListener.getStatement(context);
+
+        Observation observation = Observation.createNotStarted("jooq.query", this.observationRegistry)
+                                             .lowCardinalityKeyValue("jooq.type", type.name())
+                                             .highCardinalityKeyValue("db.statement", statement)
+                                             .start();
+
+        context.data(ObservationExecuteListener.OBSERVATION_KEY, observation);
+    }
+
+    @Override
+    public void exception(ExecuteContext context) {
+        Objects.requireNonNull(context);
+
+        Object data = context.data(ObservationExecuteListener.OBSERVATION_KEY);
+
+        if ((data instanceof Observation observation) && (context.exception() != null)) {
+            observation.error(context.exception());
+        }
+    }
+
+    @Override
+    public void end(ExecuteContext context) {
+        Objects.requireNonNull(context);
+
+        Object data = context.data(ObservationExecuteListener.OBSERVATION_KEY);
+
+        if (data instanceof Observation observation) {
+            observation.stop();
+        }
+    }
+}
\ No newline at end of file
@@ -16,22 +16,25 @@ import com.rollbar.spring.webmvc.RollbarSpringConfigBuilder;
 @Configuration
 public class RollbarConfiguration {
     /**
-     * Returns a {@link Rollbar} using the specified access token and environment.
+     * Returns a {@link Rollbar} using the specified access token, environment, and enabled flag. A disabled
+     * {@link Rollbar} does not send anything.
      *
      * @param accessToken the access token to be used in the operation
      * @param environment the environment to be used in the operation
-     * @return a {@link Rollbar} using the specified access token and environment
+     * @param enabled whether the {@link Rollbar} should send reports
+     * @return a {@link Rollbar} using the specified access token, environment, and enabled flag
      * @throws NullPointerException if the specified access token or environment is {@code null}
      */
     @Bean
     public Rollbar rollbar(@Value("${rollbar.access-token}") String accessToken,
-        @Value("${rollbar.environment}") String environment) {
+        @Value("${rollbar.environment}") String environment, @Value("${rollbar.enabled:true}") boolean enabled) {
         Objects.requireNonNull(accessToken);
 
         Objects.requireNonNull(environment);
 
         Config config = RollbarSpringConfigBuilder.withAccessToken(accessToken)
                                                   .environment(environment)
+                                                  .enabled(enabled)
                                                   .build();
 
         return new Rollbar(config);
@@ -2,13 +2,16 @@ package com.logankulinski.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 /**
- * A configuration for scheduling in the Spring Projects First-timer Bot.
+ * A configuration for scheduling in the Spring Projects First-timer Bot. Scheduling can be turned off with the
+ * {@code scheduling.enabled} property, so that the syncs only run when they are called, as they are by the load test.
  *
  * @author Logan Kulinski, rashes_lineage02@icloud.com
  */
 @Configuration
 @EnableScheduling
+@ConditionalOnProperty(value = "scheduling.enabled", matchIfMissing = true)
 public class SchedulingConfiguration {
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.logankulinski.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Bean;
+import com.slack.api.Slack;
+import com.slack.api.SlackConfig;
+import com.slack.api.methods.AsyncMethodsClient;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.Objects;
+import java.time.Duration;
+import okhttp3.OkHttpClient;
+import com.slack.api.util.http.SlackHttpClient;
+
+/**
+ * A configuration for Slack in the Spring Projects First-timer Bot. The {@link Slack} instance owns the HTTP client and
+ * executors of the Slack SDK, so it is created once and closed on shutdown rather than looked up for each message.
+ * Every request is bounded by a call timeout, so the time that a notification can take is bounded as well.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Configuration
+public class SlackConfiguration {
+    /**
+     * Returns a {@link Slack} that is closed when the application shuts down, whose requests time out after the
+     * specified request timeout.
+     *
+     * @param requestTimeout the request timeout to be used in the operation
+     * @return a {@link Slack} that is closed when the application shuts down
+     * @throws NullPointerException if the specified request timeout is {@code null}
+     * @throws IllegalArgumentException if the specified request timeout is not positive
+     */
+    @Bean(destroyMethod = "close")
+    public Slack slack(@Value("${slack.request-timeout:30s}") Duration requestTimeout) {
+        Objects.requireNonNull(requestTimeout);
+
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            String message = "The request timeout must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        SlackConfig config = new SlackConfig();
+
+        OkHttpClient okHttpClient = SlackHttpClient.buildOkHttpClient(config)
+                                                   .newBuilder()
+                                                   .callTimeout(requestTimeout)
+                                                   .build();
+
+        SlackHttpClient httpClient = new SlackHttpClient(okHttpClient);
+
+        return Slack.getInstance(config, httpClient);
+    }
+
+    /**
+     * Returns an {@link AsyncMethodsClient} using the specified {@link Slack} and token.
+     *
+     * @param slack the {@link Slack} to be used in the operation
+     * @param token the token to be used in the operation
+     * @return an {@link AsyncMethodsClient} using the specified {@link Slack} and token
+     * @throws NullPointerException if the specified {@link Slack} or token is {@code null}
+     */
+    @Bean
+    public AsyncMethodsClient slackMethods(Slack slack, @Value("${slack.token}") String token) {
+        Objects.requireNonNull(slack);
+
+        Objects.requireNonNull(token);
+
+        return slack.methodsAsync(token);
+    }
+}
\ No newline at end of file
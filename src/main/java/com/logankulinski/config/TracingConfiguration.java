@@ -0,0 +1,50 @@
+package com.logankulinski.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import org.jooq.ExecuteListenerProvider;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Objects;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+
+/**
+ * A configuration for the tracing of the Spring Projects First-timer Bot. The fetch, persist, and notify stages are
+ * observed as spans, the GitHub client and the jOOQ queries add child spans, and the spans are exported over OTLP
+ * when {@code management.otlp.tracing.endpoint} is set. For local runs, the spans can also be written to the log with
+ * the {@code tracing.logging-exporter.enabled} property.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Configuration
+public class TracingConfiguration {
+    /**
+     * Returns a {@link SpanExporter} that writes each span to the log.
+     *
+     * @return a {@link SpanExporter} that writes each span to the log
+     */
+    @Bean
+    @ConditionalOnProperty("tracing.logging-exporter.enabled")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+
+    /**
+     * Returns an {@link ExecuteListenerProvider} that observes each jOOQ query using the specified
+     * {@link ObservationRegistry}.
+     *
+     * @param observationRegistry the {@link ObservationRegistry} to be used in the operation
+     * @return an {@link ExecuteListenerProvider} that observes each jOOQ query
+     * @throws NullPointerException if the specified {@link ObservationRegistry} is {@code null}
+     */
+    @Bean
+    public ExecuteListenerProvider observationExecuteListenerProvider(ObservationRegistry observationRegistry) {
+        Objects.requireNonNull(observationRegistry);
+
+        ObservationExecuteListener listener = new ObservationExecuteListener(observationRegistry);
+
+        return new DefaultExecuteListenerProvider(listener);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.logankulinski.controller;
+
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestMapping;
+import com.logankulinski.service.WebhookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.Objects;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.http.HttpStatus;
+import com.logankulinski.model.IssueEvent;
+import java.io.IOException;
+
+/**
+ * A controller for GitHub webhooks in the Spring Projects First-timer Bot.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@RestController
+@RequestMapping("/webhooks/github")
+public final class WebhookController {
+    /**
+     * The {@link WebhookService} of this {@link WebhookController}.
+     */
+    private final WebhookService webhookService;
+
+    /**
+     * The {@link ObjectMapper} of this {@link WebhookController}.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The {@link Logger} of the {@link WebhookController} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LoggerFactory.getLogger(WebhookController.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link WebhookController} class.
+     *
+     * @param webhookService the {@link WebhookService} to be used in the operation
+     * @param mapper the {@link ObjectMapper} to be used in the operation
+     * @throws NullPointerException if the specified {@link WebhookService} or {@link ObjectMapper} is {@code null}
+     */
+    @Autowired
+    public WebhookController(WebhookService webhookService, ObjectMapper mapper) {
+        Objects.requireNonNull(webhookService);
+
+        Objects.requireNonNull(mapper);
+
+        this.webhookService = webhookService;
+
+        this.mapper = mapper;
+    }
+
+    /**
+     * Receives the GitHub webhook delivery with the specified event name, signature, and payload. The signature is
+     * verified against the raw payload before it is parsed, and only {@code issues} events are handled.
+     *
+     * @param eventName the event name to be used in the operation
+     * @param signature the signature to be used in the operation, or {@code null}
+     * @param payload the payload to be used in the operation
+     * @return a {@link ResponseEntity} whose status reflects whether the delivery was accepted
+     * @throws NullPointerException if the specified event name or payload is {@code null}
+     */
+    @PostMapping
+    public ResponseEntity<Void> receiveDelivery(@RequestHeader("X-GitHub-Event") String eventName,
+        @RequestHeader(name = "X-Hub-Signature-256", required = false) String signature, @RequestBody byte[] payload) {
+        Objects.requireNonNull(eventName);
+
+        Objects.requireNonNull(payload);
+
+        if (!this.webhookService.isValidSignature(payload, signature)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                 .build();
+        } else if (!eventName.equals("issues")) {
+            return ResponseEntity.noContent()
+                                 .build();
+        }
+
+        IssueEvent event;
+
+        try {
+            event = this.mapper.readValue(payload, IssueEvent.class);
+        } catch (IOException e) {
+            String message = e.getMessage();
+
+            WebhookController.LOGGER.error(message, e);
+
+            return ResponseEntity.badRequest()
+                                 .build();
+        }
+
+        if (!this.webhookService.handleIssueEvent(event)) {
+            return ResponseEntity.internalServerError()
+                                 .build();
+        }
+
+        return ResponseEntity.noContent()
+                             .build();
+    }
+}
\ No newline at end of file
@@ -5,10 +5,18 @@ package com.logankulinski.jooq;
 
 
 import com.logankulinski.jooq.tables.Issue;
+import com.logankulinski.jooq.tables.IssueArchive;
+import com.logankulinski.jooq.tables.JobLease;
 import com.logankulinski.jooq.tables.Label;
+import com.logankulinski.jooq.tables.NotificationOutbox;
 import com.logankulinski.jooq.tables.Repository;
+import com.logankulinski.jooq.tables.RepositoryLabelSync;
+import com.logankulinski.jooq.tables.records.IssueArchiveRecord;
 import com.logankulinski.jooq.tables.records.IssueRecord;
+import com.logankulinski.jooq.tables.records.JobLeaseRecord;
 import com.logankulinski.jooq.tables.records.LabelRecord;
+import com.logankulinski.jooq.tables.records.NotificationOutboxRecord;
+import com.logankulinski.jooq.tables.records.RepositoryLabelSyncRecord;
 import com.logankulinski.jooq.tables.records.RepositoryRecord;
 
 import org.jooq.TableField;
@@ -29,6 +37,10 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final UniqueKey<IssueRecord> ISSUE_PKEY = Internal.createUniqueKey(Issue.ISSUE, DSL.name("issue_pkey"), new TableField[] { Issue.ISSUE.ID }, true);
+    public static final UniqueKey<IssueArchiveRecord> ISSUE_ARCHIVE_PKEY = Internal.createUniqueKey(IssueArchive.ISSUE_ARCHIVE, DSL.name("issue_archive_pkey"), new TableField[] { IssueArchive.ISSUE_ARCHIVE.ID }, true);
+    public static final UniqueKey<JobLeaseRecord> JOB_LEASE_PKEY = Internal.createUniqueKey(JobLease.JOB_LEASE, DSL.name("job_lease_pkey"), new TableField[] { JobLease.JOB_LEASE.JOB_NAME }, true);
     public static final UniqueKey<LabelRecord> LABEL_PKEY = Internal.createUniqueKey(Label.LABEL, DSL.name("label_pkey"), new TableField[] { Label.LABEL.ID }, true);
+    public static final UniqueKey<NotificationOutboxRecord> NOTIFICATION_OUTBOX_PKEY = Internal.createUniqueKey(NotificationOutbox.NOTIFICATION_OUTBOX, DSL.name("notification_outbox_pkey"), new TableField[] { NotificationOutbox.NOTIFICATION_OUTBOX.ISSUE_ID }, true);
+    public static final UniqueKey<RepositoryLabelSyncRecord> REPOSITORY_LABEL_SYNC_PKEY = Internal.createUniqueKey(RepositoryLabelSync.REPOSITORY_LABEL_SYNC, DSL.name("repository_label_sync_pkey"), new TableField[] { RepositoryLabelSync.REPOSITORY_LABEL_SYNC.REPOSITORY_NAME, RepositoryLabelSync.REPOSITORY_LABEL_SYNC.LABEL_NAME }, true);
     public static final UniqueKey<RepositoryRecord> REPOSITORY_PKEY = Internal.createUniqueKey(Repository.REPOSITORY, DSL.name("repository_pkey"), new TableField[] { Repository.REPOSITORY.ID }, true);
 }
@@ -5,8 +5,12 @@ package com.logankulinski.jooq;
 
 
 import com.logankulinski.jooq.tables.Issue;
+import com.logankulinski.jooq.tables.IssueArchive;
+import com.logankulinski.jooq.tables.JobLease;
 import com.logankulinski.jooq.tables.Label;
+import com.logankulinski.jooq.tables.NotificationOutbox;
 import com.logankulinski.jooq.tables.Repository;
+import com.logankulinski.jooq.tables.RepositoryLabelSync;
 
 import java.util.Arrays;
 import java.util.List;
@@ -35,16 +39,36 @@ public class Public extends SchemaImpl {
      */
     public final Issue ISSUE = Issue.ISSUE;
 
+    /**
+     * The table <code>public.issue_archive</code>.
+     */
+    public final IssueArchive ISSUE_ARCHIVE = IssueArchive.ISSUE_ARCHIVE;
+
+    /**
+     * The table <code>public.job_lease</code>.
+     */
+    public final JobLease JOB_LEASE = JobLease.JOB_LEASE;
+
     /**
      * The table <code>public.label</code>.
      */
     public final Label LABEL = Label.LABEL;
 
+    /**
+     * The table <code>public.notification_outbox</code>.
+     */
+    public final NotificationOutbox NOTIFICATION_OUTBOX = NotificationOutbox.NOTIFICATION_OUTBOX;
+
     /**
      * The table <code>public.repository</code>.
      */
     public final Repository REPOSITORY = Repository.REPOSITORY;
 
+    /**
+     * The table <code>public.repository_label_sync</code>.
+     */
+    public final RepositoryLabelSync REPOSITORY_LABEL_SYNC = RepositoryLabelSync.REPOSITORY_LABEL_SYNC;
+
     /**
      * No further instances allowed
      */
@@ -71,8 +95,12 @@ public class Public extends SchemaImpl {
     public final List<Table<?>> getTables() {
         return Arrays.asList(
             Issue.ISSUE,
+            IssueArchive.ISSUE_ARCHIVE,
+            JobLease.JOB_LEASE,
             Label.LABEL,
-            Repository.REPOSITORY
+            NotificationOutbox.NOTIFICATION_OUTBOX,
+            Repository.REPOSITORY,
+            RepositoryLabelSync.REPOSITORY_LABEL_SYNC
         );
     }
 }
@@ -5,8 +5,12 @@ package com.logankulinski.jooq;
 
 
 import com.logankulinski.jooq.tables.Issue;
+import com.logankulinski.jooq.tables.IssueArchive;
+import com.logankulinski.jooq.tables.JobLease;
 import com.logankulinski.jooq.tables.Label;
+import com.logankulinski.jooq.tables.NotificationOutbox;
 import com.logankulinski.jooq.tables.Repository;
+import com.logankulinski.jooq.tables.RepositoryLabelSync;
 
 
 /**
@@ -20,13 +24,33 @@ public class Tables {
      */
     public static final Issue ISSUE = Issue.ISSUE;
 
+    /**
+     * The table <code>public.issue_archive</code>.
+     */
+    public static final IssueArchive ISSUE_ARCHIVE = IssueArchive.ISSUE_ARCHIVE;
+
+    /**
+     * The table <code>public.job_lease</code>.
+     */
+    public static final JobLease JOB_LEASE = JobLease.JOB_LEASE;
+
     /**
      * The table <code>public.label</code>.
      */
     public static final Label LABEL = Label.LABEL;
 
+    /**
+     * The table <code>public.notification_outbox</code>.
+     */
+    public static final NotificationOutbox NOTIFICATION_OUTBOX = NotificationOutbox.NOTIFICATION_OUTBOX;
+
     /**
      * The table <code>public.repository</code>.
      */
     public static final Repository REPOSITORY = Repository.REPOSITORY;
+
+    /**
+     * The table <code>public.repository_label_sync</code>.
+     */
+    public static final RepositoryLabelSync REPOSITORY_LABEL_SYNC = RepositoryLabelSync.REPOSITORY_LABEL_SYNC;
 }
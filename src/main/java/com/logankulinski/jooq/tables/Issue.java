@@ -9,15 +9,16 @@ import com.logankulinski.jooq.Public;
 import com.logankulinski.jooq.tables.records.IssueRecord;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.function.Function;
 
 import org.jooq.Field;
 import org.jooq.ForeignKey;
-import org.jooq.Function4;
+import org.jooq.Function7;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Records;
-import org.jooq.Row4;
+import org.jooq.Row7;
 import org.jooq.Schema;
 import org.jooq.SelectField;
 import org.jooq.Table;
@@ -70,6 +71,21 @@ public class Issue extends TableImpl<IssueRecord> {
      */
     public final TableField<IssueRecord, LocalDateTime> NOTIFICATION_DATE = createField(DSL.name("notification_date"), SQLDataType.LOCALDATETIME(6), this, "");
 
+    /**
+     * The column <code>public.issue.state</code>.
+     */
+    public final TableField<IssueRecord, String> STATE = createField(DSL.name("state"), SQLDataType.VARCHAR(32), this, "");
+
+    /**
+     * The column <code>public.issue.repository_name</code>.
+     */
+    public final TableField<IssueRecord, String> REPOSITORY_NAME = createField(DSL.name("repository_name"), SQLDataType.VARCHAR(256), this, "");
+
+    /**
+     * The column <code>public.issue.last_seen_date</code>.
+     */
+    public final TableField<IssueRecord, OffsetDateTime> LAST_SEEN_DATE = createField(DSL.name("last_seen_date"), SQLDataType.TIMESTAMPWITHTIMEZONE(6), this, "");
+
     private Issue(Name alias, Table<IssueRecord> aliased) {
         this(alias, aliased, null);
     }
@@ -153,18 +169,18 @@ public class Issue extends TableImpl<IssueRecord> {
     }
 
     // -------------------------------------------------------------------------
-    // Row4 type methods
+    // Row7 type methods
     // -------------------------------------------------------------------------
 
     @Override
-    public Row4<Integer, String, String, LocalDateTime> fieldsRow() {
-        return (Row4) super.fieldsRow();
+    public Row7<Integer, String, String, LocalDateTime, String, String, OffsetDateTime> fieldsRow() {
+        return (Row7) super.fieldsRow();
     }
 
     /**
      * Convenience mapping calling {@link SelectField#convertFrom(Function)}.
      */
-    public <U> SelectField<U> mapping(Function4<? super Integer, ? super String, ? super String, ? super LocalDateTime, ? extends U> from) {
+    public <U> SelectField<U> mapping(Function7<? super Integer, ? super String, ? super String, ? super LocalDateTime, ? super String, ? super String, ? super OffsetDateTime, ? extends U> from) {
         return convertFrom(Records.mapping(from));
     }
 
@@ -172,7 +188,7 @@ public class Issue extends TableImpl<IssueRecord> {
      * Convenience mapping calling {@link SelectField#convertFrom(Class,
      * Function)}.
      */
-    public <U> SelectField<U> mapping(Class<U> toType, Function4<? super Integer, ? super String, ? super String, ? super LocalDateTime, ? extends U> from) {
+    public <U> SelectField<U> mapping(Class<U> toType, Function7<? super Integer, ? super String, ? super String, ? super LocalDateTime, ? super String, ? super String, ? super OffsetDateTime, ? extends U> from) {
         return convertFrom(toType, Records.mapping(from));
     }
 }
@@ -7,11 +7,12 @@ package com.logankulinski.jooq.tables.records;
 import com.logankulinski.jooq.tables.Issue;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 
 import org.jooq.Field;
 import org.jooq.Record1;
-import org.jooq.Record4;
-import org.jooq.Row4;
+import org.jooq.Record7;
+import org.jooq.Row7;
 import org.jooq.impl.UpdatableRecordImpl;
 
 
@@ -19,7 +20,7 @@ import org.jooq.impl.UpdatableRecordImpl;
  * This class is generated by jOOQ.
  */
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
-public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Record4<Integer, String, String, LocalDateTime> {
+public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Record7<Integer, String, String, LocalDateTime, String, String, OffsetDateTime> {
 
     private static final long serialVersionUID = 1L;
 
@@ -79,6 +80,48 @@ public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Rec
         return (LocalDateTime) get(3);
     }
 
+    /**
+     * Setter for <code>public.issue.state</code>.
+     */
+    public void setState(String value) {
+        set(4, value);
+    }
+
+    /**
+     * Getter for <code>public.issue.state</code>.
+     */
+    public String getState() {
+        return (String) get(4);
+    }
+
+    /**
+     * Setter for <code>public.issue.repository_name</code>.
+     */
+    public void setRepositoryName(String value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.issue.repository_name</code>.
+     */
+    public String getRepositoryName() {
+        return (String) get(5);
+    }
+
+    /**
+     * Setter for <code>public.issue.last_seen_date</code>.
+     */
+    public void setLastSeenDate(OffsetDateTime value) {
+        set(6, value);
+    }
+
+    /**
+     * Getter for <code>public.issue.last_seen_date</code>.
+     */
+    public OffsetDateTime getLastSeenDate() {
+        return (OffsetDateTime) get(6);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -89,17 +132,17 @@ public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Rec
     }
 
     // -------------------------------------------------------------------------
-    // Record4 type implementation
+    // Record7 type implementation
     // -------------------------------------------------------------------------
 
     @Override
-    public Row4<Integer, String, String, LocalDateTime> fieldsRow() {
-        return (Row4) super.fieldsRow();
+    public Row7<Integer, String, String, LocalDateTime, String, String, OffsetDateTime> fieldsRow() {
+        return (Row7) super.fieldsRow();
     }
 
     @Override
-    public Row4<Integer, String, String, LocalDateTime> valuesRow() {
-        return (Row4) super.valuesRow();
+    public Row7<Integer, String, String, LocalDateTime, String, String, OffsetDateTime> valuesRow() {
+        return (Row7) super.valuesRow();
     }
 
     @Override
@@ -122,6 +165,21 @@ public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Rec
         return Issue.ISSUE.NOTIFICATION_DATE;
     }
 
+    @Override
+    public Field<String> field5() {
+        return Issue.ISSUE.STATE;
+    }
+
+    @Override
+    public Field<String> field6() {
+        return Issue.ISSUE.REPOSITORY_NAME;
+    }
+
+    @Override
+    public Field<OffsetDateTime> field7() {
+        return Issue.ISSUE.LAST_SEEN_DATE;
+    }
+
     @Override
     public Integer component1() {
         return getId();
@@ -142,6 +200,21 @@ public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Rec
         return getNotificationDate();
     }
 
+    @Override
+    public String component5() {
+        return getState();
+    }
+
+    @Override
+    public String component6() {
+        return getRepositoryName();
+    }
+
+    @Override
+    public OffsetDateTime component7() {
+        return getLastSeenDate();
+    }
+
     @Override
     public Integer value1() {
         return getId();
@@ -162,6 +235,21 @@ public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Rec
         return getNotificationDate();
     }
 
+    @Override
+    public String value5() {
+        return getState();
+    }
+
+    @Override
+    public String value6() {
+        return getRepositoryName();
+    }
+
+    @Override
+    public OffsetDateTime value7() {
+        return getLastSeenDate();
+    }
+
     @Override
     public IssueRecord value1(Integer value) {
         setId(value);
@@ -187,11 +275,32 @@ public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Rec
     }
 
     @Override
-    public IssueRecord values(Integer value1, String value2, String value3, LocalDateTime value4) {
+    public IssueRecord value5(String value) {
+        setState(value);
+        return this;
+    }
+
+    @Override
+    public IssueRecord value6(String value) {
+        setRepositoryName(value);
+        return this;
+    }
+
+    @Override
+    public IssueRecord value7(OffsetDateTime value) {
+        setLastSeenDate(value);
+        return this;
+    }
+
+    @Override
+    public IssueRecord values(Integer value1, String value2, String value3, LocalDateTime value4, String value5, String value6, OffsetDateTime value7) {
         value1(value1);
         value2(value2);
         value3(value3);
         value4(value4);
+        value5(value5);
+        value6(value6);
+        value7(value7);
         return this;
     }
 
@@ -209,12 +318,15 @@ public class IssueRecord extends UpdatableRecordImpl<IssueRecord> implements Rec
     /**
      * Create a detached, initialised IssueRecord
      */
-    public IssueRecord(Integer id, String title, String url, LocalDateTime notificationDate) {
+    public IssueRecord(Integer id, String title, String url, LocalDateTime notificationDate, String state, String repositoryName, OffsetDateTime lastSeenDate) {
         super(Issue.ISSUE);
 
         setId(id);
         setTitle(title);
         setUrl(url);
         setNotificationDate(notificationDate);
+        setState(state);
+        setRepositoryName(repositoryName);
+        setLastSeenDate(lastSeenDate);
     }
 }
@@ -0,0 +1,13 @@
+package com.logankulinski.model;
+
+import java.util.Map;
+
+/**
+ * A request to the GitHub GraphQL API in the Spring Projects First-timer Bot.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @param query the query of this {@link GraphQlRequest}
+ * @param variables the variables of this {@link GraphQlRequest}
+ */
+public record GraphQlRequest(String query, Map<String, Object> variables) {
+}
\ No newline at end of file
@@ -10,7 +10,24 @@ import com.fasterxml.jackson.annotation.JsonAlias;
  * @param id the ID of this {@link Issue}
  * @param title the title of this {@link Issue}
  * @param url the URL of this {@link Issue}
+ * @param repositoryUrl the API URL of the repository of this {@link Issue}
+ * @param state the state of this {@link Issue}
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
-public record Issue(int id, String title, @JsonAlias("html_url") String url) {
+public record Issue(int id, String title, @JsonAlias("html_url") String url,
+    @JsonAlias("repository_url") String repositoryUrl, String state) {
+    /**
+     * Returns the name of the repository of this {@link Issue}, or {@code null} if it is unknown.
+     *
+     * @return the name of the repository of this {@link Issue}, or {@code null} if it is unknown
+     */
+    public String repositoryName() {
+        if (this.repositoryUrl == null) {
+            return null;
+        }
+
+        int index = this.repositoryUrl.lastIndexOf('/');
+
+        return this.repositoryUrl.substring(index + 1);
+    }
 }
\ No newline at end of file
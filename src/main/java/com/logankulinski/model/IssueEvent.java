@@ -0,0 +1,58 @@
+package com.logankulinski.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import java.util.Set;
+
+/**
+ * An {@code issues} webhook event on GitHub in the Spring Projects First-timer Bot.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @param action the action of this {@link IssueEvent}
+ * @param issue the issue of this {@link IssueEvent}
+ * @param repository the repository of this {@link IssueEvent}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record IssueEvent(String action, EventIssue issue, EventRepository repository) {
+    /**
+     * An issue of an {@link IssueEvent}.
+     *
+     * @param id the ID of this {@link EventIssue}
+     * @param title the title of this {@link EventIssue}
+     * @param url the URL of this {@link EventIssue}
+     * @param repositoryUrl the API URL of the repository of this {@link EventIssue}
+     * @param state the state of this {@link EventIssue}
+     * @param labels the {@link EventLabel}s of this {@link EventIssue}
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record EventIssue(int id, String title, @JsonAlias("html_url") String url,
+        @JsonAlias("repository_url") String repositoryUrl, String state, Set<EventLabel> labels) {
+        /**
+         * Returns the {@link Issue} of this {@link EventIssue}.
+         *
+         * @return the {@link Issue} of this {@link EventIssue}
+         */
+        public Issue toIssue() {
+            return new Issue(this.id, this.title, this.url, this.repositoryUrl, this.state);
+        }
+    }
+
+    /**
+     * A repository of an {@link IssueEvent}.
+     *
+     * @param name the name of this {@link EventRepository}
+     * @param fullName the name of this {@link EventRepository} prefixed with the login of its owner
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record EventRepository(String name, @JsonAlias("full_name") String fullName) {
+    }
+
+    /**
+     * A label of an {@link EventIssue}.
+     *
+     * @param name the name of this {@link EventLabel}
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record EventLabel(String name) {
+    }
+}
\ No newline at end of file
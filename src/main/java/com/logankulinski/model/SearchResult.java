@@ -0,0 +1,19 @@
+package com.logankulinski.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import java.util.Set;
+
+/**
+ * A page of search results on GitHub in the Spring Projects First-timer Bot.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @param totalCount the total count of this {@link SearchResult}
+ * @param incompleteResults whether this {@link SearchResult} is incomplete
+ * @param items the items of this {@link SearchResult}
+ * @param <T> the type of the items of this {@link SearchResult}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SearchResult<T>(@JsonAlias("total_count") int totalCount,
+    @JsonAlias("incomplete_results") boolean incompleteResults, Set<T> items) {
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.logankulinski.service;
+
+/**
+ * A strategy used to fetch GitHub issues in the Spring Projects First-timer Bot.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+public enum FetchStrategy {
+    /**
+     * Fetches the issues of each repository and label pair from the repository issues endpoint.
+     */
+    REPOSITORY_LABEL,
+
+    /**
+     * Fetches the issues of each label across the organization from the search endpoint.
+     */
+    SEARCH,
+
+    /**
+     * Fetches the issues of several repositories at once from the GraphQL endpoint, with one alias per repository.
+     */
+    GRAPHQL
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+package com.logankulinski.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Map;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.StringJoiner;
+import com.logankulinski.model.GraphQlRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.logankulinski.model.Issue;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * A paginated GraphQL query of the open issues of several repositories in the Spring Projects First-timer Bot. Each
+ * repository is queried under its own alias with its own cursor, so one request fetches the next page of every
+ * repository that still has one, and a repository whose pages are exhausted drops out of the following requests.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+final class GraphQlIssueQuery {
+    /**
+     * The targets of this {@link GraphQlIssueQuery}.
+     */
+    private final List<Target> targets;
+
+    /**
+     * The cursors of this {@link GraphQlIssueQuery}, indexed by target.
+     */
+    private final String[] cursors;
+
+    /**
+     * Whether each target of this {@link GraphQlIssueQuery} has another page, indexed by target.
+     */
+    private final boolean[] pending;
+
+    /**
+     * Whether each target of this {@link GraphQlIssueQuery} failed, indexed by target.
+     */
+    private final boolean[] failed;
+
+    /**
+     * The number of issues requested per page.
+     */
+    private static final int PAGE_SIZE;
+
+    static {
+        PAGE_SIZE = 100;
+    }
+
+    /**
+     * A repository whose open issues are queried.
+     *
+     * @param repositoryName the repository name of this {@link Target}
+     * @param labelNames the label names of this {@link Target}, any of which an issue may have
+     * @param since the ISO 8601 timestamp that issues of this {@link Target} should have been updated since, or
+     * {@code null}
+     */
+    record Target(String repositoryName, List<String> labelNames, String since) {
+    }
+
+    /**
+     * Constructs an instance of the {@link GraphQlIssueQuery} class.
+     *
+     * @param targets the targets to be used in the operation
+     * @throws NullPointerException if the specified targets is {@code null}
+     */
+    GraphQlIssueQuery(List<Target> targets) {
+        Objects.requireNonNull(targets);
+
+        this.targets = List.copyOf(targets);
+
+        this.cursors = new String[this.targets.size()];
+
+        this.pending = new boolean[this.targets.size()];
+
+        this.failed = new boolean[this.targets.size()];
+
+        Arrays.fill(this.pending, true);
+    }
+
+    /**
+     * Returns whether any target of this {@link GraphQlIssueQuery} has another page.
+     *
+     * @return whether any target of this {@link GraphQlIssueQuery} has another page
+     */
+    boolean hasNextPage() {
+        for (boolean targetPending : this.pending) {
+            if (targetPending) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the {@link GraphQlRequest} of the next page of every target of this {@link GraphQlIssueQuery} that has
+     * another page. The repository names, label names, timestamps, and cursors are passed as variables, so they never
+     * need to be escaped.
+     *
+     * @return the {@link GraphQlRequest} of the next page of every target that has another page
+     */
+    GraphQlRequest getNextRequest() {
+        StringJoiner parameters = new StringJoiner(", ", "query(", ")");
+
+        StringBuilder fields = new StringBuilder();
+
+        Map<String, Object> variables = new HashMap<>();
+
+        for (int index = 0; index < this.targets.size(); index++) {
+            if (!this.pending[index]) {
+                continue;
+            }
+
+            Target target = this.targets.get(index);
+
+            parameters.add("$name%d: String!".formatted(index))
+                      .add("$labels%d: [String!]".formatted(index))
+                      .add("$since%d: DateTime".formatted(index))
+                      .add("$after%d: String".formatted(index));
+
+            String field = """
+                r%1$d: repository(owner: "spring-projects", name: $name%1$d) {
+                  issues(first: %2$d, after: $after%1$d, filterBy: {labels: $labels%1$d, since: $since%1$d, \
+                states: [OPEN]}) {
+                    pageInfo { hasNextPage endCursor }
+                    nodes { databaseId title url state repository { url } }
+                  }
+                }
+                """.formatted(index, GraphQlIssueQuery.PAGE_SIZE);
+
+            fields.append(field);
+
+            variables.put("name%d".formatted(index), target.repositoryName());
+
+            variables.put("labels%d".formatted(index), target.labelNames());
+
+            variables.put("since%d".formatted(index), target.since());
+
+            variables.put("after%d".formatted(index), this.cursors[index]);
+        }
+
+        String query = "%s {\n%s}".formatted(parameters, fields);
+
+        return new GraphQlRequest(query, variables);
+    }
+
+    /**
+     * Returns the {@link Issue}s of the specified response data and advances the cursor of every target that has
+     * another page. A target that is missing from the data, such as one whose repository no longer exists, is marked
+     * as failed.
+     *
+     * @param data the response data to be used in the operation
+     * @return the {@link Issue}s of the specified response data
+     * @throws NullPointerException if the specified response data is {@code null}
+     */
+    Set<Issue> accept(JsonNode data) {
+        Objects.requireNonNull(data);
+
+        Set<Issue> issues = new HashSet<>();
+
+        for (int index = 0; index < this.targets.size(); index++) {
+            if (!this.pending[index]) {
+                continue;
+            }
+
+            JsonNode connection = data.path("r%d".formatted(index))
+                                      .path("issues");
+
+            if (!connection.isObject()) {
+                this.pending[index] = false;
+
+                this.failed[index] = true;
+
+                continue;
+            }
+
+            for (JsonNode node : connection.path("nodes")) {
+                int id = node.path("databaseId")
+                             .asInt();
+
+                String title = node.path("title")
+                                   .asText();
+
+                String url = node.path("url")
+                                 .asText();
+
+                String repositoryUrl = node.path("repository")
+                                           .path("url")
+                                           .asText(null);
+
+                String state = node.path("state")
+                                   .asText()
+                                   .toLowerCase(Locale.ROOT);
+
+                Issue issue = new Issue(id, title, url, repositoryUrl, state);
+
+                issues.add(issue);
+            }
+
+            JsonNode pageInfo = connection.path("pageInfo");
+
+            this.pending[index] = pageInfo.path("hasNextPage")
+                                          .asBoolean();
+
+            this.cursors[index] = pageInfo.path("endCursor")
+                                          .asText(null);
+        }
+
+        return Collections.unmodifiableSet(issues);
+    }
+
+    /**
+     * Marks every target of this {@link GraphQlIssueQuery} that has another page as failed.
+     */
+    void fail() {
+        for (int index = 0; index < this.targets.size(); index++) {
+            if (this.pending[index]) {
+                this.pending[index] = false;
+
+                this.failed[index] = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the repository names of the targets of this {@link GraphQlIssueQuery} whose pages were all fetched.
+     *
+     * @return the repository names of the targets whose pages were all fetched
+     */
+    Set<String> getFetchedRepositoryNames() {
+        Set<String> repositoryNames = new HashSet<>();
+
+        for (int index = 0; index < this.targets.size(); index++) {
+            if (!this.pending[index] && !this.failed[index]) {
+                Target target = this.targets.get(index);
+
+                repositoryNames.add(target.repositoryName());
+            }
+        }
+
+        return Collections.unmodifiableSet(repositoryNames);
+    }
+}
\ No newline at end of file
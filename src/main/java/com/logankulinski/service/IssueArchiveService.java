@@ -0,0 +1,149 @@
+package com.logankulinski.service;
+
+import org.springframework.stereotype.Service;
+import org.jooq.DSLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.Objects;
+import org.jooq.Condition;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.jooq.Result;
+import com.logankulinski.jooq.tables.records.IssueRecord;
+import org.jooq.impl.DSL;
+import com.logankulinski.jooq.Tables;
+import java.util.List;
+import com.logankulinski.jooq.tables.records.IssueArchiveRecord;
+import java.util.ArrayList;
+import org.jooq.exception.DataAccessException;
+import java.util.Collection;
+
+/**
+ * A service for archiving GitHub issues in the Spring Projects First-timer Bot. Archived issues are moved from the
+ * issue table to the issue archive table, so the issue table only holds the issues that are still open and labeled.
+ * An archived issue that is saved again, because it was reopened, labeled again, or missed by a sync, is restored from
+ * the issue archive table, so it is not notified twice.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Service
+public final class IssueArchiveService {
+    /**
+     * The {@link DSLContext} of this {@link IssueArchiveService}.
+     */
+    private final DSLContext context;
+
+    /**
+     * The {@link Logger} of the {@link IssueArchiveService} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LoggerFactory.getLogger(IssueArchiveService.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link IssueArchiveService} class.
+     *
+     * @param context the {@link DSLContext} to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext} is {@code null}
+     */
+    @Autowired
+    public IssueArchiveService(DSLContext context) {
+        Objects.requireNonNull(context);
+
+        this.context = context;
+    }
+
+    /**
+     * Moves the issues that match the specified {@link Condition} to the issue archive table in one transaction. The
+     * rows are deleted first and the deleted rows are archived, replacing any earlier archive of the same issue, so an
+     * issue that is saved again concurrently is either archived or kept, but never both.
+     *
+     * @param condition the {@link Condition} to be used in the operation
+     * @return the number of archived issues, or {@code null} if they could not be archived
+     * @throws NullPointerException if the specified {@link Condition} is {@code null}
+     */
+    public Integer archiveIssues(Condition condition) {
+        Objects.requireNonNull(condition);
+
+        OffsetDateTime archiveDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+        try {
+            return this.context.transactionResult(configuration -> {
+                DSLContext transactionContext = DSL.using(configuration);
+
+                Result<IssueRecord> issueRecords = transactionContext.deleteFrom(Tables.ISSUE)
+                                                                     .where(condition)
+                                                                     .returning()
+                                                                     .fetch();
+
+                if (issueRecords.isEmpty()) {
+                    return 0;
+                }
+
+                List<Integer> ids = issueRecords.getValues(Tables.ISSUE.ID);
+
+                List<IssueArchiveRecord> archiveRecords = new ArrayList<>();
+
+                for (IssueRecord issueRecord : issueRecords) {
+                    IssueArchiveRecord archiveRecord = issueRecord.into(Tables.ISSUE_ARCHIVE);
+
+                    archiveRecord.setArchiveDate(archiveDate);
+
+                    archiveRecords.add(archiveRecord);
+                }
+
+                transactionContext.deleteFrom(Tables.ISSUE_ARCHIVE)
+                                  .where(Tables.ISSUE_ARCHIVE.ID.in(ids))
+                                  .execute();
+
+                transactionContext.batchInsert(archiveRecords)
+                                  .execute();
+
+                return issueRecords.size();
+            });
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            IssueArchiveService.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Restores the archived issues with the specified IDs that were saved to the issue table again using the specified
+     * {@link DSLContext}, which must be part of the transaction that saved them. The notification date of each
+     * archived issue is copied to its saved issue, unless the saved issue already has one, and the archived issue is
+     * then deleted, so an issue that was notified before it was archived is not notified again.
+     *
+     * @param transactionContext the {@link DSLContext} to be used in the operation
+     * @param ids the IDs to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext} or IDs is {@code null}
+     * @throws DataAccessException if the archived issues could not be restored
+     */
+    void restoreIssues(DSLContext transactionContext, Collection<Integer> ids) {
+        Objects.requireNonNull(transactionContext);
+
+        Objects.requireNonNull(ids);
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        transactionContext.update(Tables.ISSUE)
+                          .set(Tables.ISSUE.NOTIFICATION_DATE, Tables.ISSUE_ARCHIVE.NOTIFICATION_DATE)
+                          .from(Tables.ISSUE_ARCHIVE)
+                          .where(Tables.ISSUE.ID.eq(Tables.ISSUE_ARCHIVE.ID))
+                          .and(Tables.ISSUE.ID.in(ids))
+                          .and(Tables.ISSUE.NOTIFICATION_DATE.isNull())
+                          .and(Tables.ISSUE_ARCHIVE.NOTIFICATION_DATE.isNotNull())
+                          .execute();
+
+        transactionContext.deleteFrom(Tables.ISSUE_ARCHIVE)
+                          .where(Tables.ISSUE_ARCHIVE.ID.in(ids))
+                          .execute();
+    }
+}
\ No newline at end of file
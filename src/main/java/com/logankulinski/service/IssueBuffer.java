@@ -0,0 +1,134 @@
+package com.logankulinski.service;
+
+import com.logankulinski.model.Issue;
+import java.util.List;
+import java.util.function.Function;
+import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * A bounded buffer of {@link Issue}s that are waiting to be saved in the Spring Projects First-timer Bot. Pages of
+ * {@link Issue}s are added as they are fetched, and the buffer is flushed to its saver whenever it reaches its
+ * capacity, so the number of {@link Issue}s held in memory does not grow with the number of pages fetched.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+final class IssueBuffer {
+    /**
+     * The capacity of this {@link IssueBuffer}.
+     */
+    private final int capacity;
+
+    /**
+     * The saver of this {@link IssueBuffer}.
+     */
+    private final Function<Collection<Issue>, SaveCounts> saver;
+
+    /**
+     * The buffered {@link Issue}s of this {@link IssueBuffer}.
+     */
+    private List<Issue> issues;
+
+    /**
+     * The {@link SaveCounts} of the flushes of this {@link IssueBuffer}.
+     */
+    private SaveCounts saveCounts;
+
+    /**
+     * Constructs an instance of the {@link IssueBuffer} class.
+     *
+     * @param capacity the capacity to be used in the operation
+     * @param saver the saver to be used in the operation
+     * @throws NullPointerException if the specified saver is {@code null}
+     * @throws IllegalArgumentException if the specified capacity is not positive
+     */
+    IssueBuffer(int capacity, Function<Collection<Issue>, SaveCounts> saver) {
+        Objects.requireNonNull(saver);
+
+        if (capacity <= 0) {
+            String message = "The capacity must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.capacity = capacity;
+
+        this.saver = saver;
+
+        this.issues = new ArrayList<>(capacity);
+
+        this.saveCounts = SaveCounts.EMPTY;
+    }
+
+    /**
+     * Removes and returns the buffered {@link Issue}s of this {@link IssueBuffer} if there are at least the specified
+     * number of them, or {@code null} otherwise.
+     *
+     * @param threshold the threshold to be used in the operation
+     * @return the buffered {@link Issue}s, or {@code null} if there are fewer than the specified number of them
+     */
+    private synchronized List<Issue> drain(int threshold) {
+        if (this.issues.isEmpty() || (this.issues.size() < threshold)) {
+            return null;
+        }
+
+        List<Issue> drainedIssues = this.issues;
+
+        this.issues = new ArrayList<>(this.capacity);
+
+        return drainedIssues;
+    }
+
+    /**
+     * Saves the specified {@link Issue}s and records the resulting {@link SaveCounts}.
+     *
+     * @param drainedIssues the {@link Issue}s to be used in the operation, or {@code null}
+     */
+    private void save(List<Issue> drainedIssues) {
+        if (drainedIssues == null) {
+            return;
+        }
+
+        SaveCounts drainedSaveCounts = this.saver.apply(drainedIssues);
+
+        synchronized (this) {
+            this.saveCounts = this.saveCounts.plus(drainedSaveCounts);
+        }
+    }
+
+    /**
+     * Adds the specified {@link Issue}s to this {@link IssueBuffer}, saving the buffered {@link Issue}s if the
+     * capacity of this {@link IssueBuffer} has been reached.
+     *
+     * @param page the {@link Issue}s to be used in the operation
+     * @throws NullPointerException if the specified {@link Issue}s is {@code null}
+     */
+    void add(Collection<Issue> page) {
+        Objects.requireNonNull(page);
+
+        synchronized (this) {
+            this.issues.addAll(page);
+        }
+
+        List<Issue> drainedIssues = this.drain(this.capacity);
+
+        this.save(drainedIssues);
+    }
+
+    /**
+     * Saves every buffered {@link Issue} of this {@link IssueBuffer} and returns the {@link SaveCounts} of all of its
+     * flushes.
+     *
+     * @return the {@link SaveCounts} of all of the flushes of this {@link IssueBuffer}
+     */
+    SaveCounts flush() {
+        List<Issue> drainedIssues = this.drain(1);
+
+        this.save(drainedIssues);
+
+        synchronized (this) {
+            return this.saveCounts;
+        }
+    }
+}
\ No newline at end of file
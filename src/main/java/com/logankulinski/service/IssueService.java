@@ -19,12 +19,46 @@ import org.jooq.exception.DataAccessException;
 import java.util.HashSet;
 import java.util.Collections;
 import com.logankulinski.model.Issue;
-import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpHeaders;
 import org.springframework.scheduling.annotation.Scheduled;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.Map;
+import com.logankulinski.jooq.tables.records.RepositoryLabelSyncRecord;
+import java.util.HashMap;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import com.logankulinski.model.SearchResult;
+import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import org.jooq.ResultQuery;
+import org.jooq.Record1;
+import org.jooq.InsertValuesStep6;
+import org.jooq.Condition;
+import com.logankulinski.jooq.tables.records.IssueRecord;
+import org.jooq.impl.DSL;
+import com.logankulinski.client.RateLimitGovernor;
+import com.logankulinski.client.Paginator;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.logankulinski.client.GitHubGraphQlClient;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.ArrayList;
+import com.logankulinski.model.GraphQlRequest;
+import org.springframework.http.ResponseEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A service for operating on GitHub issues in the Spring Projects First-timer Bot.
@@ -43,6 +77,26 @@ public final class IssueService {
      */
     private final GitHubClient client;
 
+    /**
+     * The {@link GitHubGraphQlClient} of this {@link IssueService}.
+     */
+    private final GitHubGraphQlClient graphQlClient;
+
+    /**
+     * The {@link RateLimitGovernor} of this {@link IssueService}.
+     */
+    private final RateLimitGovernor governor;
+
+    /**
+     * The {@link Paginator} of this {@link IssueService}.
+     */
+    private final Paginator paginator;
+
+    /**
+     * The {@link ExecutorService} used to fetch {@link Issue}s in this {@link IssueService}.
+     */
+    private final ExecutorService executor;
+
     /**
      * The {@link Utilities} of this {@link IssueService}.
      */
@@ -53,42 +107,211 @@ public final class IssueService {
      */
     private final Rollbar rollbar;
 
+    /**
+     * The {@link IssueArchiveService} of this {@link IssueService}.
+     */
+    private final IssueArchiveService archiveService;
+
+    /**
+     * The {@link JobMetrics} of this {@link IssueService}.
+     */
+    private final JobMetrics jobMetrics;
+
+    /**
+     * The {@link JobLeaseManager} of this {@link IssueService}.
+     */
+    private final JobLeaseManager jobLeaseManager;
+
+    /**
+     * The {@link ObservationRegistry} of this {@link IssueService}.
+     */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * The {@link SyncTaskQueue} of this {@link IssueService}.
+     */
+    private final SyncTaskQueue taskQueue;
+
+    /**
+     * The {@link NotificationOutboxQueue} of this {@link IssueService}.
+     */
+    private final NotificationOutboxQueue outboxQueue;
+
+    /**
+     * The {@link FetchStrategy} of this {@link IssueService}.
+     */
+    private final FetchStrategy strategy;
+
+    /**
+     * Whether this {@link IssueService} only fetches issues updated since the last sync.
+     */
+    private final boolean incremental;
+
+    /**
+     * The interval at which this {@link IssueService} performs a full sync when syncing incrementally.
+     */
+    private final Duration fullSyncInterval;
+
+    /**
+     * The maximum number of {@link Issue}s saved per statement by this {@link IssueService}.
+     */
+    private final int batchSize;
+
+    /**
+     * The number of repositories queried per GraphQL request by this {@link IssueService}.
+     */
+    private final int graphQlBatchSize;
+
+    /**
+     * Whether this {@link IssueService} syncs the {@link RepositoryLabel}s through its {@link SyncTaskQueue}.
+     */
+    private final boolean workQueue;
+
+    /**
+     * The name of the job that updates the issues.
+     */
+    private static final String JOB_NAME;
+
+    /**
+     * The name of the job that processes the sync tasks.
+     */
+    private static final String TASK_JOB_NAME;
+
     /**
      * The {@link Logger} of the {@link IssueService} class.
      */
     private static final Logger LOGGER;
 
     static {
+        JOB_NAME = "update-issues";
+
+        TASK_JOB_NAME = "process-sync-tasks";
+
         LOGGER = LoggerFactory.getLogger(IssueService.class);
     }
 
     /**
-     * Constructs an instance of the {@link IssueService} class.
+     * Constructs an instance of the {@link IssueService} class. The work queue can only be used with the
+     * {@link FetchStrategy#REPOSITORY_LABEL} {@link FetchStrategy}, since the other strategies batch several
+     * {@link RepositoryLabel}s into each request.
      *
      * @param context the {@link DSLContext} to be used in the operation
      * @param client the {@link GitHubClient} to be used in the operation
+     * @param graphQlClient the {@link GitHubGraphQlClient} to be used in the operation
+     * @param governor the {@link RateLimitGovernor} to be used in the operation
+     * @param paginator the {@link Paginator} to be used in the operation
+     * @param executor the {@link ExecutorService} to be used in the operation
      * @param utilities the {@link Utilities} to be used in the operation
      * @param rollbar the {@link Rollbar} to be used in the operation
-     * @throws NullPointerException if the specified {@link DSLContext}, {@link GitHubClient}, {@link Utilities}, or
-     * {@link Rollbar} is {@code null}
+     * @param archiveService the {@link IssueArchiveService} to be used in the operation
+     * @param jobMetrics the {@link JobMetrics} to be used in the operation
+     * @param jobLeaseManager the {@link JobLeaseManager} to be used in the operation
+     * @param observationRegistry the {@link ObservationRegistry} to be used in the operation
+     * @param taskQueue the {@link SyncTaskQueue} to be used in the operation
+     * @param outboxQueue the {@link NotificationOutboxQueue} to be used in the operation
+     * @param strategy the {@link FetchStrategy} to be used in the operation
+     * @param incremental whether only issues updated since the last sync should be fetched
+     * @param fullSyncInterval the full sync interval to be used in the operation
+     * @param batchSize the batch size to be used in the operation
+     * @param graphQlBatchSize the number of repositories to be queried per GraphQL request
+     * @param workQueue whether the {@link RepositoryLabel}s should be synced through the {@link SyncTaskQueue}
+     * @throws NullPointerException if the specified {@link DSLContext}, {@link GitHubClient},
+     * {@link GitHubGraphQlClient}, {@link RateLimitGovernor}, {@link Paginator}, {@link ExecutorService},
+     * {@link Utilities}, {@link Rollbar}, {@link IssueArchiveService}, {@link JobMetrics}, {@link JobLeaseManager},
+     * {@link ObservationRegistry}, {@link SyncTaskQueue}, {@link NotificationOutboxQueue}, {@link FetchStrategy}, or
+     * full sync interval is {@code null}
+     * @throws IllegalArgumentException if the work queue is used with a {@link FetchStrategy} other than
+     * {@link FetchStrategy#REPOSITORY_LABEL}
      */
     @Autowired
-    public IssueService(DSLContext context, GitHubClient client, Utilities utilities, Rollbar rollbar) {
+    public IssueService(DSLContext context, GitHubClient client, GitHubGraphQlClient graphQlClient,
+        RateLimitGovernor governor, Paginator paginator, @Qualifier("fetchExecutor") ExecutorService executor,
+        Utilities utilities, Rollbar rollbar, IssueArchiveService archiveService, JobMetrics jobMetrics,
+        JobLeaseManager jobLeaseManager, ObservationRegistry observationRegistry, SyncTaskQueue taskQueue,
+        NotificationOutboxQueue outboxQueue,
+        @Value("${github.fetch.strategy:repository-label}") FetchStrategy strategy,
+        @Value("${github.sync.incremental:true}") boolean incremental,
+        @Value("${github.sync.full-interval:1d}") Duration fullSyncInterval,
+        @Value("${database.batch-size:500}") int batchSize,
+        @Value("${github.graphql.batch-size:25}") int graphQlBatchSize,
+        @Value("${github.sync.work-queue.enabled:false}") boolean workQueue) {
         Objects.requireNonNull(context);
 
         Objects.requireNonNull(client);
 
+        Objects.requireNonNull(graphQlClient);
+
+        Objects.requireNonNull(governor);
+
+        Objects.requireNonNull(paginator);
+
+        Objects.requireNonNull(executor);
+
         Objects.requireNonNull(utilities);
 
         Objects.requireNonNull(rollbar);
 
+        Objects.requireNonNull(archiveService);
+
+        Objects.requireNonNull(jobMetrics);
+
+        Objects.requireNonNull(jobLeaseManager);
+
+        Objects.requireNonNull(observationRegistry);
+
+        Objects.requireNonNull(taskQueue);
+
+        Objects.requireNonNull(outboxQueue);
+
+        Objects.requireNonNull(strategy);
+
+        Objects.requireNonNull(fullSyncInterval);
+
+        if (workQueue && (strategy != FetchStrategy.REPOSITORY_LABEL)) {
+            String message = "The work queue can only be used with the repository-label fetch strategy";
+
+            throw new IllegalArgumentException(message);
+        }
+
         this.context = context;
 
         this.client = client;
 
+        this.graphQlClient = graphQlClient;
+
+        this.governor = governor;
+
+        this.paginator = paginator;
+
+        this.executor = executor;
+
         this.utilities = utilities;
 
         this.rollbar = rollbar;
+
+        this.archiveService = archiveService;
+
+        this.jobMetrics = jobMetrics;
+
+        this.jobLeaseManager = jobLeaseManager;
+
+        this.observationRegistry = observationRegistry;
+
+        this.taskQueue = taskQueue;
+
+        this.outboxQueue = outboxQueue;
+
+        this.strategy = strategy;
+
+        this.incremental = incremental;
+
+        this.fullSyncInterval = fullSyncInterval;
+
+        this.batchSize = batchSize;
+
+        this.graphQlBatchSize = graphQlBatchSize;
+
+        this.workQueue = workQueue;
     }
 
     /**
@@ -128,126 +351,1145 @@ public final class IssueService {
     }
 
     /**
-     * Returns {@link Issue}s that are associated with the specified {@link RepositoryLabel}.
+     * Returns the specified {@link RepositoryLabelSyncRecord}s keyed by {@link RepositoryLabel}.
+     *
+     * @param syncRecords the {@link RepositoryLabelSyncRecord}s to be used in the operation
+     * @return the specified {@link RepositoryLabelSyncRecord}s keyed by {@link RepositoryLabel}
+     * @throws NullPointerException if the specified {@link RepositoryLabelSyncRecord}s is {@code null}
+     */
+    private static Map<RepositoryLabel, RepositoryLabelSyncRecord> mapSyncRecords(
+        List<RepositoryLabelSyncRecord> syncRecords) {
+        Objects.requireNonNull(syncRecords);
+
+        Map<RepositoryLabel, RepositoryLabelSyncRecord> map = new HashMap<>();
+
+        for (RepositoryLabelSyncRecord syncRecord : syncRecords) {
+            String repositoryName = syncRecord.getRepositoryName();
+
+            String labelName = syncRecord.getLabelName();
+
+            RepositoryLabel repositoryLabel = new RepositoryLabel(repositoryName, labelName);
+
+            map.put(repositoryLabel, syncRecord);
+        }
+
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns the {@link RepositoryLabelSyncRecord}s of the last syncs, keyed by {@link RepositoryLabel}.
+     *
+     * @return the {@link RepositoryLabelSyncRecord}s of the last syncs, keyed by {@link RepositoryLabel}
+     */
+    private Map<RepositoryLabel, RepositoryLabelSyncRecord> getSyncRecords() {
+        List<RepositoryLabelSyncRecord> syncRecords;
+
+        try {
+            syncRecords = this.context.selectFrom(Tables.REPOSITORY_LABEL_SYNC)
+                                      .fetch();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            IssueService.LOGGER.error(message, e);
+
+            return null;
+        }
+
+        return IssueService.mapSyncRecords(syncRecords);
+    }
+
+    /**
+     * Returns whether a full sync is due for the specified {@link RepositoryLabelSyncRecord} at the specified sync
+     * date.
+     *
+     * @param syncRecord the {@link RepositoryLabelSyncRecord} to be used in the operation, or {@code null}
+     * @param syncDate the sync date to be used in the operation
+     * @return whether a full sync is due for the specified {@link RepositoryLabelSyncRecord} at the specified sync
+     * date
+     * @throws NullPointerException if the specified sync date is {@code null}
+     */
+    private boolean isFullSyncDue(RepositoryLabelSyncRecord syncRecord, OffsetDateTime syncDate) {
+        Objects.requireNonNull(syncDate);
+
+        if (!this.incremental || (syncRecord == null)) {
+            return true;
+        }
+
+        OffsetDateTime lastSyncDate = syncRecord.getSyncDate();
+
+        OffsetDateTime lastFullSyncDate = syncRecord.getFullSyncDate();
+
+        if ((lastSyncDate == null) || (lastFullSyncDate == null)) {
+            return true;
+        }
+
+        OffsetDateTime nextFullSyncDate = lastFullSyncDate.plus(this.fullSyncInterval);
+
+        return !nextFullSyncDate.isAfter(syncDate);
+    }
+
+    /**
+     * Returns the ISO 8601 timestamp that issues of the specified {@link RepositoryLabelSyncRecord} should have been
+     * updated since, or {@code null} if a full sync is due.
+     *
+     * @param syncRecord the {@link RepositoryLabelSyncRecord} to be used in the operation, or {@code null}
+     * @param syncDate the sync date to be used in the operation
+     * @return the ISO 8601 timestamp that issues should have been updated since, or {@code null} if a full sync is due
+     * @throws NullPointerException if the specified sync date is {@code null}
+     */
+    private String getSince(RepositoryLabelSyncRecord syncRecord, OffsetDateTime syncDate) {
+        Objects.requireNonNull(syncDate);
+
+        if (this.isFullSyncDue(syncRecord, syncDate)) {
+            return null;
+        }
+
+        OffsetDateTime lastSyncDate = syncRecord.getSyncDate();
+
+        return DateTimeFormatter.ISO_INSTANT.format(lastSyncDate);
+    }
+
+    /**
+     * Saves the specified sync date as the last sync of the specified {@link RepositoryLabel}.
      *
      * @param repositoryLabel the {@link RepositoryLabel} to be used in the operation
-     * @return {@link Issue}s that are associated with the specified {@link RepositoryLabel}
-     * @throws NullPointerException if the specified {@link RepositoryLabel} is {@code null}
+     * @param syncRecord the previous {@link RepositoryLabelSyncRecord} to be used in the operation, or {@code null}
+     * @param syncDate the sync date to be used in the operation
+     * @throws NullPointerException if the specified {@link RepositoryLabel} or sync date is {@code null}
      */
-    private Set<Issue> getRepositoryLabelIssues(RepositoryLabel repositoryLabel) {
+    private void saveSyncRecord(RepositoryLabel repositoryLabel, RepositoryLabelSyncRecord syncRecord,
+        OffsetDateTime syncDate) {
         Objects.requireNonNull(repositoryLabel);
 
+        Objects.requireNonNull(syncDate);
+
+        String repositoryName = repositoryLabel.repositoryName();
+
+        String labelName = repositoryLabel.labelName();
+
+        boolean fullSync = this.isFullSyncDue(syncRecord, syncDate);
+
+        OffsetDateTime fullSyncDate = fullSync ? syncDate : syncRecord.getFullSyncDate();
+
+        try {
+            this.context.insertInto(Tables.REPOSITORY_LABEL_SYNC)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.REPOSITORY_NAME, repositoryName)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.LABEL_NAME, labelName)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.SYNC_DATE, syncDate)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.FULL_SYNC_DATE, fullSyncDate)
+                        .onDuplicateKeyUpdate()
+                        .set(Tables.REPOSITORY_LABEL_SYNC.SYNC_DATE, syncDate)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.FULL_SYNC_DATE, fullSyncDate)
+                        .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            IssueService.LOGGER.error(message, e);
+        }
+    }
+
+    /**
+     * Adds the {@link Issue}s that are associated with the specified {@link RepositoryLabel} and that were updated
+     * since the specified timestamp to the specified {@link IssueBuffer}, one page at a time.
+     *
+     * @param repositoryLabel the {@link RepositoryLabel} to be used in the operation
+     * @param since the ISO 8601 timestamp to be used in the operation, or {@code null} to fetch all {@link Issue}s
+     * @param buffer the {@link IssueBuffer} to be used in the operation
+     * @return {@code true} if every page was fetched, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link RepositoryLabel} or {@link IssueBuffer} is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting for a page
+     * @throws ExecutionException if a page request threw an exception
+     */
+    private boolean fetchRepositoryLabelIssues(RepositoryLabel repositoryLabel, String since, IssueBuffer buffer)
+        throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(repositoryLabel);
+
+        Objects.requireNonNull(buffer);
+
         String repository = repositoryLabel.repositoryName();
 
         String label = repositoryLabel.labelName();
 
         int limit = 100;
 
-        Integer page = 1;
-
         String filter = "all";
 
-        Set<Issue> issues = new HashSet<>();
+        Paginator.PageRequest<Set<Issue>> request = page -> this.governor.exchange(
+            RateLimitGovernor.Resource.CORE, RateLimitGovernor.Priority.INTERACTIVE,
+            () -> this.client.getSpringIssues(repository, label, filter, since, limit, page));
+
+        String name = "github.fetch.repository.label";
+
+        Observation observation = Observation.createNotStarted(name, this.observationRegistry)
+                                             .highCardinalityKeyValue("repository", repository)
+                                             .highCardinalityKeyValue("label", label)
+                                             .start();
+
+        try (Observation.Scope scope = observation.openScope()) {
+            return this.paginator.fetch(request, responseEntity -> {
+                HttpStatusCode statusCode = responseEntity.getStatusCode();
+
+                Set<Issue> body = responseEntity.getBody();
+
+                if ((statusCode != HttpStatus.OK) || (body == null)) {
+                    String message = "The GitHub client response is NOT 200 OK and does NOT have a body";
+
+                    IssueService.LOGGER.error(message);
+
+                    return false;
+                }
+
+                buffer.add(body);
+
+                return true;
+            });
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            observation.error(e);
+
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Fetches the {@link Issue}s of the specified {@link RepositoryLabel}s into the specified {@link IssueBuffer}
+     * using the specified {@link RepositoryLabelSyncRecord}s and sync date. The {@link RepositoryLabel}s are fetched
+     * concurrently, and a {@link RepositoryLabel} that fails does not stop the others.
+     *
+     * @param repositoryLabels the {@link RepositoryLabel}s to be used in the operation
+     * @param syncRecords the {@link RepositoryLabelSyncRecord}s to be used in the operation
+     * @param syncDate the date that the run claiming the {@link RepositoryLabelSyncRecord}s started at to be used in
+     * the operation
+     * @param buffer the {@link IssueBuffer} to be used in the operation
+     * @return the {@link RepositoryLabel}s that were fetched completely
+     * @throws NullPointerException if the specified {@link RepositoryLabel}s, {@link RepositoryLabelSyncRecord}s, sync
+     * date, or {@link IssueBuffer} is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private Set<RepositoryLabel> fetchIssues(Set<RepositoryLabel> repositoryLabels,
+        Map<RepositoryLabel, RepositoryLabelSyncRecord> syncRecords, OffsetDateTime syncDate, IssueBuffer buffer)
+        throws InterruptedException {
+        Objects.requireNonNull(repositoryLabels);
+
+        Objects.requireNonNull(syncRecords);
+
+        Objects.requireNonNull(syncDate);
+
+        Objects.requireNonNull(buffer);
+
+        Map<RepositoryLabel, Future<Boolean>> futures = new HashMap<>();
+
+        for (RepositoryLabel repositoryLabel : repositoryLabels) {
+            RepositoryLabelSyncRecord syncRecord = syncRecords.get(repositoryLabel);
+
+            String since = this.getSince(syncRecord, syncDate);
+
+            Future<Boolean> future = this.executor.submit(() -> this.fetchRepositoryLabelIssues(repositoryLabel, since,
+                buffer));
+
+            futures.put(repositoryLabel, future);
+        }
+
+        Set<RepositoryLabel> fetchedRepositoryLabels = new HashSet<>();
+
+        try {
+            for (Map.Entry<RepositoryLabel, Future<Boolean>> entry : futures.entrySet()) {
+                RepositoryLabel repositoryLabel = entry.getKey();
+
+                Future<Boolean> future = entry.getValue();
+
+                try {
+                    if (future.get()) {
+                        fetchedRepositoryLabels.add(repositoryLabel);
+                    }
+                } catch (ExecutionException e) {
+                    String message = "The issues of %s could NOT be fetched".formatted(repositoryLabel);
+
+                    IssueService.LOGGER.error(message, e);
+
+                    this.rollbar.error(e.getCause(), message);
+                }
+            }
+        } finally {
+            futures.values()
+                   .forEach(future -> future.cancel(true));
+        }
+
+        return fetchedRepositoryLabels;
+    }
+
+    /**
+     * Adds the open {@link Issue}s across the organization that have the specified label and that belong to one of
+     * the specified repositories to the specified {@link IssueBuffer}, one page at a time, using the search endpoint.
+     * The search endpoint only returns the first 1,000 results of a query. The results of a label with more than that
+     * are still saved, but the label is not fetched completely, so it is not recorded as a full sync that the
+     * reconciliation would archive the missing {@link Issue}s from.
+     *
+     * @param labelName the label name to be used in the operation
+     * @param repositoryNames the repository names to be used in the operation
+     * @param buffer the {@link IssueBuffer} to be used in the operation
+     * @return {@code true} if every page was fetched, {@code false} otherwise
+     * @throws NullPointerException if the specified label name, repository names, or {@link IssueBuffer} is
+     * {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting for a page
+     * @throws ExecutionException if a page request threw an exception
+     */
+    private boolean searchLabelIssues(String labelName, Set<String> repositoryNames, IssueBuffer buffer)
+        throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(labelName);
+
+        Objects.requireNonNull(repositoryNames);
+
+        Objects.requireNonNull(buffer);
+
+        String query = "org:spring-projects is:issue is:open label:\"%s\"".formatted(labelName);
 
-        while (page != null) {
-            ResponseEntity<Set<Issue>> responseEntity = this.client.getSpringIssues(repository, label, filter, limit,
-                page);
+        int limit = 100;
+
+        int maxResultCount = 1_000;
+
+        AtomicInteger totalCount = new AtomicInteger();
+
+        Paginator.PageRequest<SearchResult<Issue>> request = page -> this.governor.exchange(
+            RateLimitGovernor.Resource.SEARCH, RateLimitGovernor.Priority.INTERACTIVE,
+            () -> this.client.searchIssues(query, limit, page));
 
+        boolean fetched = this.paginator.fetch(request, responseEntity -> {
             HttpStatusCode statusCode = responseEntity.getStatusCode();
 
-            Set<Issue> body = responseEntity.getBody();
+            SearchResult<Issue> body = responseEntity.getBody();
 
-            if ((statusCode != HttpStatus.OK) || (body == null)) {
+            if ((statusCode != HttpStatus.OK) || (body == null) || (body.items() == null)) {
                 String message = "The GitHub client response is NOT 200 OK and does NOT have a body";
 
                 IssueService.LOGGER.error(message);
 
-                return null;
+                return false;
+            } else if (body.incompleteResults()) {
+                String message = "The GitHub search results for label \"%s\" are incomplete".formatted(labelName);
+
+                IssueService.LOGGER.error(message);
+
+                return false;
             }
 
-            issues.addAll(body);
+            totalCount.set(body.totalCount());
 
-            HttpHeaders httpHeaders = responseEntity.getHeaders();
+            List<Issue> trackedIssues = body.items()
+                                            .stream()
+                                            .filter(issue -> repositoryNames.contains(issue.repositoryName()))
+                                            .toList();
 
-            page = this.utilities.getNextPage(httpHeaders);
+            buffer.add(trackedIssues);
+
+            return true;
+        });
+
+        if (totalCount.get() > maxResultCount) {
+            String format = "The GitHub search for label \"%s\" only returns the first %d of %d results";
+
+            String message = format.formatted(labelName, maxResultCount, totalCount.get());
+
+            IssueService.LOGGER.error(message);
+
+            return false;
         }
 
-        return issues;
+        return fetched;
     }
 
     /**
-     * Returns a {@link Set} of {@link Issue}s to be operated on.
+     * Searches the {@link Issue}s of the specified {@link RepositoryLabel}s into the specified {@link IssueBuffer}.
+     * Each label is searched once across the organization, and the results are mapped back to the tracked
+     * repositories using their repository URLs.
      *
-     * @return a {@link Set} of {@link Issue}s to be operated on
+     * @param repositoryLabels the {@link RepositoryLabel}s to be used in the operation
+     * @param buffer the {@link IssueBuffer} to be used in the operation
+     * @return the {@link RepositoryLabel}s that were fetched completely
+     * @throws NullPointerException if the specified {@link RepositoryLabel}s or {@link IssueBuffer} is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting for a page
+     * @throws ExecutionException if a page request threw an exception
      */
-    private Set<Issue> getIssues() {
-        Set<RepositoryLabel> repositoryLabels = this.getRepositoryLabels();
+    private Set<RepositoryLabel> searchIssues(Set<RepositoryLabel> repositoryLabels, IssueBuffer buffer)
+        throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(repositoryLabels);
 
-        if (repositoryLabels == null) {
-            return null;
+        Objects.requireNonNull(buffer);
+
+        Set<String> repositoryNames = repositoryLabels.stream()
+                                                      .map(RepositoryLabel::repositoryName)
+                                                      .collect(Collectors.toSet());
+
+        Set<String> labelNames = repositoryLabels.stream()
+                                                 .map(RepositoryLabel::labelName)
+                                                 .collect(Collectors.toSet());
+
+        Set<String> fetchedLabelNames = new HashSet<>();
+
+        for (String labelName : labelNames) {
+            if (this.searchLabelIssues(labelName, repositoryNames, buffer)) {
+                fetchedLabelNames.add(labelName);
+            }
         }
 
-        Set<Issue> allIssues = new HashSet<>();
+        return repositoryLabels.stream()
+                               .filter(repositoryLabel -> fetchedLabelNames.contains(repositoryLabel.labelName()))
+                               .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the ISO 8601 timestamp that the issues of every one of the specified {@link RepositoryLabel}s should
+     * have been updated since, or {@code null} if a full sync is due for any of them.
+     *
+     * @param repositoryLabels the {@link RepositoryLabel}s to be used in the operation
+     * @param syncRecords the {@link RepositoryLabelSyncRecord}s to be used in the operation
+     * @param syncDate the sync date to be used in the operation
+     * @return the earliest ISO 8601 timestamp of the specified {@link RepositoryLabel}s, or {@code null} if a full sync
+     * is due for any of them
+     * @throws NullPointerException if the specified {@link RepositoryLabel}s, {@link RepositoryLabelSyncRecord}s, or
+     * sync date is {@code null}
+     */
+    private String getEarliestSince(List<RepositoryLabel> repositoryLabels,
+        Map<RepositoryLabel, RepositoryLabelSyncRecord> syncRecords, OffsetDateTime syncDate) {
+        Objects.requireNonNull(repositoryLabels);
+
+        Objects.requireNonNull(syncRecords);
+
+        Objects.requireNonNull(syncDate);
+
+        List<String> sinces = new ArrayList<>();
 
         for (RepositoryLabel repositoryLabel : repositoryLabels) {
-            Set<Issue> issues = this.getRepositoryLabelIssues(repositoryLabel);
+            RepositoryLabelSyncRecord syncRecord = syncRecords.get(repositoryLabel);
+
+            String since = this.getSince(syncRecord, syncDate);
 
-            if (issues == null) {
+            if (since == null) {
                 return null;
             }
 
-            allIssues.addAll(issues);
+            sinces.add(since);
+        }
+
+        return sinces.stream()
+                     .min(Comparator.comparing(Instant::parse))
+                     .orElse(null);
+    }
+
+    /**
+     * Adds the {@link Issue}s of the specified {@link GraphQlIssueQuery} to the specified {@link IssueBuffer}, one
+     * request at a time, until every target of the query has been fetched or has failed.
+     *
+     * @param query the {@link GraphQlIssueQuery} to be used in the operation
+     * @param buffer the {@link IssueBuffer} to be used in the operation
+     * @throws NullPointerException if the specified {@link GraphQlIssueQuery} or {@link IssueBuffer} is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting for the rate limit
+     */
+    private void fetchGraphQlIssues(GraphQlIssueQuery query, IssueBuffer buffer) throws InterruptedException {
+        Objects.requireNonNull(query);
+
+        Objects.requireNonNull(buffer);
+
+        while (query.hasNextPage()) {
+            GraphQlRequest request = query.getNextRequest();
+
+            ResponseEntity<JsonNode> responseEntity = this.governor.exchange(RateLimitGovernor.Resource.GRAPHQL,
+                RateLimitGovernor.Priority.INTERACTIVE, () -> this.graphQlClient.query(request));
+
+            HttpStatusCode statusCode = responseEntity.getStatusCode();
+
+            JsonNode body = responseEntity.getBody();
+
+            JsonNode data = (body == null) ? null : body.get("data");
+
+            if ((statusCode != HttpStatus.OK) || (data == null) || !data.isObject()) {
+                String message = "The GitHub GraphQL response is NOT 200 OK and does NOT have data";
+
+                IssueService.LOGGER.error(message);
+
+                query.fail();
+
+                return;
+            }
+
+            JsonNode errors = body.path("errors");
+
+            if (!errors.isMissingNode()) {
+                String message = "The GitHub GraphQL response has errors: %s".formatted(errors);
+
+                IssueService.LOGGER.warn(message);
+            }
+
+            Set<Issue> issues = query.accept(data);
+
+            buffer.add(issues);
+        }
+    }
+
+    /**
+     * Fetches the {@link Issue}s of the specified {@link RepositoryLabel}s into the specified {@link IssueBuffer}
+     * using the GraphQL endpoint and the specified {@link RepositoryLabelSyncRecord}s and sync date. Each repository
+     * is queried once for all of its labels, and the repositories are batched so that one request covers many of
+     * them. A repository is synced since the earliest last sync of its labels.
+     *
+     * @param repositoryLabels the {@link RepositoryLabel}s to be used in the operation
+     * @param syncRecords the {@link RepositoryLabelSyncRecord}s to be used in the operation
+     * @param syncDate the date that the run claiming the {@link RepositoryLabelSyncRecord}s started at to be used in
+     * the operation
+     * @param buffer the {@link IssueBuffer} to be used in the operation
+     * @return the {@link RepositoryLabel}s that were fetched completely
+     * @throws NullPointerException if the specified {@link RepositoryLabel}s, {@link RepositoryLabelSyncRecord}s, sync
+     * date, or {@link IssueBuffer} is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting for the rate limit
+     */
+    private Set<RepositoryLabel> queryIssues(Set<RepositoryLabel> repositoryLabels,
+        Map<RepositoryLabel, RepositoryLabelSyncRecord> syncRecords, OffsetDateTime syncDate, IssueBuffer buffer)
+        throws InterruptedException {
+        Objects.requireNonNull(repositoryLabels);
+
+        Objects.requireNonNull(syncRecords);
+
+        Objects.requireNonNull(syncDate);
+
+        Objects.requireNonNull(buffer);
+
+        Map<String, List<RepositoryLabel>> repositoryNameToLabels = new HashMap<>();
+
+        for (RepositoryLabel repositoryLabel : repositoryLabels) {
+            String repositoryName = repositoryLabel.repositoryName();
+
+            repositoryNameToLabels.computeIfAbsent(repositoryName, key -> new ArrayList<>())
+                                  .add(repositoryLabel);
+        }
+
+        List<GraphQlIssueQuery.Target> targets = new ArrayList<>();
+
+        repositoryNameToLabels.forEach((repositoryName, labels) -> {
+            List<String> labelNames = labels.stream()
+                                            .map(RepositoryLabel::labelName)
+                                            .toList();
+
+            String since = this.getEarliestSince(labels, syncRecords, syncDate);
+
+            GraphQlIssueQuery.Target target = new GraphQlIssueQuery.Target(repositoryName, labelNames, since);
+
+            targets.add(target);
+        });
+
+        List<List<GraphQlIssueQuery.Target>> chunks = this.utilities.getChunks(targets, this.graphQlBatchSize);
+
+        Set<String> fetchedRepositoryNames = new HashSet<>();
+
+        for (List<GraphQlIssueQuery.Target> chunk : chunks) {
+            GraphQlIssueQuery query = new GraphQlIssueQuery(chunk);
+
+            this.fetchGraphQlIssues(query, buffer);
+
+            fetchedRepositoryNames.addAll(query.getFetchedRepositoryNames());
         }
 
-        return allIssues;
+        return repositoryLabels.stream()
+                               .filter(repositoryLabel -> fetchedRepositoryNames.contains(
+                                   repositoryLabel.repositoryName()))
+                               .collect(Collectors.toSet());
     }
 
     /**
-     * Saves the specified {@link Issue} to the database.
+     * Returns the {@link ResultQuery} that upserts the specified {@link Issue}s using the specified {@link DSLContext}
+     * and seen date. An existing row is only written if one of its columns changed.
+     *
+     * @param context the {@link DSLContext} to be used in the operation
+     * @param issues the {@link Issue}s to be used in the operation
+     * @param seenDate the seen date to be used in the operation
+     * @return the {@link ResultQuery} that upserts the specified {@link Issue}s, returning {@link SaveCounts#INSERTED}
+     * for each written row
+     * @throws NullPointerException if the specified {@link DSLContext}, {@link Issue}s, or seen date is {@code null}
+     */
+    static ResultQuery<Record1<Boolean>> getUpsertQuery(DSLContext context, Collection<Issue> issues,
+        OffsetDateTime seenDate) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(issues);
+
+        Objects.requireNonNull(seenDate);
+
+        InsertValuesStep6<IssueRecord, Integer, String, String, String, String, OffsetDateTime> insert =
+            context.insertInto(Tables.ISSUE, Tables.ISSUE.ID, Tables.ISSUE.TITLE, Tables.ISSUE.URL, Tables.ISSUE.STATE,
+                Tables.ISSUE.REPOSITORY_NAME, Tables.ISSUE.LAST_SEEN_DATE);
+
+        for (Issue issue : issues) {
+            insert = insert.values(issue.id(), issue.title(), issue.url(), issue.state(), issue.repositoryName(),
+                seenDate);
+        }
+
+        return insert.onConflict(Tables.ISSUE.ID)
+                     .doUpdate()
+                     .set(Tables.ISSUE.TITLE, DSL.excluded(Tables.ISSUE.TITLE))
+                     .set(Tables.ISSUE.URL, DSL.excluded(Tables.ISSUE.URL))
+                     .set(Tables.ISSUE.STATE, DSL.excluded(Tables.ISSUE.STATE))
+                     .set(Tables.ISSUE.REPOSITORY_NAME, DSL.excluded(Tables.ISSUE.REPOSITORY_NAME))
+                     .where(Tables.ISSUE.TITLE.isDistinctFrom(DSL.excluded(Tables.ISSUE.TITLE))
+                                              .or(Tables.ISSUE.URL.isDistinctFrom(DSL.excluded(Tables.ISSUE.URL)))
+                                              .or(Tables.ISSUE.STATE.isDistinctFrom(DSL.excluded(Tables.ISSUE.STATE)))
+                                              .or(Tables.ISSUE.REPOSITORY_NAME.isDistinctFrom(
+                                                  DSL.excluded(Tables.ISSUE.REPOSITORY_NAME))))
+                     .returningResult(SaveCounts.INSERTED);
+    }
+
+    /**
+     * Upserts the specified {@link Issue}s using one multi-row statement in one transaction. Existing rows are only
+     * updated if their title, URL, state, or repository is distinct from the saved one, so unchanged rows are not
+     * rewritten. The last seen date, which the reconciliation relies on, is then only set on the rows that were not
+     * seen since the specified sync date, so a row is written at most once per sync, however often it is fetched.
+     * {@link Issue}s that were archived are restored, keeping their notification dates, and the notifications of the
+     * {@link Issue}s that are still waiting for one are added to the outbox in the same transaction. The rows are
+     * written in order of their IDs, so that chunks saved concurrently lock shared rows in the same order rather than
+     * deadlocking, and each written row is counted from what the upsert returns.
+     *
+     * @param issues the {@link Issue}s to be used in the operation
+     * @param syncDate the date that the sync saving the {@link Issue}s started at to be used in the operation
+     * @return the {@link SaveCounts} of the upsert
+     * @throws NullPointerException if the specified {@link Issue}s or sync date is {@code null}
+     * @throws DataAccessException if the upsert fails
+     */
+    private SaveCounts upsertIssues(List<Issue> issues, OffsetDateTime syncDate) {
+        Objects.requireNonNull(issues);
+
+        Objects.requireNonNull(syncDate);
+
+        List<Issue> sortedIssues = issues.stream()
+                                         .sorted(Comparator.comparingInt(Issue::id))
+                                         .toList();
+
+        List<Integer> ids = sortedIssues.stream()
+                                        .map(Issue::id)
+                                        .toList();
+
+        OffsetDateTime seenDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+        Observation observation = Observation.createNotStarted("bot.issue.upsert", this.observationRegistry)
+                                             .highCardinalityKeyValue("issues", String.valueOf(issues.size()));
+
+        return observation.observe(() -> this.context.transactionResult(configuration -> {
+            DSLContext transactionContext = DSL.using(configuration);
+
+            List<Boolean> insertedValues = IssueService.getUpsertQuery(transactionContext, sortedIssues, seenDate)
+                                                       .fetch(SaveCounts.INSERTED);
+
+            transactionContext.update(Tables.ISSUE)
+                              .set(Tables.ISSUE.LAST_SEEN_DATE, seenDate)
+                              .where(Tables.ISSUE.ID.in(ids))
+                              .and(Tables.ISSUE.LAST_SEEN_DATE.isNull()
+                                                              .or(Tables.ISSUE.LAST_SEEN_DATE.lt(syncDate)))
+                              .execute();
+
+            this.archiveService.restoreIssues(transactionContext, ids);
+
+            this.outboxQueue.enqueueNotifications(transactionContext, ids);
+
+            return SaveCounts.of(sortedIssues.size(), insertedValues);
+        }));
+    }
+
+    /**
+     * Saves the specified {@link Issue} to the database. If the save fails, the name of the repository of the
+     * {@link Issue} is added to the specified failed repository names.
      *
      * @param issue the {@link Issue} to be used in the operation
-     * @throws NullPointerException if the specified {@link Issue} is {@code null}
+     * @param syncDate the sync date to be used in the operation
+     * @param failedRepositoryNames the failed repository names to be used in the operation
+     * @return the {@link SaveCounts} of the save
+     * @throws NullPointerException if the specified {@link Issue}, sync date, or failed repository names is
+     * {@code null}
      */
-    private void saveIssue(Issue issue) {
+    private SaveCounts saveIssue(Issue issue, OffsetDateTime syncDate, Set<String> failedRepositoryNames) {
         Objects.requireNonNull(issue);
 
-        int id = issue.id();
+        Objects.requireNonNull(syncDate);
 
-        String title = issue.title();
+        Objects.requireNonNull(failedRepositoryNames);
 
-        String url = issue.url();
+        List<Issue> issues = List.of(issue);
 
         try {
-            this.context.insertInto(Tables.ISSUE)
-                        .set(Tables.ISSUE.ID, id)
-                        .set(Tables.ISSUE.TITLE, title)
-                        .set(Tables.ISSUE.URL, url)
-                        .onDuplicateKeyUpdate()
-                        .set(Tables.ISSUE.TITLE, title)
-                        .set(Tables.ISSUE.URL, url)
-                        .execute();
+            return this.upsertIssues(issues, syncDate);
         } catch (DataAccessException e) {
             String message = e.getMessage();
 
             IssueService.LOGGER.error(message, e);
+
+            String repositoryName = issue.repositoryName();
+
+            if (repositoryName != null) {
+                failedRepositoryNames.add(repositoryName);
+            }
+
+            return new SaveCounts(0, 0, 0, 1);
+        }
+    }
+
+    /**
+     * Saves the specified chunk of {@link Issue}s to the database. If the chunk fails, its {@link Issue}s are saved
+     * one at a time so that one bad row does not sink the others.
+     *
+     * @param chunk the chunk of {@link Issue}s to be used in the operation
+     * @param syncDate the sync date to be used in the operation
+     * @param failedRepositoryNames the failed repository names to be used in the operation
+     * @return the {@link SaveCounts} of the save
+     * @throws NullPointerException if the specified chunk, sync date, or failed repository names is {@code null}
+     */
+    private SaveCounts saveIssueChunk(List<Issue> chunk, OffsetDateTime syncDate, Set<String> failedRepositoryNames) {
+        Objects.requireNonNull(chunk);
+
+        Objects.requireNonNull(syncDate);
+
+        Objects.requireNonNull(failedRepositoryNames);
+
+        try {
+            return this.upsertIssues(chunk, syncDate);
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            IssueService.LOGGER.error(message, e);
+
+            return chunk.stream()
+                        .map(issue -> this.saveIssue(issue, syncDate, failedRepositoryNames))
+                        .reduce(SaveCounts.EMPTY, SaveCounts::plus);
         }
     }
 
     /**
-     * Updates the open Spring {@link Issue}s every hour.
+     * Returns the specified {@link Issue}s without duplicate IDs. The last {@link Issue} with an ID wins, and the
+     * {@link Issue}s keep the order in which their IDs were first encountered.
+     *
+     * @param issues the {@link Issue}s to be used in the operation
+     * @return the specified {@link Issue}s without duplicate IDs
+     * @throws NullPointerException if the specified {@link Issue}s is {@code null}
+     */
+    static Collection<Issue> getDistinctIssues(Collection<Issue> issues) {
+        Objects.requireNonNull(issues);
+
+        Map<Integer, Issue> idToIssue = new LinkedHashMap<>();
+
+        issues.forEach(issue -> idToIssue.put(issue.id(), issue));
+
+        return idToIssue.values();
+    }
+
+    /**
+     * Saves the specified {@link Issue}s to the database in chunks of the batch size of this {@link IssueService}. The
+     * names of the repositories of the {@link Issue}s that could not be saved are added to the specified failed
+     * repository names, which must be safe to add to from several threads. The specified sync date must not be after
+     * the sync date that a full sync of the {@link Issue}s is recorded with, since rows seen since it are not marked
+     * as seen again.
+     *
+     * @param issues the {@link Issue}s to be used in the operation
+     * @param syncDate the sync date to be used in the operation
+     * @param failedRepositoryNames the failed repository names to be used in the operation
+     * @return the {@link SaveCounts} of the save
+     * @throws NullPointerException if the specified {@link Issue}s, sync date, or failed repository names is
+     * {@code null}
+     */
+    private SaveCounts saveIssues(Collection<Issue> issues, OffsetDateTime syncDate,
+        Set<String> failedRepositoryNames) {
+        Objects.requireNonNull(issues);
+
+        Objects.requireNonNull(syncDate);
+
+        Objects.requireNonNull(failedRepositoryNames);
+
+        Collection<Issue> distinctIssues = IssueService.getDistinctIssues(issues);
+
+        List<List<Issue>> chunks = this.utilities.getChunks(distinctIssues, this.batchSize);
+
+        return chunks.stream()
+                     .map(chunk -> this.saveIssueChunk(chunk, syncDate, failedRepositoryNames))
+                     .reduce(SaveCounts.EMPTY, SaveCounts::plus);
+    }
+
+    /**
+     * Saves the specified {@link Issue}s to the database in chunks of the batch size of this {@link IssueService}.
+     * This is used by the {@link WebhookService} to save the {@link Issue}s of webhook events.
+     *
+     * @param issues the {@link Issue}s to be used in the operation
+     * @return the {@link SaveCounts} of the save
+     * @throws NullPointerException if the specified {@link Issue}s is {@code null}
+     */
+    SaveCounts saveIssues(Collection<Issue> issues) {
+        Objects.requireNonNull(issues);
+
+        OffsetDateTime syncDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+        Set<String> failedRepositoryNames = ConcurrentHashMap.newKeySet();
+
+        return this.saveIssues(issues, syncDate, failedRepositoryNames);
+    }
+
+    /**
+     * Returns the specified fetched {@link RepositoryLabel}s whose {@link Issue}s were all saved, which are those
+     * whose repository is not one of the specified failed repository names. Since a saved {@link Issue} does not
+     * record which label it was fetched for, a failed save holds back every label of its repository.
+     *
+     * @param fetchedRepositoryLabels the fetched {@link RepositoryLabel}s to be used in the operation
+     * @param failedRepositoryNames the failed repository names to be used in the operation
+     * @return the specified fetched {@link RepositoryLabel}s whose {@link Issue}s were all saved
+     * @throws NullPointerException if the specified fetched {@link RepositoryLabel}s or failed repository names is
+     * {@code null}
+     */
+    private static Set<RepositoryLabel> getSavedRepositoryLabels(Set<RepositoryLabel> fetchedRepositoryLabels,
+        Set<String> failedRepositoryNames) {
+        Objects.requireNonNull(fetchedRepositoryLabels);
+
+        Objects.requireNonNull(failedRepositoryNames);
+
+        return fetchedRepositoryLabels.stream()
+                                      .filter(repositoryLabel -> !failedRepositoryNames.contains(
+                                          repositoryLabel.repositoryName()))
+                                      .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the {@link Condition} that matches the saved {@link Issue}s that no longer match an open, labeled issue
+     * of a tracked repository using the specified {@link RepositoryLabel}s and {@link RepositoryLabelSyncRecord}s. An
+     * {@link Issue} matches if it is closed, if its repository is no longer tracked, or if it was last seen before the
+     * earliest full sync of its repository's labels, which means that a full sync of the repository did not return
+     * it. A repository that has a label without a full sync is not reconciled.
+     *
+     * @param repositoryLabels the {@link RepositoryLabel}s to be used in the operation
+     * @param syncRecords the {@link RepositoryLabelSyncRecord}s to be used in the operation
+     * @return the {@link Condition} that matches the saved {@link Issue}s that are stale
+     * @throws NullPointerException if the specified {@link RepositoryLabel}s or {@link RepositoryLabelSyncRecord}s is
+     * {@code null}
+     */
+    private Condition getStaleCondition(Set<RepositoryLabel> repositoryLabels,
+        Map<RepositoryLabel, RepositoryLabelSyncRecord> syncRecords) {
+        Objects.requireNonNull(repositoryLabels);
+
+        Objects.requireNonNull(syncRecords);
+
+        Map<String, OffsetDateTime> repositoryNameToFullSyncDate = new HashMap<>();
+
+        Set<String> unsyncedRepositoryNames = new HashSet<>();
+
+        for (RepositoryLabel repositoryLabel : repositoryLabels) {
+            String repositoryName = repositoryLabel.repositoryName();
+
+            RepositoryLabelSyncRecord syncRecord = syncRecords.get(repositoryLabel);
+
+            OffsetDateTime fullSyncDate = (syncRecord == null) ? null : syncRecord.getFullSyncDate();
+
+            if (fullSyncDate == null) {
+                unsyncedRepositoryNames.add(repositoryName);
+            } else {
+                repositoryNameToFullSyncDate.merge(repositoryName, fullSyncDate,
+                    (date0, date1) -> date0.isBefore(date1) ? date0 : date1);
+            }
+        }
+
+        unsyncedRepositoryNames.forEach(repositoryNameToFullSyncDate::remove);
+
+        Set<String> repositoryNames = repositoryLabels.stream()
+                                                      .map(RepositoryLabel::repositoryName)
+                                                      .collect(Collectors.toSet());
+
+        Condition condition = Tables.ISSUE.STATE.eq("closed")
+                                                .or(Tables.ISSUE.REPOSITORY_NAME.notIn(repositoryNames));
+
+        for (Map.Entry<String, OffsetDateTime> entry : repositoryNameToFullSyncDate.entrySet()) {
+            String repositoryName = entry.getKey();
+
+            OffsetDateTime fullSyncDate = entry.getValue();
+
+            condition = condition.or(Tables.ISSUE.REPOSITORY_NAME.eq(repositoryName)
+                                                                 .and(Tables.ISSUE.LAST_SEEN_DATE.lt(fullSyncDate)));
+        }
+
+        if (unsyncedRepositoryNames.isEmpty()) {
+            OffsetDateTime earliestFullSyncDate = Collections.min(repositoryNameToFullSyncDate.values());
+
+            Condition unseenCondition = Tables.ISSUE.LAST_SEEN_DATE.isNull()
+                                                                   .or(Tables.ISSUE.LAST_SEEN_DATE.lt(
+                                                                       earliestFullSyncDate));
+
+            condition = condition.or(Tables.ISSUE.REPOSITORY_NAME.isNull()
+                                                                 .and(unseenCondition));
+        }
+
+        return condition;
+    }
+
+    /**
+     * Moves the saved {@link Issue}s that no longer match an open, labeled issue of one of the specified
+     * {@link RepositoryLabel}s to the issue archive, so the issue table stays proportional to the open first-timer
+     * issues.
+     *
+     * @param repositoryLabels the {@link RepositoryLabel}s to be used in the operation
+     * @throws NullPointerException if the specified {@link RepositoryLabel}s is {@code null}
+     */
+    private void reconcileIssues(Set<RepositoryLabel> repositoryLabels) {
+        Objects.requireNonNull(repositoryLabels);
+
+        if (repositoryLabels.isEmpty()) {
+            return;
+        }
+
+        Map<RepositoryLabel, RepositoryLabelSyncRecord> syncRecords = this.getSyncRecords();
+
+        if (syncRecords == null) {
+            return;
+        }
+
+        Condition condition = this.getStaleCondition(repositoryLabels, syncRecords);
+
+        Integer archivedCount = this.archiveService.archiveIssues(condition);
+
+        if (archivedCount == null) {
+            return;
+        }
+
+        String message = "Archived %d stale issues".formatted(archivedCount);
+
+        IssueService.LOGGER.info(message);
+    }
+
+    /**
+     * Fetches the {@link Issue}s of the specified claimed {@link RepositoryLabelSyncRecord}s into the specified
+     * {@link IssueBuffer} and flushes it. The tasks of the {@link RepositoryLabel}s that were fetched completely and
+     * whose repositories are not one of the specified failed repository names are then completed, while the others
+     * are left claimed, so they are retried from their previous sync date once their visibility timeout lapses.
+     *
+     * @param claimedRecords the claimed {@link RepositoryLabelSyncRecord}s to be used in the operation
+     * @param syncDate the date that the run claiming the {@link RepositoryLabelSyncRecord}s started at to be used in
+     * the operation
+     * @param buffer the {@link IssueBuffer} to be used in the operation
+     * @param failedRepositoryNames the failed repository names of the {@link IssueBuffer} to be used in the operation
+     * @return the number of {@link RepositoryLabel}s that were not fetched or saved completely
+     * @throws NullPointerException if the specified {@link RepositoryLabelSyncRecord}s, sync date,
+     * {@link IssueBuffer}, or failed repository names is {@code null}
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private int syncTasks(List<RepositoryLabelSyncRecord> claimedRecords, OffsetDateTime syncDate,
+        IssueBuffer buffer, Set<String> failedRepositoryNames) throws InterruptedException {
+        Objects.requireNonNull(claimedRecords);
+
+        Objects.requireNonNull(syncDate);
+
+        Objects.requireNonNull(buffer);
+
+        Objects.requireNonNull(failedRepositoryNames);
+
+        Map<RepositoryLabel, RepositoryLabelSyncRecord> syncRecords = IssueService.mapSyncRecords(claimedRecords);
+
+        Set<RepositoryLabel> fetchedRepositoryLabels = this.fetchIssues(syncRecords.keySet(), syncRecords, syncDate,
+            buffer);
+
+        buffer.flush();
+
+        Set<RepositoryLabel> savedRepositoryLabels = IssueService.getSavedRepositoryLabels(fetchedRepositoryLabels,
+            failedRepositoryNames);
+
+        for (RepositoryLabel repositoryLabel : savedRepositoryLabels) {
+            RepositoryLabelSyncRecord syncRecord = syncRecords.get(repositoryLabel);
+
+            boolean fullSync = this.isFullSyncDue(syncRecord, syncDate);
+
+            OffsetDateTime fullSyncDate = fullSync ? syncDate : syncRecord.getFullSyncDate();
+
+            this.taskQueue.completeTask(repositoryLabel.repositoryName(), repositoryLabel.labelName(), syncDate,
+                fullSyncDate);
+        }
+
+        return syncRecords.size() - savedRepositoryLabels.size();
+    }
+
+    /**
+     * Updates the open Spring {@link Issue}s using the {@link FetchStrategy} of this {@link IssueService}.
+     * When fetching by {@link RepositoryLabel} or through GraphQL, only the {@link Issue}s updated since the last sync
+     * are fetched unless a full sync is due. Searches always fetch every open {@link Issue}, so they are recorded as
+     * full syncs. Each page is saved through a bounded {@link IssueBuffer} as it arrives, and only the
+     * {@link RepositoryLabel}s that were fetched and saved completely have their syncs recorded, so the others are
+     * fetched again from their previous sync date. The saved {@link Issue}s are
+     * then reconciled against the recorded full syncs. When the work queue is used, the {@link RepositoryLabel}s are
+     * synced by the sync tasks instead, and this job only reconciles. Once the lease of the job is lost, no more
+     * {@link Issue}s are saved, and neither the syncs are recorded nor the saved {@link Issue}s reconciled, since
+     * another replica may be running the job. Each run is timed and counted by outcome, and a run in which a
+     * {@link RepositoryLabel} or a row failed counts as partial.
+     *
+     * @param leaseHeld the {@link BooleanSupplier} that returns whether the lease of the job is still held
+     * @throws NullPointerException if the specified {@link BooleanSupplier} is {@code null}
+     */
+    private void syncIssues(BooleanSupplier leaseHeld) {
+        Objects.requireNonNull(leaseHeld);
+
+        Observation observation = this.jobMetrics.start(IssueService.JOB_NAME);
+
+        JobMetrics.Outcome outcome = JobMetrics.Outcome.FAILURE;
+
+        try (Observation.Scope scope = observation.openScope()) {
+            OffsetDateTime syncDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+            Set<RepositoryLabel> repositoryLabels = this.getRepositoryLabels();
+
+            if (repositoryLabels == null) {
+                return;
+            }
+
+            if (this.workQueue) {
+                if (!leaseHeld.getAsBoolean()) {
+                    return;
+                }
+
+                this.reconcileIssues(repositoryLabels);
+
+                outcome = JobMetrics.Outcome.SUCCESS;
+
+                return;
+            }
+
+            Map<RepositoryLabel, RepositoryLabelSyncRecord> syncRecords = this.getSyncRecords();
+
+            if (syncRecords == null) {
+                return;
+            }
+
+            Set<String> failedRepositoryNames = ConcurrentHashMap.newKeySet();
+
+            IssueBuffer buffer = new IssueBuffer(this.batchSize, issues -> leaseHeld.getAsBoolean()
+                ? this.saveIssues(issues, syncDate, failedRepositoryNames) : SaveCounts.EMPTY);
+
+            Set<RepositoryLabel> fetchedRepositoryLabels = switch (this.strategy) {
+                case REPOSITORY_LABEL -> this.fetchIssues(repositoryLabels, syncRecords, syncDate, buffer);
+                case SEARCH -> this.searchIssues(repositoryLabels, buffer);
+                case GRAPHQL -> this.queryIssues(repositoryLabels, syncRecords, syncDate, buffer);
+            };
+
+            SaveCounts saveCounts = buffer.flush();
+
+            if (!leaseHeld.getAsBoolean()) {
+                String message = "Stopped syncing issues because the lease of the job was lost: %s".formatted(
+                    saveCounts);
+
+                IssueService.LOGGER.warn(message);
+
+                return;
+            }
+
+            Set<RepositoryLabel> savedRepositoryLabels = IssueService.getSavedRepositoryLabels(fetchedRepositoryLabels,
+                failedRepositoryNames);
+
+            int failedCount = repositoryLabels.size() - savedRepositoryLabels.size();
+
+            String message = "Saved issues: %s; %d of %d repository labels failed".formatted(saveCounts, failedCount,
+                repositoryLabels.size());
+
+            IssueService.LOGGER.info(message);
+
+            for (RepositoryLabel repositoryLabel : savedRepositoryLabels) {
+                RepositoryLabelSyncRecord syncRecord = switch (this.strategy) {
+                    case REPOSITORY_LABEL, GRAPHQL -> syncRecords.get(repositoryLabel);
+                    case SEARCH -> null;
+                };
+
+                this.saveSyncRecord(repositoryLabel, syncRecord, syncDate);
+            }
+
+            this.reconcileIssues(repositoryLabels);
+
+            boolean failed = (failedCount > 0) || (saveCounts.failed() > 0);
+
+            outcome = failed ? JobMetrics.Outcome.PARTIAL : JobMetrics.Outcome.SUCCESS;
+        } catch (Exception e) {
+            observation.error(e);
+
+            this.rollbar.error(e);
+        } finally {
+            this.jobMetrics.stop(observation, IssueService.JOB_NAME, outcome);
+        }
+    }
+
+    /**
+     * Updates the open Spring {@link Issue}s every hour on the replica that holds the lease of the job.
      */
     @Scheduled(fixedRate = 1L, timeUnit = TimeUnit.HOURS)
     public void updateIssues() {
-        try {
-            Set<Issue> issues = this.getIssues();
+        Duration interval = Duration.ofHours(1L);
 
-            if (issues == null) {
+        this.jobLeaseManager.runWithLease(IssueService.JOB_NAME, interval, this::syncIssues);
+    }
+
+    /**
+     * Updates the open Spring {@link Issue}s right away on the replica that holds the lease of the job, such as in a
+     * load test. It does not count as the last run of the job, so the hourly run still happens.
+     */
+    public void updateIssuesNow() {
+        this.jobLeaseManager.runWithLease(IssueService.JOB_NAME, Duration.ZERO, this::syncIssues);
+    }
+
+    /**
+     * Processes the due sync tasks of the {@link SyncTaskQueue} of this {@link IssueService} every minute, if the work
+     * queue is used. Every replica runs this job, claiming batches of tasks until none are due, so the
+     * {@link RepositoryLabel}s are shared between the replicas. Each run is timed and counted by outcome, and a run in
+     * which a task or a row failed counts as partial.
+     */
+    @Scheduled(fixedDelayString = "${github.sync.work-queue.poll-interval:PT1M}")
+    public void processSyncTasks() {
+        if (!this.workQueue) {
+            return;
+        }
+
+        Observation observation = this.jobMetrics.start(IssueService.TASK_JOB_NAME);
+
+        JobMetrics.Outcome outcome = JobMetrics.Outcome.FAILURE;
+
+        try (Observation.Scope scope = observation.openScope()) {
+            if (this.taskQueue.enqueueTasks() == null) {
                 return;
             }
 
-            issues.forEach(this::saveIssue);
+            OffsetDateTime syncDate = OffsetDateTime.now(ZoneOffset.UTC);
+
+            Set<String> failedRepositoryNames = ConcurrentHashMap.newKeySet();
+
+            IssueBuffer buffer = new IssueBuffer(this.batchSize, issues -> this.saveIssues(issues, syncDate,
+                failedRepositoryNames));
+
+            int claimedCount = 0;
+
+            int failedCount = 0;
+
+            List<RepositoryLabelSyncRecord> claimedRecords = this.taskQueue.claimTasks();
+
+            while ((claimedRecords != null) && !claimedRecords.isEmpty()) {
+                claimedCount += claimedRecords.size();
+
+                failedCount += this.syncTasks(claimedRecords, syncDate, buffer, failedRepositoryNames);
+
+                claimedRecords = this.taskQueue.claimTasks();
+            }
+
+            SaveCounts saveCounts = buffer.flush();
+
+            if (claimedCount > 0) {
+                String message = "Saved issues: %s; %d of %d sync tasks failed".formatted(saveCounts, failedCount,
+                    claimedCount);
+
+                IssueService.LOGGER.info(message);
+            }
+
+            if (claimedRecords == null) {
+                return;
+            }
+
+            boolean failed = (failedCount > 0) || (saveCounts.failed() > 0);
+
+            outcome = failed ? JobMetrics.Outcome.PARTIAL : JobMetrics.Outcome.SUCCESS;
         } catch (Exception e) {
+            observation.error(e);
+
             this.rollbar.error(e);
+        } finally {
+            this.jobMetrics.stop(observation, IssueService.TASK_JOB_NAME, outcome);
         }
     }
 }
\ No newline at end of file
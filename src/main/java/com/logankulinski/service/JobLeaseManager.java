@@ -0,0 +1,365 @@
+package com.logankulinski.service;
+
+import org.springframework.stereotype.Component;
+import org.jooq.DSLContext;
+import java.util.concurrent.ScheduledExecutorService;
+import java.time.Duration;
+import org.jooq.types.DayToSecond;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.Objects;
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import org.jooq.Field;
+import java.time.OffsetDateTime;
+import org.jooq.impl.DSL;
+import com.logankulinski.jooq.Tables;
+import org.jooq.exception.DataAccessException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A manager of the leases of the jobs of the Spring Projects First-timer Bot. A job only runs on the replica that
+ * holds its lease in the job lease table, so running several replicas does not multiply the work. A lease expires
+ * after its time to live unless its holder renews it, which it does every third of the time to live while the job
+ * runs, and it is released as soon as the job ends. The start of the last run of each job is kept with its lease, and
+ * a job is not run again until its interval has passed, so a replica whose schedule fires just after another
+ * replica's run does not repeat it. A running job is told whether its lease is still held, so a replica that lost
+ * the lease stops writing. The database clock is used for every date in the job lease table, so the clocks of the
+ * replicas do not have to agree.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+final class JobLeaseManager {
+    /**
+     * A task that runs under the lease of a job.
+     */
+    @FunctionalInterface
+    interface LeaseTask {
+        /**
+         * Runs this {@link LeaseTask}. The specified {@link BooleanSupplier} should be checked before each write, and
+         * the task should stop once it returns {@code false}, since another replica may be running the job by then.
+         *
+         * @param leaseHeld the {@link BooleanSupplier} that returns whether the lease is still held
+         */
+        void run(BooleanSupplier leaseHeld);
+    }
+
+    /**
+     * The {@link DSLContext} of this {@link JobLeaseManager}.
+     */
+    private final DSLContext context;
+
+    /**
+     * The {@link ScheduledExecutorService} of this {@link JobLeaseManager}, used to renew its leases.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The time to live of the leases of this {@link JobLeaseManager}.
+     */
+    private final DayToSecond ttl;
+
+    /**
+     * The time to live in nanoseconds of the leases of this {@link JobLeaseManager}.
+     */
+    private final long ttlNanos;
+
+    /**
+     * The interval in milliseconds at which this {@link JobLeaseManager} renews its leases.
+     */
+    private final long renewalInterval;
+
+    /**
+     * The owner of the leases of this {@link JobLeaseManager}.
+     */
+    private final String owner;
+
+    /**
+     * The {@link Logger} of the {@link JobLeaseManager} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LoggerFactory.getLogger(JobLeaseManager.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link JobLeaseManager} class. The owner of its leases is the name of the running
+     * virtual machine followed by a random suffix, so that two instances never share an owner.
+     *
+     * @param context the {@link DSLContext} to be used in the operation
+     * @param executor the {@link ScheduledExecutorService} to be used in the operation
+     * @param ttl the time to live to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext}, {@link ScheduledExecutorService}, or time to
+     * live is {@code null}
+     * @throws IllegalArgumentException if the specified time to live is shorter than three seconds
+     */
+    @Autowired
+    JobLeaseManager(DSLContext context, @Qualifier("leaseExecutor") ScheduledExecutorService executor,
+        @Value("${job-lease.ttl:2m}") Duration ttl) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(executor);
+
+        Objects.requireNonNull(ttl);
+
+        if (ttl.toSeconds() < 3L) {
+            String message = "The time to live must be at least three seconds";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.context = context;
+
+        this.executor = executor;
+
+        this.ttl = DayToSecond.valueOf(ttl);
+
+        this.ttlNanos = ttl.toNanos();
+
+        this.renewalInterval = ttl.toMillis() / 3L;
+
+        String name = ManagementFactory.getRuntimeMXBean()
+                                       .getName();
+
+        String suffix = UUID.randomUUID()
+                            .toString()
+                            .substring(0, 8);
+
+        this.owner = "%s/%s".formatted(name, suffix);
+    }
+
+    /**
+     * Returns the owner of the leases of this {@link JobLeaseManager}, which identifies this replica.
+     *
+     * @return the owner of the leases of this {@link JobLeaseManager}
+     */
+    String getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * Returns the expiration date of a lease that is acquired or renewed now.
+     *
+     * @return the expiration date of a lease that is acquired or renewed now
+     */
+    private Field<OffsetDateTime> getExpirationDate() {
+        return DSL.currentOffsetDateTime()
+                  .plus(this.ttl);
+    }
+
+    /**
+     * Attempts to acquire the lease of the job with the specified name. The lease is acquired if it does not exist,
+     * or if it has expired and the last run of the job started at least the specified interval ago, less a third of
+     * the time to live, so that jitter in the schedule of the replica that ran the job last does not make it skip its
+     * own next run. Unless the specified interval is zero, the start of this run is then kept as the last run.
+     *
+     * @param job the name of the job to be used in the operation
+     * @param interval the interval to be used in the operation
+     * @return {@code true} if the lease was acquired, {@code false} otherwise
+     * @throws NullPointerException if the specified name or interval is {@code null}
+     */
+    private boolean acquireLease(String job, Duration interval) {
+        Objects.requireNonNull(job);
+
+        Objects.requireNonNull(interval);
+
+        Duration minimumInterval = interval.minusMillis(this.renewalInterval);
+
+        if (minimumInterval.isNegative()) {
+            minimumInterval = Duration.ZERO;
+        }
+
+        Field<OffsetDateTime> now = DSL.currentOffsetDateTime();
+
+        Field<OffsetDateTime> lastRunLimit = now.minus(DayToSecond.valueOf(minimumInterval));
+
+        Field<OffsetDateTime> lastRunDate = interval.isZero() ? DSL.castNull(Tables.JOB_LEASE.LAST_RUN_DATE) : now;
+
+        try {
+            int count = this.context.insertInto(Tables.JOB_LEASE)
+                                    .set(Tables.JOB_LEASE.JOB_NAME, job)
+                                    .set(Tables.JOB_LEASE.OWNER, this.owner)
+                                    .set(Tables.JOB_LEASE.EXPIRATION_DATE, this.getExpirationDate())
+                                    .set(Tables.JOB_LEASE.LAST_RUN_DATE, lastRunDate)
+                                    .onConflict(Tables.JOB_LEASE.JOB_NAME)
+                                    .doUpdate()
+                                    .set(Tables.JOB_LEASE.OWNER, DSL.excluded(Tables.JOB_LEASE.OWNER))
+                                    .set(Tables.JOB_LEASE.EXPIRATION_DATE,
+                                        DSL.excluded(Tables.JOB_LEASE.EXPIRATION_DATE))
+                                    .set(Tables.JOB_LEASE.LAST_RUN_DATE,
+                                        DSL.coalesce(DSL.excluded(Tables.JOB_LEASE.LAST_RUN_DATE),
+                                            Tables.JOB_LEASE.LAST_RUN_DATE))
+                                    .where(Tables.JOB_LEASE.EXPIRATION_DATE.le(now))
+                                    .and(Tables.JOB_LEASE.LAST_RUN_DATE.isNull()
+                                                                       .or(Tables.JOB_LEASE.LAST_RUN_DATE.le(
+                                                                           lastRunLimit)))
+                                    .execute();
+
+            return count == 1;
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            JobLeaseManager.LOGGER.error(message, e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Renews the lease of the job with the specified name, setting the specified flag if the lease is no longer held.
+     * If it was renewed, the specified deadline, in {@link System#nanoTime()} units, is moved to the time to live
+     * after the renewal started, which is no later than the new expiration date.
+     *
+     * @param job the name of the job to be used in the operation
+     * @param lost the flag to be used in the operation
+     * @param deadline the deadline to be used in the operation
+     * @throws NullPointerException if the specified name, flag, or deadline is {@code null}
+     */
+    private void renewLease(String job, AtomicBoolean lost, AtomicLong deadline) {
+        Objects.requireNonNull(job);
+
+        Objects.requireNonNull(lost);
+
+        Objects.requireNonNull(deadline);
+
+        long renewalStart = System.nanoTime();
+
+        int count;
+
+        try {
+            count = this.context.update(Tables.JOB_LEASE)
+                                .set(Tables.JOB_LEASE.EXPIRATION_DATE, this.getExpirationDate())
+                                .where(Tables.JOB_LEASE.JOB_NAME.eq(job))
+                                .and(Tables.JOB_LEASE.OWNER.eq(this.owner))
+                                .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            JobLeaseManager.LOGGER.error(message, e);
+
+            return;
+        }
+
+        if (count == 1) {
+            deadline.set(renewalStart + this.ttlNanos);
+        } else if (!lost.getAndSet(true)) {
+            String message = "The lease of the %s job was lost while it was running".formatted(job);
+
+            JobLeaseManager.LOGGER.warn(message);
+        }
+    }
+
+    /**
+     * Releases the lease of the job with the specified name by expiring it. The lease is kept, since it holds the
+     * start of the last run of the job, so that the job is not run again until its interval has passed.
+     *
+     * @param job the name of the job to be used in the operation
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    private void releaseLease(String job) {
+        Objects.requireNonNull(job);
+
+        try {
+            this.context.update(Tables.JOB_LEASE)
+                        .set(Tables.JOB_LEASE.EXPIRATION_DATE, DSL.currentOffsetDateTime())
+                        .where(Tables.JOB_LEASE.JOB_NAME.eq(job))
+                        .and(Tables.JOB_LEASE.OWNER.eq(this.owner))
+                        .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            JobLeaseManager.LOGGER.error(message, e);
+        }
+    }
+
+    /**
+     * Forgets the last run of the job with the specified name if its lease is held by this replica, such as after a
+     * run that failed, so that the next scheduled run of the job is not held back by its interval.
+     *
+     * @param job the name of the job to be used in the operation
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    void resetLastRun(String job) {
+        Objects.requireNonNull(job);
+
+        try {
+            this.context.update(Tables.JOB_LEASE)
+                        .setNull(Tables.JOB_LEASE.LAST_RUN_DATE)
+                        .where(Tables.JOB_LEASE.JOB_NAME.eq(job))
+                        .and(Tables.JOB_LEASE.OWNER.eq(this.owner))
+                        .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            JobLeaseManager.LOGGER.error(message, e);
+        }
+    }
+
+    /**
+     * Runs the specified task if the lease of the job with the specified name can be acquired. The lease is renewed
+     * while the task runs and released once it ends. If the lease is held by another replica, or if the last run of
+     * the job started less than about the specified interval ago, the task is skipped. A run with an interval of zero
+     * is not kept as the last run, so running a job on demand does not delay its schedule. The task is told that the
+     * lease is no longer held once a renewal finds it taken, or once the time to live has passed since the last
+     * successful renewal.
+     *
+     * @param job the name of the job to be used in the operation
+     * @param interval the interval to be used in the operation, or {@link Duration#ZERO} to run the task on demand
+     * whenever the lease is free
+     * @param task the {@link LeaseTask} to be used in the operation
+     * @return {@code true} if the task was run, {@code false} otherwise
+     * @throws NullPointerException if the specified name, interval, or {@link LeaseTask} is {@code null}
+     */
+    boolean runWithLease(String job, Duration interval, LeaseTask task) {
+        Objects.requireNonNull(job);
+
+        Objects.requireNonNull(interval);
+
+        Objects.requireNonNull(task);
+
+        long acquisitionStart = System.nanoTime();
+
+        if (!this.acquireLease(job, interval)) {
+            String message = "Skipped the %s job because its lease is held or its interval has not passed".formatted(
+                job);
+
+            JobLeaseManager.LOGGER.info(message);
+
+            return false;
+        }
+
+        AtomicBoolean lost = new AtomicBoolean();
+
+        AtomicLong deadline = new AtomicLong(acquisitionStart + this.ttlNanos);
+
+        BooleanSupplier leaseHeld = () -> {
+            if ((System.nanoTime() - deadline.get()) >= 0L) {
+                lost.set(true);
+            }
+
+            return !lost.get();
+        };
+
+        ScheduledFuture<?> renewal = this.executor.scheduleWithFixedDelay(() -> this.renewLease(job, lost, deadline),
+            this.renewalInterval, this.renewalInterval, TimeUnit.MILLISECONDS);
+
+        try {
+            task.run(leaseHeld);
+        } finally {
+            renewal.cancel(false);
+
+            this.releaseLease(job);
+        }
+
+        return true;
+    }
+}
\ No newline at end of file
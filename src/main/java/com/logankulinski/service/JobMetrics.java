@@ -0,0 +1,177 @@
+package com.logankulinski.service;
+
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.observation.Observation;
+import java.util.Locale;
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * The metrics of the jobs of the Spring Projects First-timer Bot. Each run of a job is observed, which times it by
+ * outcome and traces it as the parent span of the work it does, and is counted by outcome. The age of the last
+ * successful run of each job is published so that an alert can fire when a job falls behind.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+final class JobMetrics {
+    /**
+     * The {@link MeterRegistry} of this {@link JobMetrics}.
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * The {@link ObservationRegistry} of this {@link JobMetrics}.
+     */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * The times in milliseconds of the last successful runs of this {@link JobMetrics}, keyed by job name. A time of
+     * {@code -1} means that the job has not succeeded since startup.
+     */
+    private final Map<String, AtomicLong> successTimes;
+
+    /**
+     * The outcome of a run of a job.
+     */
+    enum Outcome {
+        /**
+         * The run completed without any errors.
+         */
+        SUCCESS,
+
+        /**
+         * The run completed, but some of its work failed.
+         */
+        PARTIAL,
+
+        /**
+         * The run failed.
+         */
+        FAILURE
+    }
+
+    /**
+     * Constructs an instance of the {@link JobMetrics} class.
+     *
+     * @param registry the {@link MeterRegistry} to be used in the operation
+     * @param observationRegistry the {@link ObservationRegistry} to be used in the operation
+     * @throws NullPointerException if the specified {@link MeterRegistry} or {@link ObservationRegistry} is
+     * {@code null}
+     */
+    @Autowired
+    JobMetrics(MeterRegistry registry, ObservationRegistry observationRegistry) {
+        Objects.requireNonNull(registry);
+
+        Objects.requireNonNull(observationRegistry);
+
+        this.registry = registry;
+
+        this.observationRegistry = observationRegistry;
+
+        this.successTimes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the age in seconds of the last successful run using the specified time, or {@link Double#NaN} if there
+     * has not been one.
+     *
+     * @param successTime the time to be used in the operation
+     * @return the age in seconds of the last successful run, or {@link Double#NaN} if there has not been one
+     * @throws NullPointerException if the specified time is {@code null}
+     */
+    private double getSuccessAge(AtomicLong successTime) {
+        Objects.requireNonNull(successTime);
+
+        long time = successTime.get();
+
+        if (time == -1L) {
+            return Double.NaN;
+        }
+
+        return (System.currentTimeMillis() - time) / 1_000.0;
+    }
+
+    /**
+     * Returns the time of the last successful run of the job with the specified name, registering its gauge on first
+     * use.
+     *
+     * @param job the name of the job to be used in the operation
+     * @return the time of the last successful run of the job with the specified name
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    private AtomicLong getSuccessTime(String job) {
+        Objects.requireNonNull(job);
+
+        return this.successTimes.computeIfAbsent(job, key -> {
+            AtomicLong successTime = new AtomicLong(-1L);
+
+            Gauge.builder("bot.job.last.success.age", successTime, this::getSuccessAge)
+                 .description("The age of the last successful run of a job")
+                 .baseUnit("seconds")
+                 .tag("job", key)
+                 .register(this.registry);
+
+            return successTime;
+        });
+    }
+
+    /**
+     * Starts the {@link Observation} of a run of the job with the specified name. The caller opens its scope, so that
+     * the work of the run is traced as its children.
+     *
+     * @param job the name of the job to be used in the operation
+     * @return the started {@link Observation} of the run
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    Observation start(String job) {
+        this.getSuccessTime(job);
+
+        return Observation.createNotStarted("bot.job.duration", this.observationRegistry)
+                          .contextualName(job)
+                          .lowCardinalityKeyValue("job", job)
+                          .start();
+    }
+
+    /**
+     * Stops the specified {@link Observation} of a run of the job with the specified name and records the specified
+     * {@link Outcome}.
+     *
+     * @param observation the {@link Observation} to be used in the operation
+     * @param job the name of the job to be used in the operation
+     * @param outcome the {@link Outcome} to be used in the operation
+     * @throws NullPointerException if the specified {@link Observation}, name, or {@link Outcome} is {@code null}
+     */
+    void stop(Observation observation, String job, Outcome outcome) {
+        Objects.requireNonNull(observation);
+
+        Objects.requireNonNull(job);
+
+        Objects.requireNonNull(outcome);
+
+        String outcomeName = outcome.name()
+                                    .toLowerCase(Locale.ROOT);
+
+        observation.lowCardinalityKeyValue("outcome", outcomeName)
+                   .stop();
+
+        Counter.builder("bot.job.runs")
+               .description("The number of runs of a job")
+               .tag("job", job)
+               .tag("outcome", outcomeName)
+               .register(this.registry)
+               .increment();
+
+        if (outcome == Outcome.SUCCESS) {
+            this.getSuccessTime(job)
+                .set(System.currentTimeMillis());
+        }
+    }
+}
\ No newline at end of file
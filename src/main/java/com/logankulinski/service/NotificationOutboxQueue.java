@@ -0,0 +1,495 @@
+package com.logankulinski.service;
+
+import org.springframework.stereotype.Component;
+import org.jooq.DSLContext;
+import org.jooq.types.DayToSecond;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Collection;
+import org.jooq.Field;
+import java.time.OffsetDateTime;
+import org.jooq.impl.DSL;
+import com.logankulinski.jooq.Tables;
+import org.jooq.exception.DataAccessException;
+import org.jooq.Condition;
+import org.jooq.Select;
+import org.jooq.Record1;
+import org.jooq.SortField;
+import java.util.List;
+import com.logankulinski.jooq.tables.records.NotificationOutboxRecord;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.UUID;
+
+/**
+ * An outbox of the Slack notifications of the Spring Projects First-timer Bot, persisted in the notification outbox
+ * table. A notification is added in the same transaction that saves its issue, so a saved issue is never left without
+ * one, and there is at most one per issue, so saving an issue again does not add another. Delivery workers claim due
+ * notifications with {@code FOR UPDATE SKIP LOCKED}, and a notification is removed in the same transaction that sets
+ * the notification date of its issue. Each claim is made under a token of its own, so a worker whose claim has
+ * expired cannot complete, discard, or release a notification that was claimed again since. The visibility timeout is
+ * longer than the longest time that posting a message can take, so a notification is not claimed again while its
+ * message may still be posted. A failed delivery is retried after a jittered exponential backoff until the
+ * maximum number of attempts is reached, after which the notification is parked.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+final class NotificationOutboxQueue {
+    /**
+     * The {@link DSLContext} of this {@link NotificationOutboxQueue}.
+     */
+    private final DSLContext context;
+
+    /**
+     * Whether this {@link NotificationOutboxQueue} is enabled.
+     */
+    private final boolean enabled;
+
+    /**
+     * The owner of the notifications claimed by this {@link NotificationOutboxQueue}, which prefixes the token of each
+     * claim.
+     */
+    private final String owner;
+
+    /**
+     * The time that a notification claimed by this {@link NotificationOutboxQueue} stays invisible to the other
+     * workers.
+     */
+    private final DayToSecond visibilityTimeout;
+
+    /**
+     * The maximum number of notifications claimed at once by this {@link NotificationOutboxQueue}.
+     */
+    private final int claimSize;
+
+    /**
+     * The maximum number of delivery attempts of a notification of this {@link NotificationOutboxQueue}.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The backoff in milliseconds after the first failed delivery of a notification of this
+     * {@link NotificationOutboxQueue}.
+     */
+    private final long initialBackoff;
+
+    /**
+     * The maximum backoff in milliseconds after a failed delivery of a notification of this
+     * {@link NotificationOutboxQueue}.
+     */
+    private final long maxBackoff;
+
+    /**
+     * The {@link Logger} of the {@link NotificationOutboxQueue} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LoggerFactory.getLogger(NotificationOutboxQueue.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link NotificationOutboxQueue} class. Notifications are claimed on behalf of the
+     * owner of the leases of the specified {@link JobLeaseManager}. The visibility timeout must be longer than the
+     * longest time that the {@link com.logankulinski.client.SlackClient} can take to post a message, which is every
+     * attempt timing out and every retry waiting for the maximum wait.
+     *
+     * @param context the {@link DSLContext} to be used in the operation
+     * @param jobLeaseManager the {@link JobLeaseManager} to be used in the operation
+     * @param enabled whether the outbox should be enabled
+     * @param visibilityTimeout the visibility timeout to be used in the operation
+     * @param claimSize the claim size to be used in the operation
+     * @param maxAttempts the maximum number of attempts to be used in the operation
+     * @param initialBackoff the initial backoff to be used in the operation
+     * @param maxBackoff the maximum backoff to be used in the operation
+     * @param slackMaxAttempts the maximum number of attempts of a Slack request to be used in the operation
+     * @param slackMaxWait the maximum wait of a Slack request to be used in the operation
+     * @param slackRequestTimeout the timeout of a Slack request to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext}, {@link JobLeaseManager}, visibility timeout,
+     * initial backoff, maximum backoff, maximum wait of a Slack request, or timeout of a Slack request is {@code null}
+     * @throws IllegalArgumentException if the specified claim size or maximum number of attempts is not positive, if
+     * the specified initial backoff is not positive or is longer than the specified maximum backoff, or if the
+     * specified visibility timeout is not longer than the longest time that posting a message can take
+     */
+    @Autowired
+    NotificationOutboxQueue(DSLContext context, JobLeaseManager jobLeaseManager,
+        @Value("${slack.outbox.enabled:false}") boolean enabled,
+        @Value("${slack.outbox.visibility-timeout:15m}") Duration visibilityTimeout,
+        @Value("${slack.outbox.claim-size:32}") int claimSize,
+        @Value("${slack.outbox.max-attempts:10}") int maxAttempts,
+        @Value("${slack.outbox.initial-backoff:10s}") Duration initialBackoff,
+        @Value("${slack.outbox.max-backoff:1h}") Duration maxBackoff,
+        @Value("${slack.rate-limit.max-attempts:3}") int slackMaxAttempts,
+        @Value("${slack.rate-limit.max-wait:5m}") Duration slackMaxWait,
+        @Value("${slack.request-timeout:30s}") Duration slackRequestTimeout) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(jobLeaseManager);
+
+        Objects.requireNonNull(visibilityTimeout);
+
+        Objects.requireNonNull(initialBackoff);
+
+        Objects.requireNonNull(maxBackoff);
+
+        Objects.requireNonNull(slackMaxWait);
+
+        Objects.requireNonNull(slackRequestTimeout);
+
+        int slackAttempts = Math.max(slackMaxAttempts, 1);
+
+        Duration maxPostDuration = slackMaxWait.multipliedBy(slackAttempts - 1L)
+                                               .plus(slackRequestTimeout.multipliedBy(slackAttempts));
+
+        if (claimSize <= 0) {
+            String message = "The claim size must be positive";
+
+            throw new IllegalArgumentException(message);
+        } else if (maxAttempts <= 0) {
+            String message = "The maximum number of attempts must be positive";
+
+            throw new IllegalArgumentException(message);
+        } else if ((initialBackoff.toMillis() <= 0L) || (initialBackoff.compareTo(maxBackoff) > 0)) {
+            String message = "The initial backoff must be positive and no longer than the maximum backoff";
+
+            throw new IllegalArgumentException(message);
+        } else if (visibilityTimeout.compareTo(maxPostDuration) <= 0) {
+            String message = "The visibility timeout must be longer than %s".formatted(maxPostDuration);
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.context = context;
+
+        this.enabled = enabled;
+
+        this.owner = jobLeaseManager.getOwner();
+
+        this.visibilityTimeout = DayToSecond.valueOf(visibilityTimeout);
+
+        this.claimSize = claimSize;
+
+        this.maxAttempts = maxAttempts;
+
+        this.initialBackoff = initialBackoff.toMillis();
+
+        this.maxBackoff = maxBackoff.toMillis();
+    }
+
+    /**
+     * Returns whether this {@link NotificationOutboxQueue} is enabled.
+     *
+     * @return {@code true} if this {@link NotificationOutboxQueue} is enabled, {@code false} otherwise
+     */
+    boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Returns the idempotency key of the notification of the issue with the specified ID. It is the same for every
+     * attempt, so a message that was posted twice can be recognized by it.
+     *
+     * @param issueId the ID of the issue to be used in the operation
+     * @return the idempotency key of the notification of the issue with the specified ID
+     */
+    static String getIdempotencyKey(int issueId) {
+        return "first-timer-issue-%d".formatted(issueId);
+    }
+
+    /**
+     * Adds a due notification for each of the issues with the specified IDs that is waiting to be notified and does
+     * not have one yet, using the specified {@link DSLContext}. It is meant to be called in the transaction that saves
+     * the issues, and it does nothing if this {@link NotificationOutboxQueue} is disabled.
+     *
+     * @param transactionContext the {@link DSLContext} to be used in the operation
+     * @param issueIds the IDs of the issues to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext} or IDs is {@code null}
+     * @throws DataAccessException if the notifications could not be added
+     */
+    void enqueueNotifications(DSLContext transactionContext, Collection<Integer> issueIds) {
+        Objects.requireNonNull(transactionContext);
+
+        Objects.requireNonNull(issueIds);
+
+        if (!this.enabled) {
+            return;
+        }
+
+        Condition condition = Tables.ISSUE.ID.in(issueIds);
+
+        NotificationOutboxQueue.insertNotifications(transactionContext, condition);
+    }
+
+    /**
+     * Adds a due notification for each issue that matches the specified {@link Condition}, is waiting to be notified,
+     * and does not have one yet, using the specified {@link DSLContext}.
+     *
+     * @param context the {@link DSLContext} to be used in the operation
+     * @param condition the {@link Condition} to be used in the operation
+     * @return the number of added notifications
+     * @throws NullPointerException if the specified {@link DSLContext} or {@link Condition} is {@code null}
+     * @throws DataAccessException if the notifications could not be added
+     */
+    private static int insertNotifications(DSLContext context, Condition condition) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(condition);
+
+        Field<OffsetDateTime> now = DSL.currentOffsetDateTime();
+
+        return context.insertInto(Tables.NOTIFICATION_OUTBOX, Tables.NOTIFICATION_OUTBOX.ISSUE_ID,
+                          Tables.NOTIFICATION_OUTBOX.ATTEMPT_COUNT, Tables.NOTIFICATION_OUTBOX.NEXT_ATTEMPT_DATE,
+                          Tables.NOTIFICATION_OUTBOX.CREATION_DATE)
+                      .select(DSL.select(Tables.ISSUE.ID, DSL.inline(0), now, now)
+                                 .from(Tables.ISSUE)
+                                 .where(condition)
+                                 .and(Tables.ISSUE.NOTIFICATION_DATE.isNull())
+                                 .and(Tables.ISSUE.STATE.isDistinctFrom("closed")))
+                      .onConflictDoNothing()
+                      .execute();
+    }
+
+    /**
+     * Adds a due notification for each issue that is waiting to be notified and does not have one yet, such as an
+     * issue that was saved before this {@link NotificationOutboxQueue} was enabled.
+     *
+     * @return the number of added notifications, or {@code null} if they could not be added
+     */
+    Integer enqueuePendingNotifications() {
+        Condition condition = DSL.trueCondition();
+
+        try {
+            return NotificationOutboxQueue.insertNotifications(this.context, condition);
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationOutboxQueue.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Claims the due notifications that are not claimed by another worker, up to the claim size, in order of their
+     * next attempt dates, and counts the attempt. The rows that another worker is claiming at the same time are
+     * skipped rather than waited on. The lease owner of the claimed notifications is set to a token of this claim.
+     *
+     * @return the {@link NotificationOutboxRecord}s of the claimed notifications, or {@code null} if they could not be
+     * claimed
+     */
+    List<NotificationOutboxRecord> claimNotifications() {
+        Field<Integer> issueId = Tables.NOTIFICATION_OUTBOX.ISSUE_ID;
+
+        Field<OffsetDateTime> nextAttemptDate = Tables.NOTIFICATION_OUTBOX.NEXT_ATTEMPT_DATE;
+
+        Field<OffsetDateTime> leaseExpirationDate = Tables.NOTIFICATION_OUTBOX.LEASE_EXPIRATION_DATE;
+
+        Field<OffsetDateTime> now = DSL.currentOffsetDateTime();
+
+        Condition visibleCondition = leaseExpirationDate.isNull()
+                                                        .or(leaseExpirationDate.le(now));
+
+        SortField<OffsetDateTime> sortField = nextAttemptDate.asc();
+
+        Select<Record1<Integer>> claimableNotifications = DSL.select(issueId)
+                                                             .from(Tables.NOTIFICATION_OUTBOX)
+                                                             .where(nextAttemptDate.le(now))
+                                                             .and(visibleCondition)
+                                                             .orderBy(sortField)
+                                                             .limit(this.claimSize)
+                                                             .forUpdate()
+                                                             .skipLocked();
+
+        Field<OffsetDateTime> expirationDate = now.plus(this.visibilityTimeout);
+
+        Field<Integer> attemptCount = Tables.NOTIFICATION_OUTBOX.ATTEMPT_COUNT.plus(1);
+
+        String token = "%s/%s".formatted(this.owner, UUID.randomUUID());
+
+        try {
+            return this.context.update(Tables.NOTIFICATION_OUTBOX)
+                               .set(Tables.NOTIFICATION_OUTBOX.ATTEMPT_COUNT, attemptCount)
+                               .set(Tables.NOTIFICATION_OUTBOX.LEASE_OWNER, token)
+                               .set(leaseExpirationDate, expirationDate)
+                               .where(issueId.in(claimableNotifications))
+                               .returning()
+                               .fetch();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationOutboxQueue.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Extends the claim of the notification of the specified {@link NotificationOutboxRecord} by the visibility
+     * timeout, so that it is not claimed again while its message is posted. The claim is only extended if it has not
+     * been replaced by another claim.
+     *
+     * @param outboxRecord the {@link NotificationOutboxRecord} to be used in the operation
+     * @return {@code true} if the claim was extended, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link NotificationOutboxRecord} is {@code null}
+     */
+    boolean extendClaim(NotificationOutboxRecord outboxRecord) {
+        Objects.requireNonNull(outboxRecord);
+
+        Field<OffsetDateTime> expirationDate = DSL.currentOffsetDateTime()
+                                                  .plus(this.visibilityTimeout);
+
+        try {
+            int count = this.context.update(Tables.NOTIFICATION_OUTBOX)
+                                    .set(Tables.NOTIFICATION_OUTBOX.LEASE_EXPIRATION_DATE, expirationDate)
+                                    .where(Tables.NOTIFICATION_OUTBOX.ISSUE_ID.eq(outboxRecord.getIssueId()))
+                                    .and(Tables.NOTIFICATION_OUTBOX.LEASE_OWNER.eq(outboxRecord.getLeaseOwner()))
+                                    .execute();
+
+            return count > 0;
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationOutboxQueue.LOGGER.error(message, e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Completes the claimed notification of the specified {@link NotificationOutboxRecord}, removing it and setting
+     * the notification date of its issue in one transaction. The notification is only completed if its claim has not
+     * been replaced by another claim.
+     *
+     * @param outboxRecord the {@link NotificationOutboxRecord} to be used in the operation
+     * @return {@code true} if the notification was completed, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link NotificationOutboxRecord} is {@code null}
+     */
+    boolean completeNotification(NotificationOutboxRecord outboxRecord) {
+        Objects.requireNonNull(outboxRecord);
+
+        int issueId = outboxRecord.getIssueId();
+
+        String token = outboxRecord.getLeaseOwner();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            return this.context.transactionResult(configuration -> {
+                DSLContext transactionContext = DSL.using(configuration);
+
+                int count = transactionContext.deleteFrom(Tables.NOTIFICATION_OUTBOX)
+                                              .where(Tables.NOTIFICATION_OUTBOX.ISSUE_ID.eq(issueId))
+                                              .and(Tables.NOTIFICATION_OUTBOX.LEASE_OWNER.eq(token))
+                                              .execute();
+
+                if (count == 0) {
+                    return false;
+                }
+
+                transactionContext.update(Tables.ISSUE)
+                                  .set(Tables.ISSUE.NOTIFICATION_DATE, now)
+                                  .where(Tables.ISSUE.ID.eq(issueId))
+                                  .execute();
+
+                return true;
+            });
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationOutboxQueue.LOGGER.error(message, e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Discards the claimed notification of the specified {@link NotificationOutboxRecord} without delivering it, such
+     * as when its issue has been closed or archived since the notification was added.
+     *
+     * @param outboxRecord the {@link NotificationOutboxRecord} to be used in the operation
+     * @throws NullPointerException if the specified {@link NotificationOutboxRecord} is {@code null}
+     */
+    void discardNotification(NotificationOutboxRecord outboxRecord) {
+        Objects.requireNonNull(outboxRecord);
+
+        try {
+            this.context.deleteFrom(Tables.NOTIFICATION_OUTBOX)
+                        .where(Tables.NOTIFICATION_OUTBOX.ISSUE_ID.eq(outboxRecord.getIssueId()))
+                        .and(Tables.NOTIFICATION_OUTBOX.LEASE_OWNER.eq(outboxRecord.getLeaseOwner()))
+                        .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationOutboxQueue.LOGGER.error(message, e);
+        }
+    }
+
+    /**
+     * Returns the backoff in milliseconds after the specified number of failed attempts. It doubles with each attempt
+     * up to the maximum backoff, and a random amount of up to half of it is taken off, so that the notifications that
+     * failed together are not retried together.
+     *
+     * @param attemptCount the number of failed attempts to be used in the operation
+     * @return the backoff in milliseconds after the specified number of failed attempts
+     */
+    private long getBackoff(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+
+        long backoff = Math.min(this.initialBackoff << exponent, this.maxBackoff);
+
+        return ThreadLocalRandom.current()
+                                .nextLong(backoff / 2L, backoff + 1L);
+    }
+
+    /**
+     * Releases the claimed notification of the specified {@link NotificationOutboxRecord} after a failed attempt, so
+     * that it is retried after a backoff. Once the maximum number of attempts is reached, the notification is parked
+     * rather than retried.
+     *
+     * @param outboxRecord the {@link NotificationOutboxRecord} to be used in the operation
+     * @throws NullPointerException if the specified {@link NotificationOutboxRecord} is {@code null}
+     */
+    void retryNotification(NotificationOutboxRecord outboxRecord) {
+        Objects.requireNonNull(outboxRecord);
+
+        int issueId = outboxRecord.getIssueId();
+
+        int attemptCount = outboxRecord.getAttemptCount();
+
+        Field<OffsetDateTime> nextAttemptDate;
+
+        if (attemptCount >= this.maxAttempts) {
+            nextAttemptDate = DSL.val(null, Tables.NOTIFICATION_OUTBOX.NEXT_ATTEMPT_DATE);
+
+            String message = "Parked the notification of issue %d after %d attempts".formatted(issueId, attemptCount);
+
+            NotificationOutboxQueue.LOGGER.error(message);
+        } else {
+            long backoff = this.getBackoff(attemptCount);
+
+            DayToSecond interval = DayToSecond.valueOf(Duration.ofMillis(backoff));
+
+            nextAttemptDate = DSL.currentOffsetDateTime()
+                                 .plus(interval);
+        }
+
+        try {
+            this.context.update(Tables.NOTIFICATION_OUTBOX)
+                        .set(Tables.NOTIFICATION_OUTBOX.NEXT_ATTEMPT_DATE, nextAttemptDate)
+                        .setNull(Tables.NOTIFICATION_OUTBOX.LEASE_OWNER)
+                        .setNull(Tables.NOTIFICATION_OUTBOX.LEASE_EXPIRATION_DATE)
+                        .where(Tables.NOTIFICATION_OUTBOX.ISSUE_ID.eq(issueId))
+                        .and(Tables.NOTIFICATION_OUTBOX.LEASE_OWNER.eq(outboxRecord.getLeaseOwner()))
+                        .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationOutboxQueue.LOGGER.error(message, e);
+        }
+    }
+}
\ No newline at end of file
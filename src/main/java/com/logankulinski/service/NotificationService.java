@@ -20,14 +20,55 @@ import java.util.HashSet;
 import java.util.Collections;
 import java.time.LocalDateTime;
 import com.slack.api.methods.request.chat.ChatPostMessageRequest;
-import com.slack.api.Slack;
-import java.io.IOException;
-import com.slack.api.methods.SlackApiException;
+import com.logankulinski.client.SlackClient;
 import org.springframework.scheduling.annotation.Scheduled;
 import java.util.concurrent.TimeUnit;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jooq.Condition;
+import org.jooq.Record4;
+import java.util.Map;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import com.slack.api.model.block.LayoutBlock;
+import com.slack.api.model.block.composition.PlainTextObject;
+import com.slack.api.model.block.HeaderBlock;
+import com.slack.api.model.block.composition.MarkdownTextObject;
+import com.slack.api.model.block.SectionBlock;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import com.slack.api.model.Message;
+import com.slack.api.methods.response.chat.ChatPostMessageResponse;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import com.logankulinski.jooq.tables.records.NotificationOutboxRecord;
+import java.util.concurrent.CompletableFuture;
+import com.logankulinski.util.Utilities;
+import org.jooq.impl.DSL;
+import java.util.function.BooleanSupplier;
+import java.time.Duration;
+import org.springframework.scheduling.support.CronExpression;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import com.slack.api.methods.request.conversations.ConversationsListRequest;
+import com.slack.api.methods.response.conversations.ConversationsListResponse;
+import java.util.concurrent.CompletionException;
+import com.slack.api.model.Conversation;
+import com.slack.api.model.ResponseMetadata;
+import com.slack.api.methods.request.conversations.ConversationsHistoryRequest;
+import com.slack.api.methods.response.conversations.ConversationsHistoryResponse;
+import com.slack.api.model.ConversationType;
 
 /**
- * A service for sending Slack notifications in the Spring Projects First-timer Bot.
+ * A service for sending Slack notifications in the Spring Projects First-timer Bot. By default, each new issue is
+ * posted as its own message. In digest mode, the new issues of a run are packed into Block Kit messages grouped by
+ * repository instead, and a digest schedule can hold the new issues back until a cron expression fires. In outbox mode,
+ * each new issue is posted by a pool of delivery workers that drain the {@link NotificationOutboxQueue}. Before a
+ * notification of the outbox is retried, the history of the channel is searched for its idempotency key, so that a
+ * message that was posted by an attempt whose outcome was lost is not posted again. The search needs the
+ * {@code channels:read} and {@code channels:history} scopes, or {@code groups:read} and {@code groups:history} for a
+ * private channel, and without them a retried notification is posted without it.
  *
  * @author Logan Kulinski, rashes_lineage02@icloud.com
  */
@@ -39,56 +80,308 @@ public final class NotificationService {
     private final DSLContext context;
 
     /**
-     * The Slack token of this {@link NotificationService}.
+     * The {@link SlackClient} of this {@link NotificationService}.
      */
-    private final String slackToken;
+    private final SlackClient slackClient;
+
+    /**
+     * The {@link Utilities} of this {@link NotificationService}.
+     */
+    private final Utilities utilities;
 
     /**
      * The {@link Rollbar} of this {@link NotificationService}.
      */
     private final Rollbar rollbar;
 
+    /**
+     * The {@link JobMetrics} of this {@link NotificationService}.
+     */
+    private final JobMetrics jobMetrics;
+
+    /**
+     * The {@link JobLeaseManager} of this {@link NotificationService}.
+     */
+    private final JobLeaseManager jobLeaseManager;
+
+    /**
+     * The {@link ObservationRegistry} of this {@link NotificationService}.
+     */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * The {@link NotificationOutboxQueue} of this {@link NotificationService}.
+     */
+    private final NotificationOutboxQueue outboxQueue;
+
+    /**
+     * The {@link ExecutorService} used by the delivery workers of this {@link NotificationService}.
+     */
+    private final ExecutorService deliveryExecutor;
+
+    /**
+     * Whether this {@link NotificationService} sends digests rather than one message per {@link Issue}.
+     */
+    private final boolean digest;
+
+    /**
+     * Whether this {@link NotificationService} only sends digests when its digest schedule fires.
+     */
+    private final boolean scheduledDigest;
+
+    /**
+     * The shortest interval between two firings of the digest schedule of this {@link NotificationService}, or
+     * {@link Duration#ZERO} if it has none.
+     */
+    private final Duration digestInterval;
+
+    /**
+     * The maximum number of {@link Issue}s per digest sent by this {@link NotificationService}.
+     */
+    private final int digestSize;
+
+    /**
+     * The maximum number of sent notifications of this {@link NotificationService} whose {@link Issue}s are marked as
+     * notified at once.
+     */
+    private final int ackBatchSize;
+
+    /**
+     * The ID of the Slack channel that the notifications are sent to, or {@code null} if it has not been looked up.
+     */
+    private final AtomicReference<String> channelId;
+
+    /**
+     * The name of the job that sends the notifications.
+     */
+    private static final String JOB_NAME;
+
+    /**
+     * The name of the job that delivers the notifications of the outbox.
+     */
+    private static final String DELIVERY_JOB_NAME;
+
+    /**
+     * The event type of the metadata of the notifications.
+     */
+    private static final String EVENT_TYPE;
+
+    /**
+     * The Slack channel that the notifications are sent to.
+     */
+    private static final String CHANNEL;
+
+    /**
+     * The number of channels or messages requested per page of a Slack conversation method.
+     */
+    private static final int CONVERSATION_PAGE_SIZE;
+
+    /**
+     * How long before a notification was added that the history of the channel is searched for its message, which
+     * allows for skew between the clocks of the database and Slack.
+     */
+    private static final Duration HISTORY_MARGIN;
+
+    /**
+     * The errors of the Slack conversation methods meaning that the history of the channel cannot be searched with the
+     * token, which retrying does not fix.
+     */
+    private static final Set<String> HISTORY_UNAVAILABLE_ERRORS;
+
+    /**
+     * The largest number of {@link Issue}s that fits in one digest. A digest has one block for its header, one for
+     * each repository, and one for each {@link Issue}, and Slack allows 50 blocks per message.
+     */
+    private static final int MAX_DIGEST_SIZE;
+
     /**
      * The {@link Logger} of the {@link NotificationService} class.
      */
     private static final Logger LOGGER;
 
     static {
+        JOB_NAME = "send-notifications";
+
+        DELIVERY_JOB_NAME = "deliver-notifications";
+
+        EVENT_TYPE = "first_timer_issue";
+
+        CHANNEL = "#spring-issues";
+
+        CONVERSATION_PAGE_SIZE = 200;
+
+        HISTORY_MARGIN = Duration.ofMinutes(5L);
+
+        HISTORY_UNAVAILABLE_ERRORS = Set.of("missing_scope", "channel_not_found", "not_in_channel");
+
+        MAX_DIGEST_SIZE = 24;
+
         LOGGER = LoggerFactory.getLogger(NotificationService.class);
     }
 
     /**
-     * Constructs an instance of the {@link NotificationService} class.
+     * Constructs an instance of the {@link NotificationService} class. Setting a digest cron expression other than
+     * {@code "-"} implies digest mode.
      *
      * @param context the {@link DSLContext} to be used in the operation
-     * @param slackToken the Slack token to be used in the operation
+     * @param slackClient the {@link SlackClient} to be used in the operation
+     * @param utilities the {@link Utilities} to be used in the operation
      * @param rollbar the {@link Rollbar} to be used in the operation
-     * @throws NullPointerException if the specified {@link DSLContext}, Slack token, or {@link Rollbar} is
-     * {@code null}
+     * @param jobMetrics the {@link JobMetrics} to be used in the operation
+     * @param jobLeaseManager the {@link JobLeaseManager} to be used in the operation
+     * @param observationRegistry the {@link ObservationRegistry} to be used in the operation
+     * @param outboxQueue the {@link NotificationOutboxQueue} to be used in the operation
+     * @param deliveryExecutor the {@link ExecutorService} to be used in the operation
+     * @param digest whether digests should be sent rather than one message per {@link Issue}
+     * @param digestCron the digest cron expression to be used in the operation
+     * @param digestSize the digest size to be used in the operation
+     * @param ackBatchSize the acknowledgement batch size to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext}, {@link SlackClient}, {@link Utilities},
+     * {@link Rollbar}, {@link JobMetrics}, {@link JobLeaseManager}, {@link ObservationRegistry},
+     * {@link NotificationOutboxQueue}, {@link ExecutorService}, or digest cron expression is {@code null}
+     * @throws IllegalArgumentException if the specified digest size is not between 1 and 24, if digest mode is used
+     * with the outbox, or if the specified acknowledgement batch size is not positive
      */
     @Autowired
-    public NotificationService(DSLContext context, @Value("${slack.token}") String slackToken, Rollbar rollbar) {
+    public NotificationService(DSLContext context, SlackClient slackClient, Utilities utilities, Rollbar rollbar,
+        JobMetrics jobMetrics, JobLeaseManager jobLeaseManager, ObservationRegistry observationRegistry,
+        NotificationOutboxQueue outboxQueue, @Qualifier("deliveryExecutor") ExecutorService deliveryExecutor,
+        @Value("${slack.digest.enabled:false}") boolean digest, @Value("${slack.digest.cron:-}") String digestCron,
+        @Value("${slack.digest.max-issues:20}") int digestSize, @Value("${slack.ack-batch-size:25}") int ackBatchSize) {
         Objects.requireNonNull(context);
 
-        Objects.requireNonNull(slackToken);
+        Objects.requireNonNull(slackClient);
+
+        Objects.requireNonNull(utilities);
 
         Objects.requireNonNull(rollbar);
 
+        Objects.requireNonNull(jobMetrics);
+
+        Objects.requireNonNull(jobLeaseManager);
+
+        Objects.requireNonNull(observationRegistry);
+
+        Objects.requireNonNull(outboxQueue);
+
+        Objects.requireNonNull(deliveryExecutor);
+
+        Objects.requireNonNull(digestCron);
+
+        boolean scheduledDigest = !"-".equals(digestCron);
+
+        if ((digestSize <= 0) || (digestSize > NotificationService.MAX_DIGEST_SIZE)) {
+            String message = "The digest size must be between 1 and %d".formatted(NotificationService.MAX_DIGEST_SIZE);
+
+            throw new IllegalArgumentException(message);
+        } else if ((digest || scheduledDigest) && outboxQueue.isEnabled()) {
+            String message = "Digest mode cannot be used with the outbox";
+
+            throw new IllegalArgumentException(message);
+        } else if (ackBatchSize <= 0) {
+            String message = "The acknowledgement batch size must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
         this.context = context;
 
-        this.slackToken = slackToken;
+        this.slackClient = slackClient;
+
+        this.utilities = utilities;
 
         this.rollbar = rollbar;
+
+        this.jobMetrics = jobMetrics;
+
+        this.jobLeaseManager = jobLeaseManager;
+
+        this.observationRegistry = observationRegistry;
+
+        this.outboxQueue = outboxQueue;
+
+        this.deliveryExecutor = deliveryExecutor;
+
+        this.scheduledDigest = scheduledDigest;
+
+        this.digestInterval = scheduledDigest ? NotificationService.getDigestInterval(digestCron) : Duration.ZERO;
+
+        this.digest = digest || scheduledDigest;
+
+        this.digestSize = digestSize;
+
+        this.ackBatchSize = ackBatchSize;
+
+        this.channelId = new AtomicReference<>();
+    }
+
+    /**
+     * Returns the shortest interval between the next firings of the specified digest cron expression, so that a
+     * schedule that fires at irregular intervals is never held back past one of its firings.
+     *
+     * @param digestCron the digest cron expression to be used in the operation
+     * @return the shortest interval between the next firings of the specified digest cron expression
+     * @throws NullPointerException if the specified digest cron expression is {@code null}
+     * @throws IllegalArgumentException if the specified digest cron expression is invalid
+     */
+    private static Duration getDigestInterval(String digestCron) {
+        Objects.requireNonNull(digestCron);
+
+        CronExpression expression = CronExpression.parse(digestCron);
+
+        Duration interval = null;
+
+        ZonedDateTime previous = expression.next(ZonedDateTime.now());
+
+        for (int index = 0; (index < 8) && (previous != null); index++) {
+            ZonedDateTime next = expression.next(previous);
+
+            if (next == null) {
+                break;
+            }
+
+            Duration gap = Duration.between(previous, next);
+
+            if ((interval == null) || (gap.compareTo(interval) < 0)) {
+                interval = gap;
+            }
+
+            previous = next;
+        }
+
+        return (interval == null) ? Duration.ZERO : interval;
+    }
+
+    /**
+     * Returns the number of saved {@link Issue}s that are waiting to be notified.
+     *
+     * @return the number of saved {@link Issue}s that are waiting to be notified, or {@code null} if it could not be
+     * counted
+     */
+    public Integer getPendingCount() {
+        Condition condition = Tables.ISSUE.NOTIFICATION_DATE.isNull()
+                                                            .and(Tables.ISSUE.STATE.isDistinctFrom("closed"));
+
+        try {
+            return this.context.fetchCount(Tables.ISSUE, condition);
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationService.LOGGER.error(message, e);
+
+            return null;
+        }
     }
 
     /**
      * Returns a {@link Set} of new {@link Issue}s to be operated on. "New" in this context means that the issues were
-     * recently created and have a "first-timer" label.
+     * recently created, have a "first-timer" label, and are not closed.
      *
      * @return a {@link Set} of new {@link Issue}s to be operated on
      */
     private Set<Issue> getNewIssues() {
-        RecordMapper<Record3<Integer, String, String>, Issue> mapper = Records.mapping(Issue::new);
+        RecordMapper<Record3<Integer, String, String>, Issue> mapper = Records.mapping((id, title, url) ->
+            new Issue(id, title, url, null, null));
 
         List<Issue> newIssues;
 
@@ -96,6 +389,7 @@ public final class NotificationService {
             newIssues = this.context.select(Tables.ISSUE.ID, Tables.ISSUE.TITLE, Tables.ISSUE.URL)
                                     .from(Tables.ISSUE)
                                     .where(Tables.ISSUE.NOTIFICATION_DATE.isNull())
+                                    .and(Tables.ISSUE.STATE.isDistinctFrom("closed"))
                                     .fetch(mapper);
         } catch (DataAccessException e) {
             String message = e.getMessage();
@@ -111,37 +405,212 @@ public final class NotificationService {
     }
 
     /**
-     * Updates the specified {@link Issue} by setting its notification date.
+     * Returns the new {@link Issue}s to be operated on, grouped by repository name and ordered by repository name and
+     * ID. An {@link Issue} whose repository is unknown is grouped under {@code null}.
      *
-     * @param issue the {@link Issue} to be used in the operation
-     * @throws NullPointerException if the specified {@link Issue} is {@code null}
+     * @return the new {@link Issue}s to be operated on, grouped by repository name
      */
-    private void updateIssue(Issue issue) {
-        Objects.requireNonNull(issue);
+    private Map<String, List<Issue>> getNewIssueGroups() {
+        RecordMapper<Record4<Integer, String, String, String>, Issue> mapper = Records.mapping(
+            (id, title, url, repositoryName) -> new Issue(id, title, url, null, null));
+
+        try {
+            return this.context.select(Tables.ISSUE.ID, Tables.ISSUE.TITLE, Tables.ISSUE.URL,
+                                   Tables.ISSUE.REPOSITORY_NAME)
+                               .from(Tables.ISSUE)
+                               .where(Tables.ISSUE.NOTIFICATION_DATE.isNull())
+                               .and(Tables.ISSUE.STATE.isDistinctFrom("closed"))
+                               .orderBy(Tables.ISSUE.REPOSITORY_NAME, Tables.ISSUE.ID)
+                               .fetchGroups(Tables.ISSUE.REPOSITORY_NAME, mapper);
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationService.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Returns the {@link Issue}s with the specified IDs that are waiting to be notified, keyed by ID.
+     *
+     * @param ids the IDs to be used in the operation
+     * @return the {@link Issue}s with the specified IDs that are waiting to be notified, or {@code null} if they could
+     * not be fetched
+     * @throws NullPointerException if the specified IDs is {@code null}
+     */
+    private Map<Integer, Issue> getPendingIssues(Collection<Integer> ids) {
+        Objects.requireNonNull(ids);
+
+        RecordMapper<Record3<Integer, String, String>, Issue> mapper = Records.mapping((id, title, url) ->
+            new Issue(id, title, url, null, null));
+
+        List<Issue> pendingIssues;
+
+        try {
+            pendingIssues = this.context.select(Tables.ISSUE.ID, Tables.ISSUE.TITLE, Tables.ISSUE.URL)
+                                        .from(Tables.ISSUE)
+                                        .where(Tables.ISSUE.ID.in(ids))
+                                        .and(Tables.ISSUE.NOTIFICATION_DATE.isNull())
+                                        .and(Tables.ISSUE.STATE.isDistinctFrom("closed"))
+                                        .fetch(mapper);
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            NotificationService.LOGGER.error(message, e);
+
+            return null;
+        }
 
-        int id = issue.id();
+        return pendingIssues.stream()
+                            .collect(Collectors.toMap(Issue::id, Function.identity()));
+    }
+
+    /**
+     * Updates the {@link Issue}s with the specified IDs that are waiting to be notified by setting their notification
+     * dates. One statement and one timestamp are used for all of them.
+     *
+     * @param ids the IDs to be used in the operation
+     * @return the IDs of the updated {@link Issue}s, or {@code null} if they could not be updated
+     * @throws NullPointerException if the specified IDs is {@code null}
+     */
+    private Set<Integer> updateIssues(Collection<Integer> ids) {
+        Objects.requireNonNull(ids);
+
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        Integer[] idArray = ids.toArray(Integer[]::new);
 
         LocalDateTime now = LocalDateTime.now();
 
+        List<Integer> updatedIds;
+
         try {
-            this.context.update(Tables.ISSUE)
-                        .set(Tables.ISSUE.NOTIFICATION_DATE, now)
-                        .where(Tables.ISSUE.ID.eq(id))
-                        .execute();
+            updatedIds = this.context.update(Tables.ISSUE)
+                                     .set(Tables.ISSUE.NOTIFICATION_DATE, now)
+                                     .where(Tables.ISSUE.ID.eq(DSL.any(idArray)))
+                                     .and(Tables.ISSUE.NOTIFICATION_DATE.isNull())
+                                     .returning(Tables.ISSUE.ID)
+                                     .fetch(Tables.ISSUE.ID);
         } catch (DataAccessException e) {
             String message = e.getMessage();
 
             NotificationService.LOGGER.error(message, e);
+
+            return null;
         }
+
+        return Set.copyOf(updatedIds);
     }
 
     /**
-     * Sends a Slack notification referring to the specified {@link Issue}.
+     * Marks the {@link Issue}s with the specified IDs, whose Slack messages were posted, as notified. The IDs that
+     * were not updated, because their {@link Issue}s were already notified or no longer exist, are logged, since their
+     * messages were posted more than once or for nothing.
+     *
+     * @param ids the IDs to be used in the operation
+     * @return {@code true} if the {@link Issue}s could be marked as notified, {@code false} otherwise, in which case
+     * their messages will be posted again
+     * @throws NullPointerException if the specified IDs is {@code null}
+     */
+    private boolean acknowledgeIssues(Collection<Integer> ids) {
+        Objects.requireNonNull(ids);
+
+        Set<Integer> updatedIds = this.updateIssues(ids);
+
+        if (updatedIds == null) {
+            String message = "Could not mark the notified issues %s as notified".formatted(ids);
+
+            NotificationService.LOGGER.error(message);
+
+            return false;
+        }
+
+        List<Integer> skippedIds = ids.stream()
+                                      .filter(id -> !updatedIds.contains(id))
+                                      .toList();
+
+        if (!skippedIds.isEmpty()) {
+            String message = "Posted the issues %s, which were already notified or no longer exist".formatted(
+                skippedIds);
+
+            NotificationService.LOGGER.warn(message);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether the Slack message with the specified {@link ChatPostMessageResponse} or failure was posted,
+     * recording the outcome on the specified {@link Observation} and stopping it.
+     *
+     * @param observation the {@link Observation} to be used in the operation
+     * @param response the {@link ChatPostMessageResponse} to be used in the operation, or {@code null}
+     * @param throwable the failure to be used in the operation, or {@code null}
+     * @return {@code true} if the message was posted, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link Observation} is {@code null}
+     */
+    private static boolean handleResponse(Observation observation, ChatPostMessageResponse response,
+        Throwable throwable) {
+        Objects.requireNonNull(observation);
+
+        try {
+            if (throwable != null) {
+                observation.error(throwable);
+
+                String message = throwable.getMessage();
+
+                NotificationService.LOGGER.error(message, throwable);
+
+                return false;
+            } else if (!response.isOk()) {
+                String message = "Slack rejected the message: %s".formatted(response.getError());
+
+                observation.highCardinalityKeyValue("error", response.getError());
+
+                NotificationService.LOGGER.error(message);
+
+                return false;
+            }
+
+            return true;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Posts the Slack message of the specified {@link ChatPostMessageRequest} without waiting for Slack, so that
+     * several messages can be in flight at once up to the rate limit of the {@link SlackClient}.
+     *
+     * @param request the {@link ChatPostMessageRequest} to be used in the operation
+     * @return a {@link CompletableFuture} of {@code true} if the message was posted, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link ChatPostMessageRequest} is {@code null}
+     */
+    private CompletableFuture<Boolean> postMessage(ChatPostMessageRequest request) {
+        Objects.requireNonNull(request);
+
+        Observation observation = Observation.createNotStarted("slack.chat.post.message", this.observationRegistry)
+                                             .lowCardinalityKeyValue("channel", request.getChannel())
+                                             .start();
+
+        return this.slackClient.chatPostMessage(request)
+                               .handle((response, throwable) -> NotificationService.handleResponse(observation,
+                                   response, throwable));
+    }
+
+    /**
+     * Returns the {@link ChatPostMessageRequest} of the Slack notification referring to the specified {@link Issue}.
+     * The idempotency key of the notification is attached as message metadata, so that a retried notification whose
+     * message was already posted can be recognized in the history of the channel.
      *
      * @param issue the {@link Issue} to be used in the operation
+     * @return the {@link ChatPostMessageRequest} of the Slack notification referring to the specified {@link Issue}
      * @throws NullPointerException if the specified {@link Issue} is {@code null}
      */
-    private void sendNotification(Issue issue) {
+    private static ChatPostMessageRequest getMessageRequest(Issue issue) {
         Objects.requireNonNull(issue);
 
         String title = issue.title();
@@ -150,43 +619,713 @@ public final class NotificationService {
 
         String text = "*%s*: %s".formatted(title, url);
 
+        String idempotencyKey = NotificationOutboxQueue.getIdempotencyKey(issue.id());
+
+        Map<String, Object> eventPayload = Map.of("idempotency_key", idempotencyKey);
+
+        Message.Metadata metadata = Message.Metadata.builder()
+                                                    .eventType(NotificationService.EVENT_TYPE)
+                                                    .eventPayload(eventPayload)
+                                                    .build();
+
+        return ChatPostMessageRequest.builder()
+                                     .channel(NotificationService.CHANNEL)
+                                     .mrkdwn(true)
+                                     .text(text)
+                                     .metadata(metadata)
+                                     .build();
+    }
+
+    /**
+     * Sends a Slack notification referring to the specified {@link Issue} without waiting for Slack. The
+     * {@link Issue} is not marked as notified, which is left to the caller so that it can be done in batches.
+     *
+     * @param issue the {@link Issue} to be used in the operation
+     * @return a {@link CompletableFuture} of {@code true} if the notification was sent, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link Issue} is {@code null}
+     */
+    private CompletableFuture<Boolean> sendNotification(Issue issue) {
+        Objects.requireNonNull(issue);
+
+        String id = String.valueOf(issue.id());
+
+        ChatPostMessageRequest request = NotificationService.getMessageRequest(issue);
+
+        Observation observation = Observation.createNotStarted("bot.notification.send", this.observationRegistry)
+                                             .highCardinalityKeyValue("issue.id", id)
+                                             .start();
+
+        CompletableFuture<Boolean> future;
+
+        try (Observation.Scope scope = observation.openScope()) {
+            future = this.postMessage(request);
+        }
+
+        return future.whenComplete((posted, throwable) -> observation.stop());
+    }
+
+    /**
+     * Sends Slack notifications referring to the specified {@link Issue}s, all in flight at once up to the rate limit
+     * of the {@link SlackClient}, and then marks the {@link Issue}s whose notifications were sent as notified in one
+     * batch.
+     *
+     * @param issues the {@link Issue}s to be used in the operation
+     * @return {@code true} if the {@link Issue}s whose notifications were sent could be marked as notified,
+     * {@code false} otherwise
+     * @throws NullPointerException if the specified {@link Issue}s is {@code null}
+     */
+    private boolean sendNotificationBatch(List<Issue> issues) {
+        Objects.requireNonNull(issues);
+
+        List<CompletableFuture<Boolean>> futures = issues.stream()
+                                                         .map(this::sendNotification)
+                                                         .toList();
+
+        List<Integer> sentIds = new ArrayList<>();
+
+        for (int index = 0; index < issues.size(); index++) {
+            boolean sent = futures.get(index)
+                                  .join();
+
+            if (sent) {
+                int id = issues.get(index)
+                               .id();
+
+                sentIds.add(id);
+            }
+        }
+
+        return this.acknowledgeIssues(sentIds);
+    }
+
+    /**
+     * Returns the specified text with the characters that Slack treats as control characters escaped.
+     *
+     * @param text the text to be used in the operation
+     * @return the specified text with the characters that Slack treats as control characters escaped
+     * @throws NullPointerException if the specified text is {@code null}
+     */
+    private static String escape(String text) {
+        Objects.requireNonNull(text);
+
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;");
+    }
+
+    /**
+     * Returns the Block Kit blocks of a digest of the specified {@link Issue}s, which are grouped by repository name.
+     * The digest has a header, then a section naming each repository followed by a section linking each of its
+     * {@link Issue}s.
+     *
+     * @param issueGroups the {@link Issue}s to be used in the operation, grouped by repository name
+     * @param headerText the header text to be used in the operation
+     * @return the Block Kit blocks of a digest of the specified {@link Issue}s
+     * @throws NullPointerException if the specified {@link Issue}s or header text is {@code null}
+     */
+    private static List<LayoutBlock> getDigestBlocks(Map<String, List<Issue>> issueGroups, String headerText) {
+        Objects.requireNonNull(issueGroups);
+
+        Objects.requireNonNull(headerText);
+
+        List<LayoutBlock> blocks = new ArrayList<>();
+
+        PlainTextObject headerTextObject = PlainTextObject.builder()
+                                                          .text(headerText)
+                                                          .build();
+
+        HeaderBlock headerBlock = HeaderBlock.builder()
+                                             .text(headerTextObject)
+                                             .build();
+
+        blocks.add(headerBlock);
+
+        for (Map.Entry<String, List<Issue>> entry : issueGroups.entrySet()) {
+            String repositoryName = (entry.getKey() == null) ? "Other repositories" : entry.getKey();
+
+            String repositoryText = "*%s*".formatted(NotificationService.escape(repositoryName));
+
+            MarkdownTextObject repositoryTextObject = MarkdownTextObject.builder()
+                                                                        .text(repositoryText)
+                                                                        .build();
+
+            SectionBlock repositoryBlock = SectionBlock.builder()
+                                                       .text(repositoryTextObject)
+                                                       .build();
+
+            blocks.add(repositoryBlock);
+
+            for (Issue issue : entry.getValue()) {
+                String title = NotificationService.escape(issue.title());
+
+                String issueText = "\u2022 <%s|%s>".formatted(issue.url(), title);
+
+                MarkdownTextObject issueTextObject = MarkdownTextObject.builder()
+                                                                       .text(issueText)
+                                                                       .build();
+
+                SectionBlock issueBlock = SectionBlock.builder()
+                                                      .text(issueTextObject)
+                                                      .build();
+
+                blocks.add(issueBlock);
+            }
+        }
+
+        return blocks;
+    }
+
+    /**
+     * Sends one Slack digest of the specified {@link Issue}s, which are grouped by repository name, and sets their
+     * notification dates if it was posted. The digest and the updates of the {@link Issue}s are observed as one span.
+     *
+     * @param issueGroups the {@link Issue}s to be used in the operation, grouped by repository name
+     * @return {@link JobMetrics.Outcome#SUCCESS} if the digest was posted and its {@link Issue}s were marked as
+     * notified, {@link JobMetrics.Outcome#PARTIAL} if the digest could not be posted, or
+     * {@link JobMetrics.Outcome#FAILURE} if the digest was posted but its {@link Issue}s could not be marked as
+     * notified
+     * @throws NullPointerException if the specified {@link Issue}s is {@code null}
+     */
+    private JobMetrics.Outcome sendDigest(Map<String, List<Issue>> issueGroups) {
+        Objects.requireNonNull(issueGroups);
+
+        List<Issue> issues = issueGroups.values()
+                                        .stream()
+                                        .flatMap(List::stream)
+                                        .toList();
+
+        String text = (issues.size() == 1) ? "1 new first-timer issue" : "%d new first-timer issues".formatted(
+            issues.size());
+
+        List<LayoutBlock> blocks = NotificationService.getDigestBlocks(issueGroups, text);
+
         ChatPostMessageRequest request = ChatPostMessageRequest.builder()
-                                                               .channel("#spring-issues")
-                                                               .mrkdwn(true)
+                                                               .channel(NotificationService.CHANNEL)
                                                                .text(text)
+                                                               .blocks(blocks)
                                                                .build();
 
-        Slack slack = Slack.getInstance();
+        String issueCount = String.valueOf(issues.size());
 
-        try {
-            slack.methods(this.slackToken)
-                 .chatPostMessage(request);
-        } catch (IOException | SlackApiException e) {
-            String message = e.getMessage();
+        return Observation.createNotStarted("bot.notification.digest", this.observationRegistry)
+                          .highCardinalityKeyValue("issues", issueCount)
+                          .observe(() -> {
+                              boolean posted = this.postMessage(request)
+                                                   .join();
 
-            NotificationService.LOGGER.error(message, e);
+                              if (!posted) {
+                                  return JobMetrics.Outcome.PARTIAL;
+                              }
+
+                              List<Integer> ids = issues.stream()
+                                                        .map(Issue::id)
+                                                        .toList();
+
+                              boolean acknowledged = this.acknowledgeIssues(ids);
+
+                              return acknowledged ? JobMetrics.Outcome.SUCCESS : JobMetrics.Outcome.FAILURE;
+                          });
+    }
+
+    /**
+     * Sends the specified {@link Issue}s, which are grouped by repository name, as Slack digests of at most the digest
+     * size each. A repository whose {@link Issue}s do not fit in the current digest continues in the next one. No
+     * more digests are sent once the lease of the job is lost, or once the {@link Issue}s of a digest could not be
+     * marked as notified. A digest that could not be posted does not stop the others.
+     *
+     * @param issueGroups the {@link Issue}s to be used in the operation, grouped by repository name
+     * @param leaseHeld the {@link BooleanSupplier} that returns whether the lease of the job is still held
+     * @return {@link JobMetrics.Outcome#SUCCESS} if every digest was posted, {@link JobMetrics.Outcome#PARTIAL} if a
+     * digest could not be posted, {@link JobMetrics.Outcome#FAILURE} if the {@link Issue}s of a digest could not be
+     * marked as notified, or {@code null} if the lease of the job was lost
+     * @throws NullPointerException if the specified {@link Issue}s or {@link BooleanSupplier} is {@code null}
+     */
+    private JobMetrics.Outcome sendDigests(Map<String, List<Issue>> issueGroups, BooleanSupplier leaseHeld) {
+        Objects.requireNonNull(issueGroups);
+
+        Objects.requireNonNull(leaseHeld);
+
+        Map<String, List<Issue>> digestGroups = new LinkedHashMap<>();
+
+        int digestCount = 0;
+
+        JobMetrics.Outcome outcome = JobMetrics.Outcome.SUCCESS;
+
+        for (Map.Entry<String, List<Issue>> entry : issueGroups.entrySet()) {
+            String repositoryName = entry.getKey();
+
+            for (Issue issue : entry.getValue()) {
+                digestGroups.computeIfAbsent(repositoryName, key -> new ArrayList<>())
+                            .add(issue);
+
+                digestCount++;
+
+                if (digestCount == this.digestSize) {
+                    if (!leaseHeld.getAsBoolean()) {
+                        return null;
+                    }
+
+                    JobMetrics.Outcome digestOutcome = this.sendDigest(digestGroups);
+
+                    if (digestOutcome == JobMetrics.Outcome.FAILURE) {
+                        return digestOutcome;
+                    } else if (digestOutcome == JobMetrics.Outcome.PARTIAL) {
+                        outcome = digestOutcome;
+                    }
+
+                    digestGroups = new LinkedHashMap<>();
+
+                    digestCount = 0;
+                }
+            }
+        }
+
+        if (digestCount == 0) {
+            return outcome;
+        } else if (!leaseHeld.getAsBoolean()) {
+            return null;
+        }
+
+        JobMetrics.Outcome digestOutcome = this.sendDigest(digestGroups);
+
+        return (digestOutcome == JobMetrics.Outcome.SUCCESS) ? outcome : digestOutcome;
+    }
+
+    /**
+     * Returns the ID of the Slack channel that the notifications are sent to, looking it up by name among the public
+     * and private channels the first time.
+     *
+     * @return the ID of the Slack channel that the notifications are sent to, an empty string if the channel cannot be
+     * found or the token is not allowed to list it, or {@code null} if it could not be looked up
+     */
+    private String getChannelId() {
+        String channelId = this.channelId.get();
+
+        if (channelId != null) {
+            return channelId;
+        }
+
+        String name = NotificationService.CHANNEL.substring(1);
+
+        List<ConversationType> types = List.of(ConversationType.PUBLIC_CHANNEL, ConversationType.PRIVATE_CHANNEL);
+
+        int pageSize = NotificationService.CONVERSATION_PAGE_SIZE;
+
+        String cursor = null;
+
+        do {
+            ConversationsListRequest request = ConversationsListRequest.builder()
+                                                                       .types(types)
+                                                                       .excludeArchived(true)
+                                                                       .limit(pageSize)
+                                                                       .cursor(cursor)
+                                                                       .build();
+
+            ConversationsListResponse response;
+
+            try {
+                response = this.slackClient.conversationsList(request)
+                                           .join();
+            } catch (CompletionException e) {
+                String message = e.getMessage();
+
+                NotificationService.LOGGER.error(message, e);
+
+                return null;
+            }
+
+            if (!response.isOk()) {
+                String error = response.getError();
+
+                String message = "Slack rejected the channel lookup: %s".formatted(error);
+
+                NotificationService.LOGGER.error(message);
+
+                return NotificationService.HISTORY_UNAVAILABLE_ERRORS.contains(error) ? "" : null;
+            }
+
+            for (Conversation conversation : response.getChannels()) {
+                if (name.equals(conversation.getName())) {
+                    channelId = conversation.getId();
+
+                    this.channelId.set(channelId);
+
+                    return channelId;
+                }
+            }
+
+            ResponseMetadata responseMetadata = response.getResponseMetadata();
+
+            cursor = (responseMetadata == null) ? null : responseMetadata.getNextCursor();
+        } while ((cursor != null) && !cursor.isEmpty());
+
+        String message = "The Slack channel %s could not be found".formatted(NotificationService.CHANNEL);
+
+        NotificationService.LOGGER.error(message);
+
+        return "";
+    }
+
+    /**
+     * Returns whether the Slack message of the claimed notification of the specified {@link NotificationOutboxRecord}
+     * has already been posted, by searching the history of the channel since the notification was added for a message
+     * whose metadata has its idempotency key. If the token is not allowed to search the history of the channel, the
+     * message is assumed not to have been posted, so that it is delivered at least once rather than never.
+     *
+     * @param outboxRecord the {@link NotificationOutboxRecord} to be used in the operation
+     * @return {@code true} if the Slack message has already been posted, {@code false} if it has not or the history of
+     * the channel cannot be searched with the token, or {@code null} if the history of the channel could not be
+     * searched this time
+     * @throws NullPointerException if the specified {@link NotificationOutboxRecord} is {@code null}
+     */
+    private Boolean isPosted(NotificationOutboxRecord outboxRecord) {
+        Objects.requireNonNull(outboxRecord);
+
+        String channelId = this.getChannelId();
+
+        if (channelId == null) {
+            return null;
+        } else if (channelId.isEmpty()) {
+            return false;
+        }
+
+        String idempotencyKey = NotificationOutboxQueue.getIdempotencyKey(outboxRecord.getIssueId());
+
+        long oldestSecond = outboxRecord.getCreationDate()
+                                        .minus(NotificationService.HISTORY_MARGIN)
+                                        .toEpochSecond();
+
+        String oldest = String.valueOf(oldestSecond);
+
+        int pageSize = NotificationService.CONVERSATION_PAGE_SIZE;
+
+        String cursor = null;
+
+        do {
+            ConversationsHistoryRequest request = ConversationsHistoryRequest.builder()
+                                                                             .channel(channelId)
+                                                                             .oldest(oldest)
+                                                                             .includeAllMetadata(true)
+                                                                             .limit(pageSize)
+                                                                             .cursor(cursor)
+                                                                             .build();
+
+            ConversationsHistoryResponse response;
+
+            try {
+                response = this.slackClient.conversationsHistory(request)
+                                           .join();
+            } catch (CompletionException e) {
+                String message = e.getMessage();
+
+                NotificationService.LOGGER.error(message, e);
+
+                return null;
+            }
+
+            if (!response.isOk()) {
+                String error = response.getError();
+
+                String message = "Slack rejected the history request: %s".formatted(error);
+
+                NotificationService.LOGGER.error(message);
+
+                return NotificationService.HISTORY_UNAVAILABLE_ERRORS.contains(error) ? Boolean.FALSE : null;
+            }
+
+            for (Message message : response.getMessages()) {
+                Message.Metadata metadata = message.getMetadata();
+
+                if ((metadata == null) || !NotificationService.EVENT_TYPE.equals(metadata.getEventType())
+                    || (metadata.getEventPayload() == null)) {
+                    continue;
+                }
+
+                Object key = metadata.getEventPayload()
+                                     .get("idempotency_key");
+
+                if (idempotencyKey.equals(key)) {
+                    return true;
+                }
+            }
+
+            ResponseMetadata responseMetadata = response.getResponseMetadata();
+
+            cursor = (responseMetadata == null) ? null : responseMetadata.getNextCursor();
+        } while ((cursor != null) && !cursor.isEmpty());
+
+        return false;
+    }
+
+    /**
+     * Delivers the claimed notification of the specified {@link NotificationOutboxRecord} referring to the specified
+     * {@link Issue}. It is completed if the Slack message was posted and released for a retry otherwise. A retried
+     * notification whose message is found in the history of the channel is completed without being posted again, and
+     * its claim is extended before the message is posted, so that it is not claimed again meanwhile. If the
+     * {@link Issue} is {@code null}, because it has been notified, closed, or archived since, the notification is
+     * discarded.
+     *
+     * @param outboxRecord the {@link NotificationOutboxRecord} to be used in the operation
+     * @param issue the {@link Issue} to be used in the operation, or {@code null}
+     * @throws NullPointerException if the specified {@link NotificationOutboxRecord} is {@code null}
+     */
+    private void deliverNotification(NotificationOutboxRecord outboxRecord, Issue issue) {
+        Objects.requireNonNull(outboxRecord);
+
+        int issueId = outboxRecord.getIssueId();
+
+        if (issue == null) {
+            this.outboxQueue.discardNotification(outboxRecord);
 
             return;
         }
 
-        this.updateIssue(issue);
+        ChatPostMessageRequest request = NotificationService.getMessageRequest(issue);
+
+        String id = String.valueOf(issueId);
+
+        int attemptCount = outboxRecord.getAttemptCount();
+
+        String attempt = String.valueOf(attemptCount);
+
+        Observation.createNotStarted("bot.notification.deliver", this.observationRegistry)
+                   .highCardinalityKeyValue("issue.id", id)
+                   .highCardinalityKeyValue("attempt", attempt)
+                   .observe(() -> {
+                       Boolean alreadyPosted = (attemptCount > 1) ? this.isPosted(outboxRecord) : Boolean.FALSE;
+
+                       if (alreadyPosted == null) {
+                           this.outboxQueue.retryNotification(outboxRecord);
+
+                           return;
+                       } else if (alreadyPosted) {
+                           String message = "The notification of issue %d was already posted".formatted(issueId);
+
+                           NotificationService.LOGGER.info(message);
+
+                           this.outboxQueue.completeNotification(outboxRecord);
+
+                           return;
+                       } else if (!this.outboxQueue.extendClaim(outboxRecord)) {
+                           String message = "The claim of the notification of issue %d was lost".formatted(issueId);
+
+                           NotificationService.LOGGER.warn(message);
+
+                           return;
+                       }
+
+                       boolean posted = this.postMessage(request)
+                                            .join();
+
+                       if (posted) {
+                           this.outboxQueue.completeNotification(outboxRecord);
+                       } else {
+                           this.outboxQueue.retryNotification(outboxRecord);
+                       }
+                   });
+    }
+
+    /**
+     * Delivers the claimed notifications of the specified {@link NotificationOutboxRecord}s on the delivery workers,
+     * returning once all of them have been completed, released, or discarded.
+     *
+     * @param outboxRecords the {@link NotificationOutboxRecord}s to be used in the operation
+     * @return {@code true} if the {@link Issue}s of the notifications could be fetched, {@code false} otherwise
+     * @throws NullPointerException if the specified {@link NotificationOutboxRecord}s is {@code null}
+     */
+    private boolean deliverNotifications(List<NotificationOutboxRecord> outboxRecords) {
+        Objects.requireNonNull(outboxRecords);
+
+        List<Integer> issueIds = outboxRecords.stream()
+                                              .map(NotificationOutboxRecord::getIssueId)
+                                              .toList();
+
+        Map<Integer, Issue> pendingIssues = this.getPendingIssues(issueIds);
+
+        if (pendingIssues == null) {
+            return false;
+        }
+
+        CompletableFuture<?>[] futures = outboxRecords.stream()
+                                                      .map(outboxRecord -> CompletableFuture.runAsync(() -> {
+                                                          Issue issue = pendingIssues.get(outboxRecord.getIssueId());
+
+                                                          this.deliverNotification(outboxRecord, issue);
+                                                      }, this.deliveryExecutor))
+                                                      .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures)
+                         .join();
+
+        return true;
+    }
+
+    /**
+     * Sends Slack notifications for new Spring {@link Issue}s, either one message per {@link Issue} or as digests.
+     * In outbox mode, it only adds the notifications that are missing from the outbox, and the delivery workers send
+     * them. No more notifications are sent once the lease of the job is lost, since another replica may be sending
+     * them, or once the notified {@link Issue}s could not be marked as notified, which fails the run. A run in which a
+     * digest could not be posted counts as partial. Each run is timed and counted by outcome, and the last run of the
+     * job is forgotten unless it succeeded, so that it is not held back by its interval before it is retried.
+     *
+     * @param leaseHeld the {@link BooleanSupplier} that returns whether the lease of the job is still held
+     * @throws NullPointerException if the specified {@link BooleanSupplier} is {@code null}
+     */
+    private void notifyIssues(BooleanSupplier leaseHeld) {
+        Objects.requireNonNull(leaseHeld);
+
+        Observation observation = this.jobMetrics.start(NotificationService.JOB_NAME);
+
+        JobMetrics.Outcome outcome = JobMetrics.Outcome.FAILURE;
+
+        try (Observation.Scope scope = observation.openScope()) {
+            boolean completed = true;
+
+            JobMetrics.Outcome runOutcome = JobMetrics.Outcome.SUCCESS;
+
+            if (this.outboxQueue.isEnabled()) {
+                Integer count = leaseHeld.getAsBoolean() ? this.outboxQueue.enqueuePendingNotifications() : null;
+
+                if (count == null) {
+                    return;
+                }
+            } else if (this.digest) {
+                Map<String, List<Issue>> issueGroups = this.getNewIssueGroups();
+
+                if (issueGroups == null) {
+                    return;
+                }
+
+                JobMetrics.Outcome digestOutcome = this.sendDigests(issueGroups, leaseHeld);
+
+                if (digestOutcome == null) {
+                    completed = false;
+                } else if (digestOutcome == JobMetrics.Outcome.FAILURE) {
+                    return;
+                } else {
+                    runOutcome = digestOutcome;
+                }
+            } else {
+                Set<Issue> newIssues = this.getNewIssues();
+
+                if (newIssues == null) {
+                    return;
+                }
+
+                List<List<Issue>> batches = this.utilities.getChunks(newIssues, this.ackBatchSize);
+
+                for (List<Issue> batch : batches) {
+                    if (!leaseHeld.getAsBoolean()) {
+                        completed = false;
+
+                        break;
+                    }
+
+                    if (!this.sendNotificationBatch(batch)) {
+                        return;
+                    }
+                }
+            }
+
+            if (!completed) {
+                String message = "Stopped sending notifications because the lease of the job was lost";
+
+                NotificationService.LOGGER.warn(message);
+
+                return;
+            }
+
+            outcome = runOutcome;
+        } catch (Exception e) {
+            observation.error(e);
+
+            this.rollbar.error(e);
+        } finally {
+            if (outcome != JobMetrics.Outcome.SUCCESS) {
+                this.jobLeaseManager.resetLastRun(NotificationService.JOB_NAME);
+            }
+
+            this.jobMetrics.stop(observation, NotificationService.JOB_NAME, outcome);
+        }
     }
 
     /**
-     * Sends Slack notifications for new Spring {@link Issue}s every hour.
+     * Sends Slack notifications for new Spring {@link Issue}s every hour on the replica that holds the lease of the
+     * job, unless another replica ran the job within the hour. It is synchronized so that a run on this replica waits
+     * for the previous one to release the lease rather than being skipped. If a digest schedule is set, the new
+     * {@link Issue}s are held back for it instead.
      */
     @Scheduled(fixedRate = 1L, timeUnit = TimeUnit.HOURS)
-    public void sendNotifications() {
-        try {
-            Set<Issue> newIssues = this.getNewIssues();
+    public synchronized void sendNotifications() {
+        if (this.scheduledDigest) {
+            return;
+        }
+
+        Duration interval = Duration.ofHours(1L);
+
+        this.jobLeaseManager.runWithLease(NotificationService.JOB_NAME, interval, this::notifyIssues);
+    }
+
+    /**
+     * Sends Slack notifications for new Spring {@link Issue}s right away on the replica that holds the lease of the
+     * job. It is run whenever a webhook saves an {@link Issue}, and it does not count as the last run of the job, so
+     * the hourly run still happens. If a digest schedule is set, the new {@link Issue}s are held back for it instead.
+     */
+    public synchronized void sendPendingNotifications() {
+        if (this.scheduledDigest) {
+            return;
+        }
+
+        this.jobLeaseManager.runWithLease(NotificationService.JOB_NAME, Duration.ZERO, this::notifyIssues);
+    }
+
+    /**
+     * Sends the new Spring {@link Issue}s as Slack digests whenever the digest schedule fires, on the replica that
+     * holds the lease of the job, unless another replica already sent them for this firing. The schedule is disabled
+     * unless the {@code slack.digest.cron} property is set.
+     */
+    @Scheduled(cron = "${slack.digest.cron:-}")
+    public synchronized void sendScheduledDigests() {
+        this.jobLeaseManager.runWithLease(NotificationService.JOB_NAME, this.digestInterval, this::notifyIssues);
+    }
+
+    /**
+     * Delivers the due notifications of the outbox, claiming them in batches until none are left. Every replica runs
+     * it, since the notifications are claimed with {@code FOR UPDATE SKIP LOCKED} rather than under the lease of a
+     * job. It does nothing unless the outbox is enabled. Each run is timed and counted by outcome.
+     */
+    @Scheduled(fixedDelayString = "${slack.outbox.poll-interval:PT5S}")
+    public void deliverNotifications() {
+        if (!this.outboxQueue.isEnabled()) {
+            return;
+        }
 
-            if (newIssues == null) {
+        Observation observation = this.jobMetrics.start(NotificationService.DELIVERY_JOB_NAME);
+
+        JobMetrics.Outcome outcome = JobMetrics.Outcome.FAILURE;
+
+        try (Observation.Scope scope = observation.openScope()) {
+            List<NotificationOutboxRecord> outboxRecords = this.outboxQueue.claimNotifications();
+
+            while ((outboxRecords != null) && !outboxRecords.isEmpty()) {
+                if (!this.deliverNotifications(outboxRecords)) {
+                    return;
+                }
+
+                outboxRecords = this.outboxQueue.claimNotifications();
+            }
+
+            if (outboxRecords == null) {
                 return;
             }
 
-            newIssues.forEach(this::sendNotification);
+            outcome = JobMetrics.Outcome.SUCCESS;
         } catch (Exception e) {
+            observation.error(e);
+
             this.rollbar.error(e);
+        } finally {
+            this.jobMetrics.stop(observation, NotificationService.DELIVERY_JOB_NAME, outcome);
         }
     }
 }
\ No newline at end of file
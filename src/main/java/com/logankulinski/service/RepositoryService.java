@@ -12,14 +12,26 @@ import java.util.Objects;
 import java.util.Set;
 import com.logankulinski.model.Repository;
 import java.util.HashSet;
-import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpHeaders;
 import com.logankulinski.jooq.Tables;
 import org.jooq.exception.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.List;
+import java.util.Map;
+import java.util.LinkedHashMap;
+import org.jooq.InsertValuesStep2;
+import com.logankulinski.jooq.tables.records.RepositoryRecord;
+import org.jooq.impl.DSL;
+import com.logankulinski.client.RateLimitGovernor;
+import com.logankulinski.client.Paginator;
+import java.util.concurrent.ExecutionException;
+import io.micrometer.observation.Observation;
+import java.util.function.BooleanSupplier;
+import java.time.Duration;
+import java.util.Comparator;
 
 /**
  * A service for operating on GitHub repositories in the Spring Projects First-timer Bot.
@@ -33,6 +45,16 @@ public final class RepositoryService {
      */
     private final GitHubClient client;
 
+    /**
+     * The {@link RateLimitGovernor} of this {@link RepositoryService}.
+     */
+    private final RateLimitGovernor governor;
+
+    /**
+     * The {@link Paginator} of this {@link RepositoryService}.
+     */
+    private final Paginator paginator;
+
     /**
      * The {@link Utilities} of this {@link RepositoryService}.
      */
@@ -48,12 +70,34 @@ public final class RepositoryService {
      */
     private final Rollbar rollbar;
 
+    /**
+     * The {@link JobMetrics} of this {@link RepositoryService}.
+     */
+    private final JobMetrics jobMetrics;
+
+    /**
+     * The {@link JobLeaseManager} of this {@link RepositoryService}.
+     */
+    private final JobLeaseManager jobLeaseManager;
+
+    /**
+     * The maximum number of {@link Repository} objects saved per statement by this {@link RepositoryService}.
+     */
+    private final int batchSize;
+
+    /**
+     * The name of the job that updates the repositories.
+     */
+    private static final String JOB_NAME;
+
     /**
      * The {@link Logger} of the {@link RepositoryService} class.
      */
     private static final Logger LOGGER;
 
     static {
+        JOB_NAME = "update-repositories";
+
         LOGGER = LoggerFactory.getLogger(RepositoryService.class);
     }
 
@@ -61,46 +105,75 @@ public final class RepositoryService {
      * Constructs an instance of the {@link RepositoryService} class.
      *
      * @param client the {@link GitHubClient} to be used in the operation
+     * @param governor the {@link RateLimitGovernor} to be used in the operation
+     * @param paginator the {@link Paginator} to be used in the operation
      * @param utilities the {@link Utilities} to be used in the operation
      * @param context the {@link DSLContext} to be used in the operation
      * @param rollbar the {@link Rollbar} to be used in the operation
-     * @throws NullPointerException if the specified {@link GitHubClient}, {@link Utilities}, {@link DSLContext}, or
-     * {@link Rollbar} is {@code null}
+     * @param jobMetrics the {@link JobMetrics} to be used in the operation
+     * @param jobLeaseManager the {@link JobLeaseManager} to be used in the operation
+     * @param batchSize the batch size to be used in the operation
+     * @throws NullPointerException if the specified {@link GitHubClient}, {@link RateLimitGovernor},
+     * {@link Paginator}, {@link Utilities}, {@link DSLContext}, {@link Rollbar}, {@link JobMetrics}, or
+     * {@link JobLeaseManager} is {@code null}
      */
     @Autowired
-    public RepositoryService(GitHubClient client, Utilities utilities, DSLContext context, Rollbar rollbar) {
+    public RepositoryService(GitHubClient client, RateLimitGovernor governor, Paginator paginator,
+        Utilities utilities, DSLContext context, Rollbar rollbar, JobMetrics jobMetrics,
+        JobLeaseManager jobLeaseManager, @Value("${database.batch-size:500}") int batchSize) {
         Objects.requireNonNull(client);
 
+        Objects.requireNonNull(governor);
+
+        Objects.requireNonNull(paginator);
+
         Objects.requireNonNull(utilities);
 
         Objects.requireNonNull(context);
 
         Objects.requireNonNull(rollbar);
 
+        Objects.requireNonNull(jobMetrics);
+
+        Objects.requireNonNull(jobLeaseManager);
+
         this.client = client;
 
+        this.governor = governor;
+
+        this.paginator = paginator;
+
         this.utilities = utilities;
 
         this.context = context;
 
         this.rollbar = rollbar;
+
+        this.jobMetrics = jobMetrics;
+
+        this.jobLeaseManager = jobLeaseManager;
+
+        this.batchSize = batchSize;
     }
 
     /**
-     * Returns a {@link Set} of {@link Repository} objects to be operated on.
+     * Returns a {@link Set} of {@link Repository} objects to be operated on. The requests are made with
+     * {@link RateLimitGovernor.Priority#BULK} priority, and the pages after the first are fetched concurrently.
      *
      * @return a {@link Set} of {@link Repository} objects to be operated on
+     * @throws InterruptedException if the current thread is interrupted while waiting for a page
+     * @throws ExecutionException if a page request threw an exception
      */
-    private Set<Repository> getRepositories() {
+    private Set<Repository> getRepositories() throws InterruptedException, ExecutionException {
         int limit = 100;
 
-        Integer page = 1;
-
         Set<Repository> repositories = new HashSet<>();
 
-        while (page != null) {
-            ResponseEntity<Set<Repository>> responseEntity = this.client.getSpringRepositories(limit, page);
+        Paginator.PageRequest<Set<Repository>> request = page -> this.governor.exchange(
+            RateLimitGovernor.Resource.CORE, RateLimitGovernor.Priority.BULK,
+            () -> this.client.getSpringRepositories(limit, page));
 
+        boolean fetched = this.paginator.fetch(request, responseEntity -> {
             HttpStatusCode statusCode = responseEntity.getStatusCode();
 
             Set<Repository> body = responseEntity.getBody();
@@ -110,61 +183,184 @@ public final class RepositoryService {
 
                 RepositoryService.LOGGER.error(message);
 
-                return null;
+                return false;
             }
 
             repositories.addAll(body);
 
-            HttpHeaders httpHeaders = responseEntity.getHeaders();
+            return true;
+        });
 
-            page = this.utilities.getNextPage(httpHeaders);
-        }
+        return fetched ? repositories : null;
+    }
+
+    /**
+     * Upserts the specified {@link Repository} objects using one multi-row statement in one transaction. Existing
+     * rows are only updated if their name is distinct from the saved one, so unchanged rows are not rewritten. The
+     * rows are written in order of their IDs, so that concurrent saves lock shared rows in the same order, and each
+     * written row is counted from what the upsert returns.
+     *
+     * @param repositories the {@link Repository} objects to be used in the operation
+     * @return the {@link SaveCounts} of the upsert
+     * @throws NullPointerException if the specified {@link Repository} objects is {@code null}
+     * @throws DataAccessException if the upsert fails
+     */
+    private SaveCounts upsertRepositories(List<Repository> repositories) {
+        Objects.requireNonNull(repositories);
+
+        List<Repository> sortedRepositories = repositories.stream()
+                                                          .sorted(Comparator.comparingInt(Repository::id))
+                                                          .toList();
 
-        return repositories;
+        return this.context.transactionResult(configuration -> {
+            DSLContext transactionContext = DSL.using(configuration);
+
+            InsertValuesStep2<RepositoryRecord, Integer, String> insert = transactionContext.insertInto(
+                Tables.REPOSITORY, Tables.REPOSITORY.ID, Tables.REPOSITORY.NAME);
+
+            for (Repository repository : sortedRepositories) {
+                insert = insert.values(repository.id(), repository.name());
+            }
+
+            List<Boolean> insertedValues = insert.onConflict(Tables.REPOSITORY.ID)
+                                                 .doUpdate()
+                                                 .set(Tables.REPOSITORY.NAME, DSL.excluded(Tables.REPOSITORY.NAME))
+                                                 .where(Tables.REPOSITORY.NAME.isDistinctFrom(
+                                                     DSL.excluded(Tables.REPOSITORY.NAME)))
+                                                 .returningResult(SaveCounts.INSERTED)
+                                                 .fetch(SaveCounts.INSERTED);
+
+            return SaveCounts.of(sortedRepositories.size(), insertedValues);
+        });
     }
 
     /**
      * Saves the specified {@link Repository} to the database.
      *
      * @param repository the {@link Repository} to be used in the operation
+     * @return the {@link SaveCounts} of the save
      * @throws NullPointerException if the specified {@link Repository} is {@code null}
      */
-    private void saveRepository(Repository repository) {
+    private SaveCounts saveRepository(Repository repository) {
         Objects.requireNonNull(repository);
 
-        int id = repository.id();
-
-        String name = repository.name();
+        List<Repository> repositories = List.of(repository);
 
         try {
-            this.context.insertInto(Tables.REPOSITORY)
-                        .set(Tables.REPOSITORY.ID, id)
-                        .set(Tables.REPOSITORY.NAME, name)
-                        .onDuplicateKeyUpdate()
-                        .set(Tables.REPOSITORY.NAME, name)
-                        .execute();
+            return this.upsertRepositories(repositories);
         } catch (DataAccessException e) {
             String message = e.getMessage();
 
             RepositoryService.LOGGER.error(message, e);
+
+            return new SaveCounts(0, 0, 0, 1);
         }
     }
 
     /**
-     * Updates the Spring {@link Repository} objects every day.
+     * Saves the specified chunk of {@link Repository} objects to the database. If the chunk fails, its
+     * {@link Repository} objects are saved one at a time so that one bad row does not sink the others.
+     *
+     * @param chunk the chunk of {@link Repository} objects to be used in the operation
+     * @return the {@link SaveCounts} of the save
+     * @throws NullPointerException if the specified chunk is {@code null}
      */
-    @Scheduled(fixedRate = 1L, timeUnit = TimeUnit.DAYS)
-    public void updateRepositories() {
+    private SaveCounts saveRepositoryChunk(List<Repository> chunk) {
+        Objects.requireNonNull(chunk);
+
         try {
+            return this.upsertRepositories(chunk);
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            RepositoryService.LOGGER.error(message, e);
+
+            return chunk.stream()
+                        .map(this::saveRepository)
+                        .reduce(SaveCounts.EMPTY, SaveCounts::plus);
+        }
+    }
+
+    /**
+     * Saves the specified {@link Repository} objects to the database in chunks of the batch size of this
+     * {@link RepositoryService}.
+     *
+     * @param repositories the {@link Repository} objects to be used in the operation
+     * @return the {@link SaveCounts} of the save
+     * @throws NullPointerException if the specified {@link Repository} objects is {@code null}
+     */
+    private SaveCounts saveRepositories(Set<Repository> repositories) {
+        Objects.requireNonNull(repositories);
+
+        Map<Integer, Repository> idToRepository = new LinkedHashMap<>();
+
+        repositories.forEach(repository -> idToRepository.put(repository.id(), repository));
+
+        List<List<Repository>> chunks = this.utilities.getChunks(idToRepository.values(), this.batchSize);
+
+        return chunks.stream()
+                     .map(this::saveRepositoryChunk)
+                     .reduce(SaveCounts.EMPTY, SaveCounts::plus);
+    }
+
+    /**
+     * Updates the Spring {@link Repository} objects, unless the lease of the job was lost while they were fetched.
+     * Each run is timed and counted by outcome.
+     *
+     * @param leaseHeld the {@link BooleanSupplier} that returns whether the lease of the job is still held
+     * @throws NullPointerException if the specified {@link BooleanSupplier} is {@code null}
+     */
+    private void syncRepositories(BooleanSupplier leaseHeld) {
+        Objects.requireNonNull(leaseHeld);
+
+        Observation observation = this.jobMetrics.start(RepositoryService.JOB_NAME);
+
+        JobMetrics.Outcome outcome = JobMetrics.Outcome.FAILURE;
+
+        try (Observation.Scope scope = observation.openScope()) {
             Set<Repository> repositories = this.getRepositories();
 
             if (repositories == null) {
+                return;
+            } else if (!leaseHeld.getAsBoolean()) {
+                String message = "Skipped saving the repositories because the lease of the job was lost";
+
+                RepositoryService.LOGGER.warn(message);
+
                 return;
             }
 
-            repositories.forEach(this::saveRepository);
+            SaveCounts saveCounts = this.saveRepositories(repositories);
+
+            String message = "Saved repositories: %s".formatted(saveCounts);
+
+            RepositoryService.LOGGER.info(message);
+
+            outcome = (saveCounts.failed() == 0) ? JobMetrics.Outcome.SUCCESS : JobMetrics.Outcome.PARTIAL;
         } catch (Exception e) {
+            observation.error(e);
+
             this.rollbar.error(e);
+        } finally {
+            this.jobMetrics.stop(observation, RepositoryService.JOB_NAME, outcome);
         }
     }
+
+    /**
+     * Updates the Spring {@link Repository} objects every day on the replica that holds the lease of the job.
+     */
+    @Scheduled(fixedRate = 1L, timeUnit = TimeUnit.DAYS)
+    public void updateRepositories() {
+        Duration interval = Duration.ofDays(1L);
+
+        this.jobLeaseManager.runWithLease(RepositoryService.JOB_NAME, interval, this::syncRepositories);
+    }
+
+    /**
+     * Updates the Spring {@link Repository} objects right away on the replica that holds the lease of the job, such as
+     * in a load test. It does not count as the last run of the job, so the daily run still happens.
+     */
+    public void updateRepositoriesNow() {
+        this.jobLeaseManager.runWithLease(RepositoryService.JOB_NAME, Duration.ZERO, this::syncRepositories);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.logankulinski.service;
+
+import java.util.Objects;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import java.util.Collection;
+
+/**
+ * The counts of the rows written by a save in the Spring Projects First-timer Bot.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @param inserted the number of inserted rows of this {@link SaveCounts}
+ * @param updated the number of updated rows of this {@link SaveCounts}
+ * @param unchanged the number of rows of this {@link SaveCounts} that already had the saved values
+ * @param failed the number of rows of this {@link SaveCounts} that could not be saved
+ */
+public record SaveCounts(int inserted, int updated, int unchanged, int failed) {
+    /**
+     * The {@link SaveCounts} of a save that wrote nothing.
+     */
+    public static final SaveCounts EMPTY;
+
+    /**
+     * The {@link Field} returned by an upsert for each row that it wrote, which is {@code true} if the row was inserted
+     * and {@code false} if it was updated. A row inserted by the statement has not been replaced by any transaction, so
+     * its {@code xmax} is zero.
+     */
+    static final Field<Boolean> INSERTED;
+
+    static {
+        EMPTY = new SaveCounts(0, 0, 0, 0);
+
+        INSERTED = DSL.field("(xmax = 0)", SQLDataType.BOOLEAN)
+                      .as("inserted");
+    }
+
+    /**
+     * Returns the {@link SaveCounts} of an upsert of the specified number of rows that returned the specified values
+     * of {@link #INSERTED}. The rows that the upsert did not return were left unchanged.
+     *
+     * @param size the number of upserted rows to be used in the operation
+     * @param insertedValues the returned values of {@link #INSERTED} to be used in the operation
+     * @return the {@link SaveCounts} of an upsert of the specified number of rows
+     * @throws NullPointerException if the specified returned values is {@code null}
+     */
+    static SaveCounts of(int size, Collection<Boolean> insertedValues) {
+        Objects.requireNonNull(insertedValues);
+
+        int inserted = 0;
+
+        int updated = 0;
+
+        for (Boolean insertedValue : insertedValues) {
+            if (Boolean.TRUE.equals(insertedValue)) {
+                inserted++;
+            } else {
+                updated++;
+            }
+        }
+
+        int unchanged = size - inserted - updated;
+
+        return new SaveCounts(inserted, updated, unchanged, 0);
+    }
+
+    /**
+     * Returns the sum of these {@link SaveCounts} and the specified {@link SaveCounts}.
+     *
+     * @param other the {@link SaveCounts} to be used in the operation
+     * @return the sum of these {@link SaveCounts} and the specified {@link SaveCounts}
+     * @throws NullPointerException if the specified {@link SaveCounts} is {@code null}
+     */
+    public SaveCounts plus(SaveCounts other) {
+        Objects.requireNonNull(other);
+
+        int newInserted = this.inserted + other.inserted;
+
+        int newUpdated = this.updated + other.updated;
+
+        int newUnchanged = this.unchanged + other.unchanged;
+
+        int newFailed = this.failed + other.failed;
+
+        return new SaveCounts(newInserted, newUpdated, newUnchanged, newFailed);
+    }
+
+    @Override
+    public String toString() {
+        return "%d inserted, %d updated, %d unchanged, %d failed".formatted(this.inserted, this.updated,
+            this.unchanged, this.failed);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,244 @@
+package com.logankulinski.service;
+
+import org.springframework.stereotype.Component;
+import org.jooq.DSLContext;
+import org.jooq.types.DayToSecond;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.Duration;
+import java.util.Objects;
+import org.jooq.Field;
+import java.time.OffsetDateTime;
+import org.jooq.impl.DSL;
+import com.logankulinski.jooq.Tables;
+import org.jooq.exception.DataAccessException;
+import org.jooq.Condition;
+import org.jooq.Select;
+import org.jooq.Record2;
+import org.jooq.SortField;
+import java.util.List;
+import com.logankulinski.jooq.tables.records.RepositoryLabelSyncRecord;
+
+/**
+ * A work queue of the repository label syncs of the Spring Projects First-timer Bot, persisted in the repository label
+ * sync table. Each tracked pair of a repository and a label is one task with a next run date. A replica claims a batch
+ * of due tasks with {@code FOR UPDATE SKIP LOCKED}, so replicas never claim the same task and sync throughput grows
+ * with the number of replicas. A claimed task is invisible to the other replicas until its visibility timeout lapses,
+ * so the task of a replica that crashed or failed is retried by any replica once the timeout has passed.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Component
+final class SyncTaskQueue {
+    /**
+     * The {@link DSLContext} of this {@link SyncTaskQueue}.
+     */
+    private final DSLContext context;
+
+    /**
+     * The owner of the tasks claimed by this {@link SyncTaskQueue}.
+     */
+    private final String owner;
+
+    /**
+     * The interval between the runs of each task of this {@link SyncTaskQueue}.
+     */
+    private final DayToSecond interval;
+
+    /**
+     * The time that a task claimed by this {@link SyncTaskQueue} stays invisible to the other replicas.
+     */
+    private final DayToSecond visibilityTimeout;
+
+    /**
+     * The maximum number of tasks claimed at once by this {@link SyncTaskQueue}.
+     */
+    private final int claimSize;
+
+    /**
+     * The {@link Logger} of the {@link SyncTaskQueue} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LoggerFactory.getLogger(SyncTaskQueue.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link SyncTaskQueue} class. Tasks are claimed on behalf of the owner of the
+     * leases of the specified {@link JobLeaseManager}.
+     *
+     * @param context the {@link DSLContext} to be used in the operation
+     * @param jobLeaseManager the {@link JobLeaseManager} to be used in the operation
+     * @param interval the interval to be used in the operation
+     * @param visibilityTimeout the visibility timeout to be used in the operation
+     * @param claimSize the claim size to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext}, {@link JobLeaseManager}, interval, or
+     * visibility timeout is {@code null}
+     * @throws IllegalArgumentException if the specified claim size is not positive
+     */
+    @Autowired
+    SyncTaskQueue(DSLContext context, JobLeaseManager jobLeaseManager,
+        @Value("${github.sync.work-queue.interval:1h}") Duration interval,
+        @Value("${github.sync.work-queue.visibility-timeout:10m}") Duration visibilityTimeout,
+        @Value("${github.sync.work-queue.claim-size:16}") int claimSize) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(jobLeaseManager);
+
+        Objects.requireNonNull(interval);
+
+        Objects.requireNonNull(visibilityTimeout);
+
+        if (claimSize <= 0) {
+            String message = "The claim size must be positive";
+
+            throw new IllegalArgumentException(message);
+        }
+
+        this.context = context;
+
+        this.owner = jobLeaseManager.getOwner();
+
+        this.interval = DayToSecond.valueOf(interval);
+
+        this.visibilityTimeout = DayToSecond.valueOf(visibilityTimeout);
+
+        this.claimSize = claimSize;
+    }
+
+    /**
+     * Adds a due task for each tracked pair of a repository and a label that does not have one yet.
+     *
+     * @return the number of added tasks, or {@code null} if they could not be added
+     */
+    Integer enqueueTasks() {
+        Field<OffsetDateTime> now = DSL.currentOffsetDateTime();
+
+        try {
+            return this.context.insertInto(Tables.REPOSITORY_LABEL_SYNC, Tables.REPOSITORY_LABEL_SYNC.REPOSITORY_NAME,
+                                   Tables.REPOSITORY_LABEL_SYNC.LABEL_NAME, Tables.REPOSITORY_LABEL_SYNC.NEXT_RUN_DATE)
+                               .select(DSL.select(Tables.REPOSITORY.NAME, Tables.LABEL.NAME, now)
+                                          .from(Tables.REPOSITORY, Tables.LABEL))
+                               .onConflictDoNothing()
+                               .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            SyncTaskQueue.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Claims the due tasks of tracked pairs that are not claimed by another replica, up to the claim size, in order
+     * of their next run dates. The rows that another replica is claiming at the same time are skipped rather than
+     * waited on.
+     *
+     * @return the {@link RepositoryLabelSyncRecord}s of the claimed tasks, or {@code null} if they could not be
+     * claimed
+     */
+    List<RepositoryLabelSyncRecord> claimTasks() {
+        Field<String> repositoryName = Tables.REPOSITORY_LABEL_SYNC.REPOSITORY_NAME;
+
+        Field<String> labelName = Tables.REPOSITORY_LABEL_SYNC.LABEL_NAME;
+
+        Field<OffsetDateTime> nextRunDate = Tables.REPOSITORY_LABEL_SYNC.NEXT_RUN_DATE;
+
+        Field<OffsetDateTime> leaseExpirationDate = Tables.REPOSITORY_LABEL_SYNC.LEASE_EXPIRATION_DATE;
+
+        Field<OffsetDateTime> now = DSL.currentOffsetDateTime();
+
+        Condition dueCondition = nextRunDate.isNull()
+                                            .or(nextRunDate.le(now));
+
+        Condition visibleCondition = leaseExpirationDate.isNull()
+                                                        .or(leaseExpirationDate.le(now));
+
+        Condition repositoryCondition = Tables.REPOSITORY.NAME.eq(repositoryName);
+
+        Condition labelCondition = Tables.LABEL.NAME.eq(labelName);
+
+        Condition trackedCondition = DSL.exists(DSL.selectOne()
+                                                   .from(Tables.REPOSITORY)
+                                                   .where(repositoryCondition))
+                                        .and(DSL.exists(DSL.selectOne()
+                                                           .from(Tables.LABEL)
+                                                           .where(labelCondition)));
+
+        SortField<OffsetDateTime> sortField = nextRunDate.asc()
+                                                         .nullsFirst();
+
+        Select<Record2<String, String>> claimableTasks = DSL.select(repositoryName, labelName)
+                                                            .from(Tables.REPOSITORY_LABEL_SYNC)
+                                                            .where(dueCondition)
+                                                            .and(visibleCondition)
+                                                            .and(trackedCondition)
+                                                            .orderBy(sortField)
+                                                            .limit(this.claimSize)
+                                                            .forUpdate()
+                                                            .skipLocked();
+
+        Field<OffsetDateTime> expirationDate = now.plus(this.visibilityTimeout);
+
+        try {
+            return this.context.update(Tables.REPOSITORY_LABEL_SYNC)
+                               .set(Tables.REPOSITORY_LABEL_SYNC.LEASE_OWNER, this.owner)
+                               .set(leaseExpirationDate, expirationDate)
+                               .where(DSL.row(repositoryName, labelName)
+                                         .in(claimableTasks))
+                               .returning()
+                               .fetch();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            SyncTaskQueue.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Completes the claimed task of the specified repository and label, saving the specified sync dates and
+     * scheduling its next run. The task is only completed if it is still claimed by this replica.
+     *
+     * @param repositoryName the repository name to be used in the operation
+     * @param labelName the label name to be used in the operation
+     * @param syncDate the sync date to be used in the operation
+     * @param fullSyncDate the full sync date to be used in the operation
+     * @throws NullPointerException if the specified repository name, label name, sync date, or full sync date is
+     * {@code null}
+     */
+    void completeTask(String repositoryName, String labelName, OffsetDateTime syncDate, OffsetDateTime fullSyncDate) {
+        Objects.requireNonNull(repositoryName);
+
+        Objects.requireNonNull(labelName);
+
+        Objects.requireNonNull(syncDate);
+
+        Objects.requireNonNull(fullSyncDate);
+
+        Field<OffsetDateTime> nextRunDate = DSL.currentOffsetDateTime()
+                                               .plus(this.interval);
+
+        try {
+            this.context.update(Tables.REPOSITORY_LABEL_SYNC)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.SYNC_DATE, syncDate)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.FULL_SYNC_DATE, fullSyncDate)
+                        .set(Tables.REPOSITORY_LABEL_SYNC.NEXT_RUN_DATE, nextRunDate)
+                        .setNull(Tables.REPOSITORY_LABEL_SYNC.LEASE_OWNER)
+                        .setNull(Tables.REPOSITORY_LABEL_SYNC.LEASE_EXPIRATION_DATE)
+                        .where(Tables.REPOSITORY_LABEL_SYNC.REPOSITORY_NAME.eq(repositoryName))
+                        .and(Tables.REPOSITORY_LABEL_SYNC.LABEL_NAME.eq(labelName))
+                        .and(Tables.REPOSITORY_LABEL_SYNC.LEASE_OWNER.eq(this.owner))
+                        .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            SyncTaskQueue.LOGGER.error(message, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,410 @@
+package com.logankulinski.service;
+
+import org.springframework.stereotype.Service;
+import org.jooq.DSLContext;
+import java.util.concurrent.ExecutorService;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.Objects;
+import java.nio.charset.StandardCharsets;
+import javax.crypto.Mac;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import java.security.MessageDigest;
+import com.logankulinski.jooq.Tables;
+import org.jooq.exception.DataAccessException;
+import com.logankulinski.model.IssueEvent;
+import java.util.Set;
+import java.util.stream.Collectors;
+import com.logankulinski.model.Issue;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A service for handling GitHub webhook events in the Spring Projects First-timer Bot. An {@code issues} event of a
+ * tracked repository of the organization is saved as soon as it is received, and new issues are notified right away,
+ * so the scheduled polling only has to catch the events that were missed. Events of other repositories, and issues
+ * without a tracked label, are dropped. Notifications are never sent on the thread that receives the event: a burst
+ * of events queues at most one notification run behind the one in progress, and when the outbox is used, the saved
+ * issues are left to its delivery workers.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+@Service
+public final class WebhookService {
+    /**
+     * The {@link DSLContext} of this {@link WebhookService}.
+     */
+    private final DSLContext context;
+
+    /**
+     * The {@link IssueService} of this {@link WebhookService}.
+     */
+    private final IssueService issueService;
+
+    /**
+     * The {@link NotificationService} of this {@link WebhookService}.
+     */
+    private final NotificationService notificationService;
+
+    /**
+     * The {@link IssueArchiveService} of this {@link WebhookService}.
+     */
+    private final IssueArchiveService archiveService;
+
+    /**
+     * The {@link NotificationOutboxQueue} of this {@link WebhookService}.
+     */
+    private final NotificationOutboxQueue outboxQueue;
+
+    /**
+     * The {@link ExecutorService} used to send notifications in this {@link WebhookService}.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The key used to verify webhook signatures in this {@link WebhookService}, or {@code null} if webhooks are
+     * disabled.
+     */
+    private final SecretKeySpec key;
+
+    /**
+     * Whether a notification run of this {@link WebhookService} is queued and has not started yet.
+     */
+    private final AtomicBoolean notificationPending;
+
+    /**
+     * The login of the organization whose repositories are tracked.
+     */
+    private static final String ORGANIZATION_LOGIN;
+
+    /**
+     * The name of the algorithm used to sign webhook payloads.
+     */
+    private static final String ALGORITHM;
+
+    /**
+     * The prefix of webhook signatures.
+     */
+    private static final String SIGNATURE_PREFIX;
+
+    /**
+     * The {@link Logger} of the {@link WebhookService} class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        ORGANIZATION_LOGIN = "spring-projects";
+
+        ALGORITHM = "HmacSHA256";
+
+        SIGNATURE_PREFIX = "sha256=";
+
+        LOGGER = LoggerFactory.getLogger(WebhookService.class);
+    }
+
+    /**
+     * Constructs an instance of the {@link WebhookService} class. If the specified secret is blank, every webhook
+     * signature is rejected.
+     *
+     * @param context the {@link DSLContext} to be used in the operation
+     * @param issueService the {@link IssueService} to be used in the operation
+     * @param notificationService the {@link NotificationService} to be used in the operation
+     * @param archiveService the {@link IssueArchiveService} to be used in the operation
+     * @param outboxQueue the {@link NotificationOutboxQueue} to be used in the operation
+     * @param executor the {@link ExecutorService} to be used in the operation
+     * @param secret the secret to be used in the operation
+     * @throws NullPointerException if the specified {@link DSLContext}, {@link IssueService},
+     * {@link NotificationService}, {@link IssueArchiveService}, {@link NotificationOutboxQueue},
+     * {@link ExecutorService}, or secret is {@code null}
+     */
+    @Autowired
+    public WebhookService(DSLContext context, IssueService issueService, NotificationService notificationService,
+        IssueArchiveService archiveService, NotificationOutboxQueue outboxQueue,
+        @Qualifier("notificationExecutor") ExecutorService executor,
+        @Value("${github.webhook.secret:}") String secret) {
+        Objects.requireNonNull(context);
+
+        Objects.requireNonNull(issueService);
+
+        Objects.requireNonNull(notificationService);
+
+        Objects.requireNonNull(archiveService);
+
+        Objects.requireNonNull(outboxQueue);
+
+        Objects.requireNonNull(executor);
+
+        Objects.requireNonNull(secret);
+
+        this.context = context;
+
+        this.issueService = issueService;
+
+        this.notificationService = notificationService;
+
+        this.archiveService = archiveService;
+
+        this.outboxQueue = outboxQueue;
+
+        this.executor = executor;
+
+        this.notificationPending = new AtomicBoolean();
+
+        if (secret.isBlank()) {
+            this.key = null;
+        } else {
+            byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+
+            this.key = new SecretKeySpec(bytes, WebhookService.ALGORITHM);
+        }
+    }
+
+    /**
+     * Returns whether the specified signature is a valid signature of the specified payload.
+     *
+     * @param payload the payload to be used in the operation
+     * @param signature the signature to be used in the operation, or {@code null}
+     * @return {@code true} if the specified signature is a valid signature of the specified payload, {@code false}
+     * otherwise
+     * @throws NullPointerException if the specified payload is {@code null}
+     */
+    public boolean isValidSignature(byte[] payload, String signature) {
+        Objects.requireNonNull(payload);
+
+        if ((this.key == null) || (signature == null) || !signature.startsWith(WebhookService.SIGNATURE_PREFIX)) {
+            return false;
+        }
+
+        Mac mac;
+
+        try {
+            mac = Mac.getInstance(WebhookService.ALGORITHM);
+
+            mac.init(this.key);
+        } catch (GeneralSecurityException e) {
+            String message = e.getMessage();
+
+            WebhookService.LOGGER.error(message, e);
+
+            return false;
+        }
+
+        byte[] expectedDigest = mac.doFinal(payload);
+
+        String hexDigest = signature.substring(WebhookService.SIGNATURE_PREFIX.length());
+
+        byte[] actualDigest;
+
+        try {
+            actualDigest = HexFormat.of()
+                                    .parseHex(hexDigest);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        return MessageDigest.isEqual(expectedDigest, actualDigest);
+    }
+
+    /**
+     * Returns whether the specified {@link IssueEvent.EventRepository} belongs to the organization whose repositories
+     * are tracked, since a repository of another organization can have the same name as a tracked one.
+     *
+     * @param repository the {@link IssueEvent.EventRepository} to be used in the operation
+     * @return {@code true} if the specified {@link IssueEvent.EventRepository} belongs to the organization,
+     * {@code false} otherwise
+     * @throws NullPointerException if the specified {@link IssueEvent.EventRepository} is {@code null}
+     */
+    private static boolean isOrganizationRepository(IssueEvent.EventRepository repository) {
+        Objects.requireNonNull(repository);
+
+        String name = repository.name();
+
+        String fullName = repository.fullName();
+
+        if ((name == null) || (fullName == null)) {
+            return false;
+        }
+
+        String expectedFullName = "%s/%s".formatted(WebhookService.ORGANIZATION_LOGIN, name);
+
+        return fullName.equalsIgnoreCase(expectedFullName);
+    }
+
+    /**
+     * Returns whether the repository with the specified name is tracked.
+     *
+     * @param repositoryName the repository name to be used in the operation
+     * @return {@code true} if the repository is tracked, {@code false} otherwise, or {@code null} if it could not be
+     * determined
+     * @throws NullPointerException if the specified repository name is {@code null}
+     */
+    private Boolean isTrackedRepository(String repositoryName) {
+        Objects.requireNonNull(repositoryName);
+
+        try {
+            return this.context.fetchExists(Tables.REPOSITORY, Tables.REPOSITORY.NAME.eq(repositoryName));
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            WebhookService.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether any of the labels with the specified names is tracked.
+     *
+     * @param labelNames the label names to be used in the operation
+     * @return {@code true} if any of the labels is tracked, {@code false} otherwise, or {@code null} if it could not
+     * be determined
+     * @throws NullPointerException if the specified label names is {@code null}
+     */
+    private Boolean isTrackedLabel(Set<String> labelNames) {
+        Objects.requireNonNull(labelNames);
+
+        if (labelNames.isEmpty()) {
+            return false;
+        }
+
+        try {
+            return this.context.fetchExists(Tables.LABEL, Tables.LABEL.NAME.in(labelNames));
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            WebhookService.LOGGER.error(message, e);
+
+            return null;
+        }
+    }
+
+    /**
+     * Marks the {@link Issue} with the specified ID as closed and moves it to the issue archive.
+     *
+     * @param id the ID to be used in the operation
+     * @return {@code true} if the {@link Issue} was archived or was not saved, {@code false} otherwise
+     */
+    private boolean closeIssue(int id) {
+        try {
+            this.context.update(Tables.ISSUE)
+                        .set(Tables.ISSUE.STATE, "closed")
+                        .where(Tables.ISSUE.ID.eq(id))
+                        .execute();
+        } catch (DataAccessException e) {
+            String message = e.getMessage();
+
+            WebhookService.LOGGER.error(message, e);
+
+            return false;
+        }
+
+        Integer archivedCount = this.archiveService.archiveIssues(Tables.ISSUE.ID.eq(id));
+
+        return archivedCount != null;
+    }
+
+    /**
+     * Runs the notifications of the saved {@link Issue}s on the notification {@link ExecutorService}, unless a run is
+     * already queued, in which case it will pick the saved {@link Issue}s up. A run that is in progress does not
+     * count, since it may have read the new {@link Issue}s before they were saved. When the outbox is used, nothing
+     * is run, since the saved {@link Issue}s were added to it in the same transaction.
+     */
+    private void requestNotifications() {
+        if (this.outboxQueue.isEnabled() || !this.notificationPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        this.executor.execute(() -> {
+            this.notificationPending.set(false);
+
+            this.notificationService.sendPendingNotifications();
+        });
+    }
+
+    /**
+     * Handles the specified {@link IssueEvent}. A {@code labeled} or {@code edited} event of an open issue of a
+     * tracked repository of the organization that has a tracked label is saved, and the new issues are notified in
+     * the background. A {@code closed} event moves the issue to the issue archive. Any other event is ignored.
+     *
+     * @param event the {@link IssueEvent} to be used in the operation
+     * @return {@code true} if the {@link IssueEvent} was handled or ignored, {@code false} if it could not be handled
+     * @throws NullPointerException if the specified {@link IssueEvent} is {@code null}
+     */
+    public boolean handleIssueEvent(IssueEvent event) {
+        Objects.requireNonNull(event);
+
+        String action = event.action();
+
+        IssueEvent.EventIssue eventIssue = event.issue();
+
+        if ((action == null) || (eventIssue == null) || (event.repository() == null)) {
+            return true;
+        } else if (!WebhookService.isOrganizationRepository(event.repository())) {
+            String message = "Dropped an issues event of an untracked repository: %s".formatted(event.repository()
+                                                                                                     .fullName());
+
+            WebhookService.LOGGER.info(message);
+
+            return true;
+        }
+
+        String repositoryName = event.repository()
+                                     .name();
+
+        Boolean trackedRepository = this.isTrackedRepository(repositoryName);
+
+        if (trackedRepository == null) {
+            return false;
+        } else if (!trackedRepository) {
+            return true;
+        }
+
+        switch (action) {
+            case "labeled", "edited" -> {
+                if (!"open".equals(eventIssue.state()) || (eventIssue.labels() == null)) {
+                    return true;
+                }
+
+                Set<String> labelNames = eventIssue.labels()
+                                                   .stream()
+                                                   .map(IssueEvent.EventLabel::name)
+                                                   .collect(Collectors.toSet());
+
+                Boolean trackedLabel = this.isTrackedLabel(labelNames);
+
+                if (trackedLabel == null) {
+                    return false;
+                } else if (!trackedLabel) {
+                    return true;
+                }
+
+                Issue issue = eventIssue.toIssue();
+
+                SaveCounts saveCounts = this.issueService.saveIssues(List.of(issue));
+
+                String message = "Saved issue %d from webhook: %s".formatted(issue.id(), saveCounts);
+
+                WebhookService.LOGGER.info(message);
+
+                if (saveCounts.failed() > 0) {
+                    return false;
+                }
+
+                this.requestNotifications();
+
+                return true;
+            }
+            case "closed" -> {
+                return this.closeIssue(eventIssue.id());
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+}
\ No newline at end of file
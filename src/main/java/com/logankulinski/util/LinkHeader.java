@@ -0,0 +1,334 @@
+package com.logankulinski.util;
+
+/**
+ * A parsed {@code Link} header of a paginated GitHub API response in the Spring Projects First-timer Bot. The header
+ * is parsed in a single pass without regular expressions, and the URLs of its links are not copied until they are
+ * requested. A link can have several space-separated relations, and commas are only treated as separators between
+ * links outside of URLs and quoted parameter values.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ * @param first the {@code rel="first"} {@link Link} of this {@link LinkHeader}, or {@code null}
+ * @param prev the {@code rel="prev"} {@link Link} of this {@link LinkHeader}, or {@code null}
+ * @param next the {@code rel="next"} {@link Link} of this {@link LinkHeader}, or {@code null}
+ * @param last the {@code rel="last"} {@link Link} of this {@link LinkHeader}, or {@code null}
+ */
+public record LinkHeader(Link first, Link prev, Link next, Link last) {
+    /**
+     * The {@link LinkHeader} without any {@link Link}s.
+     */
+    public static final LinkHeader EMPTY;
+
+    /**
+     * The name of the parameter of the relation of a link.
+     */
+    private static final String REL_PARAMETER;
+
+    /**
+     * The name of the page query parameter.
+     */
+    private static final String PAGE_PARAMETER;
+
+    static {
+        EMPTY = new LinkHeader(null, null, null, null);
+
+        REL_PARAMETER = "rel=";
+
+        PAGE_PARAMETER = "page=";
+    }
+
+    /**
+     * A link of a {@link LinkHeader}. Its URL is only copied out of the header when it is requested.
+     */
+    public static final class Link {
+        /**
+         * The value of the header of this {@link Link}.
+         */
+        private final String value;
+
+        /**
+         * The index of the start of the URL of this {@link Link}, inclusive.
+         */
+        private final int start;
+
+        /**
+         * The index of the end of the URL of this {@link Link}, exclusive.
+         */
+        private final int end;
+
+        /**
+         * The value of the page query parameter of this {@link Link}, or {@code 0} if it has none.
+         */
+        private final int page;
+
+        /**
+         * Constructs an instance of the {@link Link} class.
+         *
+         * @param value the value to be used in the operation
+         * @param start the index of the start of the URL, inclusive
+         * @param end the index of the end of the URL, exclusive
+         * @param page the page to be used in the operation
+         */
+        private Link(String value, int start, int end, int page) {
+            this.value = value;
+
+            this.start = start;
+
+            this.end = end;
+
+            this.page = page;
+        }
+
+        /**
+         * Returns the value of the page query parameter of this {@link Link}, or {@code 0} if it has none.
+         *
+         * @return the value of the page query parameter of this {@link Link}, or {@code 0} if it has none
+         */
+        public int page() {
+            return this.page;
+        }
+
+        /**
+         * Returns the URL of this {@link Link}.
+         *
+         * @return the URL of this {@link Link}
+         */
+        public String url() {
+            return this.value.substring(this.start, this.end);
+        }
+
+        @Override
+        public String toString() {
+            return "Link[page=%d, url=%s]".formatted(this.page, this.url());
+        }
+    }
+
+    /**
+     * Returns the value of the page query parameter of the URL between the specified indices of the specified value,
+     * or {@code 0} if it has none.
+     *
+     * @param value the value to be used in the operation
+     * @param start the index of the start of the URL, inclusive
+     * @param end the index of the end of the URL, exclusive
+     * @return the value of the page query parameter of the URL, or {@code 0} if it has none
+     */
+    private static int getPage(String value, int start, int end) {
+        int parameterLength = LinkHeader.PAGE_PARAMETER.length();
+
+        for (int index = start + 1; index <= end - parameterLength; index++) {
+            char previous = value.charAt(index - 1);
+
+            if (((previous != '?') && (previous != '&'))
+                || !value.startsWith(LinkHeader.PAGE_PARAMETER, index)) {
+                continue;
+            }
+
+            int page = 0;
+
+            for (int digitIndex = index + parameterLength; digitIndex < end; digitIndex++) {
+                char character = value.charAt(digitIndex);
+
+                if ((character < '0') || (character > '9')) {
+                    break;
+                }
+
+                page = (page * 10) + (character - '0');
+            }
+
+            return page;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Returns the {@link Link} of the URL between the specified indices of the specified value.
+     *
+     * @param value the value to be used in the operation
+     * @param start the index of the start of the URL, inclusive
+     * @param end the index of the end of the URL, exclusive
+     * @return the {@link Link} of the URL between the specified indices of the specified value
+     */
+    private static Link getLink(String value, int start, int end) {
+        int page = LinkHeader.getPage(value, start, end);
+
+        return new Link(value, start, end, page);
+    }
+
+    /**
+     * Returns the index of the comma that ends the link whose parameters start at the specified index of the specified
+     * value, or the length of the value if it is the last link. Commas in quoted parameter values are skipped.
+     *
+     * @param value the value to be used in the operation
+     * @param start the index of the start of the link parameters, inclusive
+     * @return the index of the comma that ends the link, or the length of the specified value
+     */
+    private static int getLinkEnd(String value, int start) {
+        int length = value.length();
+
+        boolean quoted = false;
+
+        for (int index = start; index < length; index++) {
+            char character = value.charAt(index);
+
+            if (character == '"') {
+                quoted = !quoted;
+            } else if ((character == ',') && !quoted) {
+                return index;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Returns the index of the start of the relation of the link parameters between the specified indices of the
+     * specified value, or {@code -1} if they have none.
+     *
+     * @param value the value to be used in the operation
+     * @param start the index of the start of the link parameters, inclusive
+     * @param end the index of the end of the link parameters, exclusive
+     * @return the index of the start of the relation, or {@code -1} if the link parameters have none
+     */
+    private static int getRelStart(String value, int start, int end) {
+        int parameterLength = LinkHeader.REL_PARAMETER.length();
+
+        for (int index = start; index <= end - parameterLength; index++) {
+            if (!value.startsWith(LinkHeader.REL_PARAMETER, index)) {
+                continue;
+            }
+
+            int relStart = index + parameterLength;
+
+            if ((relStart < end) && (value.charAt(relStart) == '"')) {
+                relStart++;
+            }
+
+            return relStart;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the end of the relation that starts at the specified index of the specified value. A quoted
+     * relation ends at its closing quote, and any other relation ends at a semicolon, a space, or the end of the link.
+     *
+     * @param value the value to be used in the operation
+     * @param relStart the index of the start of the relation
+     * @param end the index of the end of the link, exclusive
+     * @return the index of the end of the relation, exclusive
+     */
+    private static int getRelEnd(String value, int relStart, int end) {
+        boolean quoted = (relStart > 0) && (value.charAt(relStart - 1) == '"');
+
+        for (int index = relStart; index < end; index++) {
+            char character = value.charAt(index);
+
+            if ((character == '"') || (!quoted && ((character == ';') || (character == ' ')))) {
+                return index;
+            }
+        }
+
+        return end;
+    }
+
+    /**
+     * Returns whether the relation between the specified indices of the specified value contains the specified
+     * relation as one of its space-separated values.
+     *
+     * @param value the value to be used in the operation
+     * @param relStart the index of the start of the relation, inclusive
+     * @param relEnd the index of the end of the relation, exclusive
+     * @param rel the relation to be used in the operation
+     * @return {@code true} if the relation contains the specified relation, {@code false} otherwise
+     */
+    private static boolean hasRel(String value, int relStart, int relEnd, String rel) {
+        int index = relStart;
+
+        while (index < relEnd) {
+            int tokenEnd = value.indexOf(' ', index);
+
+            if ((tokenEnd == -1) || (tokenEnd > relEnd)) {
+                tokenEnd = relEnd;
+            }
+
+            if (((tokenEnd - index) == rel.length()) && value.startsWith(rel, index)) {
+                return true;
+            }
+
+            index = tokenEnd + 1;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the {@link LinkHeader} of the specified value of a {@code Link} header.
+     *
+     * @param value the value to be used in the operation, or {@code null}
+     * @return the {@link LinkHeader} of the specified value, or {@link LinkHeader#EMPTY} if it is {@code null}
+     */
+    public static LinkHeader parse(String value) {
+        if (value == null) {
+            return LinkHeader.EMPTY;
+        }
+
+        Link first = null;
+
+        Link prev = null;
+
+        Link next = null;
+
+        Link last = null;
+
+        int length = value.length();
+
+        int index = 0;
+
+        while (index < length) {
+            int urlStart = value.indexOf('<', index);
+
+            if (urlStart == -1) {
+                break;
+            }
+
+            int urlEnd = value.indexOf('>', urlStart + 1);
+
+            if (urlEnd == -1) {
+                break;
+            }
+
+            int linkEnd = LinkHeader.getLinkEnd(value, urlEnd + 1);
+
+            index = linkEnd + 1;
+
+            int relStart = LinkHeader.getRelStart(value, urlEnd + 1, linkEnd);
+
+            if (relStart == -1) {
+                continue;
+            }
+
+            int relEnd = LinkHeader.getRelEnd(value, relStart, linkEnd);
+
+            Link link = LinkHeader.getLink(value, urlStart + 1, urlEnd);
+
+            if (LinkHeader.hasRel(value, relStart, relEnd, "first")) {
+                first = link;
+            }
+
+            if (LinkHeader.hasRel(value, relStart, relEnd, "prev")) {
+                prev = link;
+            }
+
+            if (LinkHeader.hasRel(value, relStart, relEnd, "next")) {
+                next = link;
+            }
+
+            if (LinkHeader.hasRel(value, relStart, relEnd, "last")) {
+                last = link;
+            }
+        }
+
+        return new LinkHeader(first, prev, next, last);
+    }
+}
\ No newline at end of file
@@ -3,8 +3,10 @@ package com.logankulinski.util;
 import org.springframework.stereotype.Component;
 import org.springframework.http.HttpHeaders;
 import java.util.Objects;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
+import java.util.List;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * A set of utilities used in the Spring Projects First-timer Bot.
@@ -22,26 +24,68 @@ public final class Utilities {
     public Integer getNextPage(HttpHeaders httpHeaders) {
         Objects.requireNonNull(httpHeaders);
 
-        String headerName = "Link";
+        String link = httpHeaders.getFirst(HttpHeaders.LINK);
 
-        String link = httpHeaders.getFirst(headerName);
+        LinkHeader.Link next = LinkHeader.parse(link)
+                                         .next();
 
-        if (link == null) {
-            return null;
+        return (next == null) ? null : next.page();
+    }
+
+    /**
+     * Returns the last request page using the specified {@link HttpHeaders}.
+     *
+     * @param httpHeaders the {@link HttpHeaders} to be used in the operation
+     * @return the last request page using the specified {@link HttpHeaders}
+     */
+    public Integer getLastPage(HttpHeaders httpHeaders) {
+        Objects.requireNonNull(httpHeaders);
+
+        String link = httpHeaders.getFirst(HttpHeaders.LINK);
+
+        LinkHeader.Link last = LinkHeader.parse(link)
+                                         .last();
+
+        return (last == null) ? null : last.page();
+    }
+
+    /**
+     * Returns the specified {@link Collection} split into chunks of at most the specified size, in iteration order.
+     *
+     * @param collection the {@link Collection} to be used in the operation
+     * @param size the size to be used in the operation
+     * @param <T> the type of the elements of the specified {@link Collection}
+     * @return the specified {@link Collection} split into chunks of at most the specified size
+     * @throws NullPointerException if the specified {@link Collection} is {@code null}
+     * @throws IllegalArgumentException if the specified size is not positive
+     */
+    public <T> List<List<T>> getChunks(Collection<T> collection, int size) {
+        Objects.requireNonNull(collection);
+
+        if (size <= 0) {
+            String message = "The size must be positive";
+
+            throw new IllegalArgumentException(message);
         }
 
-        String regex = "^.*page=(\\d+)>; rel=\"next\".*$";
+        List<List<T>> chunks = new ArrayList<>();
 
-        Pattern pattern = Pattern.compile(regex);
+        List<T> chunk = new ArrayList<>(size);
 
-        Matcher matcher = pattern.matcher(link);
+        for (T element : collection) {
+            chunk.add(element);
 
-        if (!matcher.matches()) {
-            return null;
+            if (chunk.size() == size) {
+                chunks.add(Collections.unmodifiableList(chunk));
+
+                chunk = new ArrayList<>(size);
+            }
         }
 
-        String nextPageString = matcher.group(1);
+        if (!chunk.isEmpty()) {
+            chunks.add(Collections.unmodifiableList(chunk));
+        }
 
-        return Integer.parseInt(nextPageString);
+        return Collections.unmodifiableList(chunks);
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+CREATE TABLE IF NOT EXISTS repository (
+    id INTEGER PRIMARY KEY,
+    name VARCHAR(256) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS label (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(256)
+);
+
+CREATE TABLE IF NOT EXISTS issue (
+    id INTEGER PRIMARY KEY,
+    title VARCHAR(256) NOT NULL,
+    url VARCHAR(256) NOT NULL,
+    notification_date TIMESTAMP(6)
+);
+
+ALTER TABLE issue ADD COLUMN IF NOT EXISTS state VARCHAR(32);
+
+ALTER TABLE issue ADD COLUMN IF NOT EXISTS repository_name VARCHAR(256);
+
+ALTER TABLE issue ADD COLUMN IF NOT EXISTS last_seen_date TIMESTAMP(6) WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS issue_repository_name_last_seen_date_idx ON issue (repository_name, last_seen_date);
+
+CREATE TABLE IF NOT EXISTS issue_archive (
+    id INTEGER PRIMARY KEY,
+    title VARCHAR(256) NOT NULL,
+    url VARCHAR(256) NOT NULL,
+    notification_date TIMESTAMP(6),
+    state VARCHAR(32),
+    repository_name VARCHAR(256),
+    last_seen_date TIMESTAMP(6) WITH TIME ZONE,
+    archive_date TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS repository_label_sync (
+    repository_name VARCHAR(256) NOT NULL,
+    label_name VARCHAR(256) NOT NULL,
+    sync_date TIMESTAMP(6) WITH TIME ZONE,
+    full_sync_date TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (repository_name, label_name)
+);
+
+ALTER TABLE repository_label_sync ADD COLUMN IF NOT EXISTS next_run_date TIMESTAMP(6) WITH TIME ZONE;
+
+ALTER TABLE repository_label_sync ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(256);
+
+ALTER TABLE repository_label_sync ADD COLUMN IF NOT EXISTS lease_expiration_date TIMESTAMP(6) WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS repository_label_sync_next_run_date_idx ON repository_label_sync (next_run_date);
+
+
+CREATE TABLE IF NOT EXISTS job_lease (
+    job_name VARCHAR(64) PRIMARY KEY,
+    owner VARCHAR(256) NOT NULL,
+    expiration_date TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+ALTER TABLE job_lease ADD COLUMN IF NOT EXISTS last_run_date TIMESTAMP(6) WITH TIME ZONE;
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    issue_id INTEGER PRIMARY KEY,
+    attempt_count INTEGER NOT NULL,
+    next_attempt_date TIMESTAMP(6) WITH TIME ZONE,
+    lease_owner VARCHAR(256),
+    lease_expiration_date TIMESTAMP(6) WITH TIME ZONE,
+    creation_date TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS notification_outbox_next_attempt_date_idx ON notification_outbox (next_attempt_date);
@@ -0,0 +1,236 @@
+package com.logankulinski.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import java.util.Set;
+import com.logankulinski.model.Issue;
+import org.springframework.core.ResolvableType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.ArrayList;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import org.springframework.http.MediaType;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import com.logankulinski.model.Repository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.springframework.core.codec.DecodingException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.logankulinski.model.SearchResult;
+
+/**
+ * The tests of the {@link GitHubPageDecoder} class.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+public class GitHubPageDecoderTests {
+    /**
+     * The {@link GitHubPageDecoder} of this {@link GitHubPageDecoderTests}.
+     */
+    private final GitHubPageDecoder decoder;
+
+    /**
+     * The {@link DefaultDataBufferFactory} of this {@link GitHubPageDecoderTests}.
+     */
+    private final DefaultDataBufferFactory bufferFactory;
+
+    /**
+     * The {@link ResolvableType} of a {@link Set} of {@link Issue}s.
+     */
+    private static final ResolvableType ISSUES_TYPE;
+
+    /**
+     * The page of {@link Issue}s that is decoded by the tests.
+     */
+    private static final String ISSUES_PAGE;
+
+    static {
+        ISSUES_TYPE = ResolvableType.forClassWithGenerics(Set.class, Issue.class);
+
+        ISSUES_PAGE = """
+            [
+              {
+                "id": 1,
+                "title": "Fix \\"typo\\" in [docs], {again}",
+                "html_url": "https://github.com/spring-projects/spring-boot/issues/1",
+                "repository_url": "https://api.github.com/repos/spring-projects/spring-boot",
+                "state": "open",
+                "user": {"id": 7, "login": "octocat", "state": "closed", "title": {"id": 8}},
+                "labels": [{"id": 9, "name": "status: first-timers-only"}, {"id": 10, "name": "type: bug"}],
+                "pull_request": null,
+                "body": "A long body with nested [\\"brackets\\"] and {braces}"
+              },
+              {
+                "pull_request": {"url": "https://api.github.com/repos/spring-projects/spring-boot/pulls/2"},
+                "id": 2,
+                "title": "Second issue",
+                "html_url": "https://github.com/spring-projects/spring-boot/issues/2",
+                "repository_url": "https://api.github.com/repos/spring-projects/spring-boot",
+                "state": "open"
+              }
+            ]""";
+    }
+
+    /**
+     * Constructs an instance of the {@link GitHubPageDecoderTests} class.
+     */
+    public GitHubPageDecoderTests() {
+        ObjectMapper mapper = new ObjectMapper();
+
+        this.decoder = new GitHubPageDecoder(mapper);
+
+        this.bufferFactory = new DefaultDataBufferFactory();
+    }
+
+    /**
+     * Returns the expected {@link Issue}s of the page that is decoded by the tests.
+     *
+     * @return the expected {@link Issue}s of the page that is decoded by the tests
+     */
+    private static Set<Issue> getExpectedIssues() {
+        String repositoryUrl = "https://api.github.com/repos/spring-projects/spring-boot";
+
+        Issue issue0 = new Issue(1, "Fix \"typo\" in [docs], {again}",
+            "https://github.com/spring-projects/spring-boot/issues/1", repositoryUrl, "open");
+
+        Issue issue1 = new Issue(2, "Second issue", "https://github.com/spring-projects/spring-boot/issues/2",
+            repositoryUrl, "open");
+
+        return Set.of(issue0, issue1);
+    }
+
+    /**
+     * Returns the {@link DataBuffer}s of the specified JSON, split every specified number of bytes.
+     *
+     * @param json the JSON to be used in the operation
+     * @param chunkSize the chunk size to be used in the operation
+     * @return the {@link DataBuffer}s of the specified JSON
+     */
+    private Flux<DataBuffer> getBuffers(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        List<DataBuffer> buffers = new ArrayList<>();
+
+        for (int index = 0; index < bytes.length; index += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - index);
+
+            DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+
+            buffer.write(bytes, index, length);
+
+            buffers.add(buffer);
+        }
+
+        return Flux.fromIterable(buffers);
+    }
+
+    /**
+     * Decodes the specified JSON into a {@link Set} of the specified {@link ResolvableType}, split every specified
+     * number of bytes.
+     *
+     * @param json the JSON to be used in the operation
+     * @param elementType the {@link ResolvableType} to be used in the operation
+     * @param chunkSize the chunk size to be used in the operation
+     * @return the decoded {@link Set}
+     */
+    private Set<?> decode(String json, ResolvableType elementType, int chunkSize) {
+        Flux<DataBuffer> buffers = this.getBuffers(json, chunkSize);
+
+        return this.decoder.decodeToMono(buffers, elementType, MediaType.APPLICATION_JSON, Map.of())
+                           .block();
+    }
+
+    @Test
+    public void decodeSkipsNestedObjectsAndArrays() {
+        Set<?> issues = this.decode(GitHubPageDecoderTests.ISSUES_PAGE, GitHubPageDecoderTests.ISSUES_TYPE,
+            Integer.MAX_VALUE);
+
+        assertEquals(GitHubPageDecoderTests.getExpectedIssues(), issues);
+    }
+
+    @Test
+    public void decodeDropsKeptFieldWithObjectOrArrayValue() {
+        String json = """
+            [
+              {"id": 1, "title": {"text": "Title"}, "state": ["open"], "html_url": "https://github.com/1"},
+              {"id": 2, "title": [], "state": {}, "html_url": "https://github.com/2"}
+            ]""";
+
+        Set<?> issues = this.decode(json, GitHubPageDecoderTests.ISSUES_TYPE, Integer.MAX_VALUE);
+
+        Issue issue0 = new Issue(1, null, "https://github.com/1", null, null);
+
+        Issue issue1 = new Issue(2, null, "https://github.com/2", null, null);
+
+        assertEquals(Set.of(issue0, issue1), issues);
+    }
+
+    @Test
+    public void decodeAcrossBufferBoundaries() {
+        Set<Issue> expectedIssues = GitHubPageDecoderTests.getExpectedIssues();
+
+        int length = GitHubPageDecoderTests.ISSUES_PAGE.getBytes(StandardCharsets.UTF_8).length;
+
+        for (int chunkSize = 1; chunkSize <= length; chunkSize++) {
+            Set<?> issues = this.decode(GitHubPageDecoderTests.ISSUES_PAGE, GitHubPageDecoderTests.ISSUES_TYPE,
+                chunkSize);
+
+            assertEquals(expectedIssues, issues, "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void decodeRepositories() {
+        String json = """
+            [{"id": 1, "name": "spring-boot", "owner": {"id": 2, "name": "spring-projects"}, "topics": ["java"]}]""";
+
+        ResolvableType elementType = ResolvableType.forClassWithGenerics(Set.class, Repository.class);
+
+        Set<?> repositories = this.decode(json, elementType, 3);
+
+        assertEquals(Set.of(new Repository(1, "spring-boot")), repositories);
+    }
+
+    @Test
+    public void decodeEmptyPage() {
+        Set<?> issues = this.decode("[]", GitHubPageDecoderTests.ISSUES_TYPE, Integer.MAX_VALUE);
+
+        assertTrue(issues.isEmpty());
+
+        Set<?> emptyIssues = this.decode(" [ ] ", GitHubPageDecoderTests.ISSUES_TYPE, 1);
+
+        assertTrue(emptyIssues.isEmpty());
+    }
+
+    @Test
+    public void decodeMalformedJsonFails() {
+        List<String> jsons = List.of("[{\"id\": 1,, \"title\": \"Title\"}]", "[{\"id\": 1, \"title\": \"Title\"}",
+            "[{\"id\": \"one\"}]", "{\"items\": [{\"id\": 1}]}");
+
+        for (String json : jsons) {
+            assertThrows(DecodingException.class,
+                () -> this.decode(json, GitHubPageDecoderTests.ISSUES_TYPE, Integer.MAX_VALUE), json);
+
+            assertThrows(DecodingException.class, () -> this.decode(json, GitHubPageDecoderTests.ISSUES_TYPE, 2),
+                json);
+        }
+    }
+
+    @Test
+    public void canDecodeOnlyTopLevelArrays() {
+        assertTrue(this.decoder.canDecode(GitHubPageDecoderTests.ISSUES_TYPE, MediaType.APPLICATION_JSON));
+
+        ResolvableType searchType = ResolvableType.forClassWithGenerics(SearchResult.class, Issue.class);
+
+        assertFalse(this.decoder.canDecode(searchType, MediaType.APPLICATION_JSON));
+
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, Issue.class);
+
+        assertFalse(this.decoder.canDecode(listType, MediaType.APPLICATION_JSON));
+
+        assertFalse(this.decoder.canDecode(GitHubPageDecoderTests.ISSUES_TYPE, MediaType.TEXT_PLAIN));
+    }
+}
\ No newline at end of file
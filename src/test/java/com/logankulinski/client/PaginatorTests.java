@@ -0,0 +1,213 @@
+package com.logankulinski.client;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The tests of the {@link Paginator} class.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+public class PaginatorTests {
+    /**
+     * The {@link ExecutorService} of this {@link PaginatorTests}.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The {@link Paginator} of this {@link PaginatorTests}.
+     */
+    private final Paginator paginator;
+
+    /**
+     * Constructs an instance of the {@link PaginatorTests} class.
+     */
+    public PaginatorTests() {
+        this.executor = Executors.newFixedThreadPool(4);
+
+        int window = 4;
+
+        this.paginator = new Paginator(this.executor, window, ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Returns the {@link ResponseEntity} of the specified page with the specified {@code Link} header.
+     *
+     * @param page the page to be used in the operation
+     * @param link the value of the {@code Link} header to be used in the operation, or {@code null}
+     * @return the {@link ResponseEntity} of the specified page
+     */
+    private static ResponseEntity<Integer> getResponseEntity(int page, String link) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+
+        if (link != null) {
+            builder.header(HttpHeaders.LINK, link);
+        }
+
+        return builder.body(page);
+    }
+
+    @Test
+    public void paginateDoesNotRequestUntilNext() throws Exception {
+        AtomicInteger requestCount = new AtomicInteger();
+
+        Paginator.PageRequest<Integer> request = page -> {
+            requestCount.incrementAndGet();
+
+            return PaginatorTests.getResponseEntity(page, null);
+        };
+
+        try (Paginator.Pages<Integer> pages = this.paginator.paginate(request)) {
+            assertTrue(pages.hasNext());
+
+            assertEquals(0, requestCount.get());
+
+            assertEquals(1, pages.next()
+                                 .getBody());
+
+            assertEquals(1, requestCount.get());
+
+            assertFalse(pages.hasNext());
+        }
+    }
+
+    @Test
+    public void fetchReturnsPrefetchedPagesInOrder() throws Exception {
+        String link = "<https://api.github.com/issues?page=2>; rel=\"next\", "
+            + "<https://api.github.com/issues?page=10>; rel=\"last\"";
+
+        Paginator.PageRequest<Integer> request = page -> {
+            Thread.sleep((11 - page) * 5L);
+
+            return PaginatorTests.getResponseEntity(page, (page == 1) ? link : null);
+        };
+
+        List<Integer> pages = new ArrayList<>();
+
+        boolean fetched = this.paginator.fetch(request, responseEntity -> pages.add(responseEntity.getBody()));
+
+        assertTrue(fetched);
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), pages);
+    }
+
+    @Test
+    public void fetchFollowsNextLinks() throws Exception {
+        Paginator.PageRequest<Integer> request = page -> {
+            String link = (page < 3) ? "<https://api.github.com/issues?page=%d>; rel=\"next\"".formatted(page + 1)
+                : null;
+
+            return PaginatorTests.getResponseEntity(page, link);
+        };
+
+        List<Integer> pages = new ArrayList<>();
+
+        boolean fetched = this.paginator.fetch(request, responseEntity -> pages.add(responseEntity.getBody()));
+
+        assertTrue(fetched);
+
+        assertEquals(List.of(1, 2, 3), pages);
+    }
+
+    @Test
+    public void fetchStopsAtNextLinkWithoutPage() throws Exception {
+        AtomicInteger requestCount = new AtomicInteger();
+
+        Paginator.PageRequest<Integer> request = page -> {
+            requestCount.incrementAndGet();
+
+            return PaginatorTests.getResponseEntity(page, "<https://api.github.com/issues?after=abc>; rel=\"next\"");
+        };
+
+        boolean fetched = this.paginator.fetch(request, responseEntity -> true);
+
+        assertTrue(fetched);
+
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    public void closeCancelsPagesInFlight() throws Exception {
+        String link = "<https://api.github.com/issues?page=2>; rel=\"next\", "
+            + "<https://api.github.com/issues?page=100>; rel=\"last\"";
+
+        CountDownLatch startedLatch = new CountDownLatch(4);
+
+        CountDownLatch interruptedLatch = new CountDownLatch(4);
+
+        AtomicInteger requestCount = new AtomicInteger();
+
+        Paginator.PageRequest<Integer> request = page -> {
+            requestCount.incrementAndGet();
+
+            if (page == 1) {
+                return PaginatorTests.getResponseEntity(page, link);
+            }
+
+            startedLatch.countDown();
+
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1L));
+            } catch (InterruptedException e) {
+                interruptedLatch.countDown();
+
+                throw e;
+            }
+
+            return PaginatorTests.getResponseEntity(page, null);
+        };
+
+        Paginator.Pages<Integer> pages = this.paginator.paginate(request);
+
+        assertEquals(1, pages.next()
+                             .getBody());
+
+        assertTrue(startedLatch.await(10L, TimeUnit.SECONDS));
+
+        pages.close();
+
+        assertFalse(pages.hasNext());
+
+        assertTrue(interruptedLatch.await(10L, TimeUnit.SECONDS));
+
+        assertEquals(5, requestCount.get());
+    }
+
+    @Test
+    public void fetchCancelsPagesWhenConsumerRejects() throws Exception {
+        String link = "<https://api.github.com/issues?page=2>; rel=\"next\", "
+            + "<https://api.github.com/issues?page=100>; rel=\"last\"";
+
+        AtomicInteger requestCount = new AtomicInteger();
+
+        Paginator.PageRequest<Integer> request = page -> {
+            requestCount.incrementAndGet();
+
+            return PaginatorTests.getResponseEntity(page, (page == 1) ? link : null);
+        };
+
+        boolean fetched = this.paginator.fetch(request, responseEntity -> responseEntity.getBody() < 2);
+
+        assertFalse(fetched);
+
+        assertTrue(requestCount.get() <= 6);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.logankulinski.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The tests of the {@link LinkHeader} class.
+ *
+ * @author Logan Kulinski, rashes_lineage02@icloud.com
+ */
+public class LinkHeaderTests {
+    @Test
+    public void parseGitHubHeader() {
+        String value = "<https://api.github.com/repositories/1/issues?page=2>; rel=\"next\", "
+            + "<https://api.github.com/repositories/1/issues?page=5>; rel=\"last\"";
+
+        LinkHeader header = LinkHeader.parse(value);
+
+        assertNull(header.first());
+
+        assertNull(header.prev());
+
+        assertEquals(2, header.next()
+                              .page());
+
+        assertEquals("https://api.github.com/repositories/1/issues?page=2", header.next()
+                                                                                 .url());
+
+        assertEquals(5, header.last()
+                              .page());
+    }
+
+    @Test
+    public void parseQuotedRelWithSeveralValues() {
+        String value = "<https://api.github.com/issues?page=1>; rel=\"prev first\", "
+            + "<https://api.github.com/issues?page=3>; rel=\"next last\"";
+
+        LinkHeader header = LinkHeader.parse(value);
+
+        assertEquals(1, header.first()
+                              .page());
+
+        assertEquals(1, header.prev()
+                              .page());
+
+        assertEquals(3, header.next()
+                              .page());
+
+        assertEquals(3, header.last()
+                              .page());
+    }
+
+    @Test
+    public void parseRelWithSimilarValues() {
+        String value = "<https://api.github.com/issues?page=2>; rel=\"nextpage\", "
+            + "<https://api.github.com/issues?page=3>; rel=\"last-page lasting\"";
+
+        LinkHeader header = LinkHeader.parse(value);
+
+        assertNull(header.next());
+
+        assertNull(header.last());
+    }
+
+    @Test
+    public void parseUnquotedRel() {
+        String value = "<https://api.github.com/issues?page=2>; rel=next; title=\"Next\", "
+            + "<https://api.github.com/issues?page=4>;rel=last";
+
+        LinkHeader header = LinkHeader.parse(value);
+
+        assertEquals(2, header.next()
+                              .page());
+
+        assertEquals(4, header.last()
+                              .page());
+    }
+
+    @Test
+    public void parseCommasAndWhitespaceInsideUrls() {
+        String value = "<https://api.github.com/search/issues?q=label:a,b%20c&page=2>; rel=\"next\", "
+            + "< https://api.github.com/search/issues?q=x, y&page=7 >; title=\"Last, really\"; rel=\"last\"";
+
+        LinkHeader header = LinkHeader.parse(value);
+
+        assertEquals("https://api.github.com/search/issues?q=label:a,b%20c&page=2", header.next()
+                                                                                         .url());
+
+        assertEquals(2, header.next()
+                              .page());
+
+        assertEquals(" https://api.github.com/search/issues?q=x, y&page=7 ", header.last()
+                                                                                  .url());
+
+        assertEquals(7, header.last()
+                              .page());
+    }
+
+    @Test
+    public void parseLinkWithoutPage() {
+        String value = "<https://api.github.com/issues?after=Y3Vyc29y>; rel=\"next\"";
+
+        LinkHeader header = LinkHeader.parse(value);
+
+        assertNotNull(header.next());
+
+        assertEquals(0, header.next()
+                              .page());
+
+        assertNull(header.last());
+    }
+
+    @Test
+    public void parsePerPageBeforePage() {
+        String value = "<https://api.github.com/issues?per_page=100&page=3>; rel=\"next\", "
+            + "<https://api.github.com/issues?per_page=100>; rel=\"last\"";
+
+        LinkHeader header = LinkHeader.parse(value);
+
+        assertEquals(3, header.next()
+                              .page());
+
+        assertEquals(0, header.last()
+                              .page());
+    }
+
+    @Test
+    public void parseEmptyOrNullHeader() {
+        assertSame(LinkHeader.EMPTY, LinkHeader.parse(null));
+
+        assertEquals(LinkHeader.EMPTY, LinkHeader.parse(""));
+
+        assertEquals(LinkHeader.EMPTY, LinkHeader.parse("   "));
+
+        assertEquals(LinkHeader.EMPTY, LinkHeader.parse("<https://api.github.com/issues?page=2>"));
+
+        assertEquals(LinkHeader.EMPTY, LinkHeader.parse("<https://api.github.com/issues?page=2; rel=\"next\""));
+    }
+}
\ No newline at end of file